@@ -70,6 +70,7 @@ class GuidanceEstimatedArrivalFragment : Fragment(), GuidanceEstimatedArrivalVie
         if (viewPresenter == null) {
             viewPresenter = GuidanceEstimatedArrivalViewPresenter(SingletonHelper.navigationManager).apply {
                 addListener(this@GuidanceEstimatedArrivalFragment)
+                unitSystem = Util.getLocaleUnit()
                 resume()
             }
         }
@@ -75,6 +75,7 @@ class GuidanceManeuverFragment : Fragment(), GuidanceManeuverListener {
         if (presenter == null) {
             presenter = GuidanceManeuverPresenter(view.context, SingletonHelper.navigationManager, route).apply {
                 addListener(this@GuidanceManeuverFragment)
+                unitSystem = Util.getLocaleUnit()
                 resume()
             }
         }
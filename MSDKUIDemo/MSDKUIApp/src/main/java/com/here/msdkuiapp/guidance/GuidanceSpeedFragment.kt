@@ -80,6 +80,7 @@ class GuidanceSpeedFragment : Fragment(), GuidanceSpeedListener {
             presenter = GuidanceSpeedPresenter(SingletonHelper.navigationManager ?: return,
                     appPositioningManager?.sdkPositioningManager ?: return).apply {
                 addListener(this@GuidanceSpeedFragment)
+                unitSystem = guidance_current_speed.unitSystem
                 resume()
             }
         }
@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.benchmark;
+
+import android.content.Context;
+
+import com.here.android.mpa.common.GeoCoordinate;
+import com.here.android.mpa.common.RoadElement;
+import com.here.android.mpa.ftcr.FTCRManeuver;
+import com.here.android.mpa.routing.Maneuver;
+import com.here.android.mpa.routing.Route;
+import com.here.android.mpa.routing.RouteElement;
+import com.here.android.mpa.routing.RouteElements;
+import com.here.msdkui.R;
+import com.here.msdkui.guidance.RouteManeuverIndex;
+import com.here.msdkui.guidance.base.BaseGuidancePresenter;
+
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.mockito.Answers.RETURNS_DEFAULTS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Fixtures shared by the benchmarks.
+ * <p>The HERE SDK objects have no public constructors and are backed by native code, so they are
+ * stubbed with Mockito. All mocks are stub only, they don't record invocations and therefore don't
+ * allocate memory when they are called. The remaining cost of a stubbed call is measured by the
+ * {@code baseline} benchmarks, which only read the stubbed values.</p>
+ * <p>All fixtures are created from a fixed seed, so every run measures the same data.</p>
+ */
+final class BenchmarkFixtures {
+
+    /**
+     * Number of elements and maneuvers of synthetic routes.
+     */
+    static final int ROUTE_SIZE = 10_000;
+
+    /**
+     * Number of inputs benchmarks cycle through, a power of two.
+     */
+    static final int INPUT_COUNT = 1024;
+
+    private static final long SEED = 42;
+
+    /**
+     * The street lookup looks ahead until the maneuver distances add up to a threshold, zero
+     * distances would make it walk to the end of the route.
+     */
+    private static final int MIN_MANEUVER_DISTANCE = 50;
+
+    private static final String[] ROAD_NAMES = {"Invalidenstraße", "Chausseestraße", "Friedrichstraße",
+            "Unter den Linden", "Karl-Marx-Allee", "Torstraße", "Alexanderplatz", "Stadtautobahn"};
+    private static final String[] ROAD_NUMBERS = {"", "", "", "B96", "B1", "A100"};
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Creates a context resolving the strings used by the benchmarked code with their English
+     * values.
+     */
+    static Context createContext() {
+        final Map<Integer, String> strings = new HashMap<>();
+        strings.put(R.string.msdkui_distance_value_with_unit, "%1$s %2$s");
+        strings.put(R.string.msdkui_unit_meter, "m");
+        strings.put(R.string.msdkui_unit_kilometer, "km");
+        strings.put(R.string.msdkui_unit_yard, "yd");
+        strings.put(R.string.msdkui_unit_foot, "ft");
+        strings.put(R.string.msdkui_unit_mile, "mi");
+        strings.put(R.string.msdkui_days, "%1$d d");
+        strings.put(R.string.msdkui_days_hours, "%1$d d %2$d h");
+        strings.put(R.string.msdkui_hours, "%1$d h");
+        strings.put(R.string.msdkui_hours_minutes, "%1$d h %2$d min");
+        strings.put(R.string.msdkui_minutes, "%1$d min");
+        strings.put(R.string.msdkui_seconds, "%1$d s");
+        strings.put(R.string.msdkui_maneuver_road_name_divider, "%1$s/%2$s");
+
+        final Answer<Object> answer = invocation -> {
+            if (!"getString".equals(invocation.getMethod().getName())) {
+                return RETURNS_DEFAULTS.answer(invocation);
+            }
+            final Object[] arguments = invocation.getRawArguments();
+            final String string = strings.get((Integer) arguments[0]);
+            if (string == null) {
+                return "";
+            }
+            return arguments.length > 1 ? String.format(string, (Object[]) arguments[1]) : string;
+        };
+        return mock(Context.class, withSettings().stubOnly().defaultAnswer(answer));
+    }
+
+    /**
+     * Creates random distances in meters, from a few meters up to 500 kilometers.
+     */
+    static long[] createDistances() {
+        final Random random = new Random(SEED);
+        final long[] distances = new long[INPUT_COUNT];
+        for (int i = 0; i < distances.length; i++) {
+            // logarithmic distribution, so all thresholds of the formatters are hit
+            distances[i] = (long) Math.pow(10, random.nextDouble() * 5.7);
+        }
+        return distances;
+    }
+
+    /**
+     * Creates random speeds in meters per second, up to 250 km/h.
+     */
+    static double[] createSpeeds() {
+        final Random random = new Random(SEED);
+        final double[] speeds = new double[INPUT_COUNT];
+        for (int i = 0; i < speeds.length; i++) {
+            speeds[i] = random.nextDouble() * 70;
+        }
+        return speeds;
+    }
+
+    /**
+     * Creates random durations in milliseconds, up to three days.
+     */
+    static long[] createDurations() {
+        final Random random = new Random(SEED);
+        final long[] durations = new long[INPUT_COUNT];
+        for (int i = 0; i < durations.length; i++) {
+            durations[i] = (long) Math.pow(10, 3 + random.nextDouble() * 5.4);
+        }
+        return durations;
+    }
+
+    /**
+     * Creates a route of {@link #ROUTE_SIZE} route elements. Consecutive elements often share a
+     * road, like on real routes.
+     */
+    static Route createRouteWithElements() {
+        final Random random = new Random(SEED);
+        final List<RouteElement> elements = new ArrayList<>(ROUTE_SIZE);
+        RoadElement road = null;
+        for (int i = 0; i < ROUTE_SIZE; i++) {
+            if (road == null || random.nextInt(4) == 0) {
+                road = mock(RoadElement.class, withSettings().stubOnly());
+                when(road.getRoadName()).thenReturn(ROAD_NAMES[random.nextInt(ROAD_NAMES.length)]);
+                when(road.getRouteName()).thenReturn(ROAD_NUMBERS[random.nextInt(ROAD_NUMBERS.length)]);
+                when(road.getGeometryLength()).thenReturn(10 + random.nextDouble() * 500);
+            }
+            final RouteElement element = mock(RouteElement.class, withSettings().stubOnly());
+            when(element.getRoadElement()).thenReturn(road);
+            elements.add(element);
+        }
+        final RouteElements routeElements = mock(RouteElements.class, withSettings().stubOnly());
+        when(routeElements.getElements()).thenReturn(elements);
+        final Route route = mock(Route.class, withSettings().stubOnly());
+        when(route.getRouteElements()).thenReturn(routeElements);
+        return route;
+    }
+
+    /**
+     * Creates a route of {@link #ROUTE_SIZE} maneuvers. Some maneuvers have no next road, so the
+     * fallbacks of the street lookup are exercised as well.
+     */
+    static Route createRouteWithManeuvers() {
+        final Random random = new Random(SEED);
+        final Maneuver.Action[] actions = Maneuver.Action.values();
+        final List<Maneuver> maneuvers = new ArrayList<>(ROUTE_SIZE);
+        for (int i = 0; i < ROUTE_SIZE; i++) {
+            final Maneuver maneuver = mock(Maneuver.class, withSettings().stubOnly());
+            final boolean hasNextRoad = random.nextInt(3) != 0;
+            final String nextRoadName = hasNextRoad ? ROAD_NAMES[random.nextInt(ROAD_NAMES.length)] : "";
+            final String nextRoadNumber = hasNextRoad ? ROAD_NUMBERS[random.nextInt(ROAD_NUMBERS.length)] : "";
+            when(maneuver.getNextRoadName()).thenReturn(nextRoadName);
+            when(maneuver.getNextRoadNumber()).thenReturn(nextRoadNumber);
+            when(maneuver.getRoadName()).thenReturn(ROAD_NAMES[random.nextInt(ROAD_NAMES.length)]);
+            when(maneuver.getRoadNumber()).thenReturn(ROAD_NUMBERS[random.nextInt(ROAD_NUMBERS.length)]);
+            when(maneuver.getAction()).thenReturn(actions[random.nextInt(actions.length)]);
+            when(maneuver.getCoordinate()).thenReturn(mock(GeoCoordinate.class, withSettings().stubOnly()));
+            when(maneuver.getDistanceFromPreviousManeuver()).thenReturn(MIN_MANEUVER_DISTANCE + random.nextInt(2000));
+            maneuvers.add(maneuver);
+        }
+        final Route route = mock(Route.class, withSettings().stubOnly());
+        when(route.getManeuvers()).thenReturn(maneuvers);
+        return route;
+    }
+
+    /**
+     * Creates a presenter which has no next maneuver from the navigation manager and indexes the
+     * maneuvers of the given route.
+     */
+    static BaseGuidancePresenter createPresenter(Route route) {
+        final RouteManeuverIndex index = new RouteManeuverIndex(route);
+        final BaseGuidancePresenter presenter = mock(BaseGuidancePresenter.class, withSettings().stubOnly());
+        when(presenter.getNextManeuver()).thenReturn(null);
+        when(presenter.getManeuverIndex()).thenReturn(index);
+        return presenter;
+    }
+
+    /**
+     * Creates {@link #ROUTE_SIZE} FTCR maneuvers covering all actions and directions.
+     */
+    static FTCRManeuver[] createFtcrManeuvers() throws ReflectiveOperationException {
+        final Random random = new Random(SEED);
+        final FTCRManeuver.Action[] actions = FTCRManeuver.Action.values();
+        // only the constants of the direction enum are needed, whatever its declaring class is
+        final Object[] directions = FTCRManeuver.class.getMethod("getDirection")
+                .getReturnType()
+                .getEnumConstants();
+        final FTCRManeuver[] maneuvers = new FTCRManeuver[ROUTE_SIZE];
+        for (int i = 0; i < maneuvers.length; i++) {
+            final FTCRManeuver maneuver = mock(FTCRManeuver.class, withSettings().stubOnly());
+            when(maneuver.getAction()).thenReturn(actions[random.nextInt(actions.length)]);
+            doReturn(directions[random.nextInt(directions.length)]).when(maneuver).getDirection();
+            maneuvers[i] = maneuver;
+        }
+        return maneuvers;
+    }
+
+    /**
+     * Gets the maneuvers of a route as array.
+     */
+    static Maneuver[] getManeuvers(Route route) {
+        return route.getManeuvers().toArray(new Maneuver[0]);
+    }
+
+    /**
+     * Gets the road elements of a route as array.
+     */
+    static RoadElement[] getRoadElements(Route route) {
+        final List<RouteElement> elements = route.getRouteElements().getElements();
+        final RoadElement[] roads = new RoadElement[elements.size()];
+        for (int i = 0; i < roads.length; i++) {
+            roads[i] = elements.get(i).getRoadElement();
+        }
+        return roads;
+    }
+}
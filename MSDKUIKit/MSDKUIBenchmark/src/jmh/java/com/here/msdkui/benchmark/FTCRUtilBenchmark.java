@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.benchmark;
+
+import com.here.android.mpa.ftcr.FTCRManeuver;
+import com.here.msdkui.ftcr.FTCRUtil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the maneuver mapping of {@link FTCRUtil}. One operation is the mapping of one
+ * maneuver of a synthetic route.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FTCRUtilBenchmark {
+
+    private FTCRManeuver[] mManeuvers;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        mManeuvers = BenchmarkFixtures.createFtcrManeuvers();
+    }
+
+    /**
+     * Only reads the stubbed values, which is the cost of the mocks included in the other benchmarks.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROUTE_SIZE)
+    public void baseline(Blackhole blackhole) {
+        for (final FTCRManeuver maneuver : mManeuvers) {
+            blackhole.consume(maneuver.getAction());
+            blackhole.consume(maneuver.getDirection());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROUTE_SIZE)
+    public void getAction(Blackhole blackhole) {
+        for (final FTCRManeuver maneuver : mManeuvers) {
+            blackhole.consume(FTCRUtil.getAction(maneuver));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROUTE_SIZE)
+    public void getTurn(Blackhole blackhole) {
+        for (final FTCRManeuver maneuver : mManeuvers) {
+            blackhole.consume(FTCRUtil.getTurn(maneuver));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROUTE_SIZE)
+    public void getIcon(Blackhole blackhole) {
+        for (final FTCRManeuver maneuver : mManeuvers) {
+            blackhole.consume(FTCRUtil.getIcon(maneuver));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.benchmark;
+
+import android.content.Context;
+
+import com.here.android.mpa.routing.Maneuver;
+import com.here.android.mpa.routing.Route;
+import com.here.msdkui.guidance.GuidanceManeuverUtil;
+import com.here.msdkui.guidance.base.BaseGuidancePresenter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link GuidanceManeuverUtil#determineNextManeuverStreet(Context, Maneuver,
+ * BaseGuidancePresenter)} for all maneuvers of a route of {@link BenchmarkFixtures#ROUTE_SIZE}
+ * maneuvers. One operation is one maneuver.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GuidanceManeuverUtilBenchmark {
+
+    private Context mContext;
+    private Maneuver[] mManeuvers;
+    private BaseGuidancePresenter mPresenter;
+
+    @Setup
+    public void setUp() {
+        mContext = BenchmarkFixtures.createContext();
+        final Route route = BenchmarkFixtures.createRouteWithManeuvers();
+        mManeuvers = BenchmarkFixtures.getManeuvers(route);
+        mPresenter = BenchmarkFixtures.createPresenter(route);
+    }
+
+    /**
+     * Only reads the stubbed values, which is the cost of the mocks included in the other benchmarks.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROUTE_SIZE)
+    public void baseline(Blackhole blackhole) {
+        for (final Maneuver maneuver : mManeuvers) {
+            blackhole.consume(maneuver.getNextRoadName());
+            blackhole.consume(maneuver.getNextRoadNumber());
+            blackhole.consume(maneuver.getAction());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.ROUTE_SIZE)
+    public void determineNextManeuverStreet(Blackhole blackhole) {
+        for (final Maneuver maneuver : mManeuvers) {
+            blackhole.consume(GuidanceManeuverUtil.determineNextManeuverStreet(mContext, maneuver, mPresenter));
+        }
+    }
+}
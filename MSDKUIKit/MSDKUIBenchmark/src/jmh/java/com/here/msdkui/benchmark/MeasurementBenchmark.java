@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.benchmark;
+
+import com.here.msdkui.common.measurements.ConversionTable;
+import com.here.msdkui.common.measurements.Converter;
+import com.here.msdkui.common.measurements.MeasurementUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the measurement conversions. Compares the {@link Converter} API, which wraps every
+ * result into a {@link com.here.msdkui.common.measurements.Measurement}, with the scalar and the
+ * bulk conversion of {@link ConversionTable}. One operation is the conversion of one value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MeasurementBenchmark {
+
+    @Param({"METER:MILE", "KILOMETER:YARD", "METERS_PER_SECOND:MILES_PER_HOUR"})
+    public String mConversion;
+
+    private MeasurementUnit mFrom;
+    private MeasurementUnit mTo;
+    private Converter mConverter;
+    private double[] mValues;
+    private double[] mResults;
+
+    @Setup
+    public void setUp() {
+        final String[] units = mConversion.split(":");
+        mFrom = MeasurementUnit.valueOf(units[0]);
+        mTo = MeasurementUnit.valueOf(units[1]);
+        mConverter = mFrom.getConverter();
+        final long[] distances = BenchmarkFixtures.createDistances();
+        mValues = new double[distances.length];
+        for (int i = 0; i < distances.length; i++) {
+            mValues[i] = distances[i];
+        }
+        mResults = new double[mValues.length];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.INPUT_COUNT)
+    public void converter(Blackhole blackhole) {
+        for (final double value : mValues) {
+            blackhole.consume(mConverter.convert(value, mFrom, mTo).getValue());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.INPUT_COUNT)
+    public void conversionTable(Blackhole blackhole) {
+        for (final double value : mValues) {
+            blackhole.consume(ConversionTable.convert(value, mFrom, mTo));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.INPUT_COUNT)
+    public double[] conversionTableBulk() {
+        ConversionTable.convert(mValues, mResults, mFrom, mTo);
+        return mResults;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkFixtures.INPUT_COUNT)
+    public void round(Blackhole blackhole) {
+        for (final double value : mValues) {
+            blackhole.consume(Converter.round(ConversionTable.convert(value, mFrom, mTo), 1));
+        }
+    }
+}
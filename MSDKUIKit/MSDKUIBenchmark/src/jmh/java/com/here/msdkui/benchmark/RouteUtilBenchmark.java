@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.benchmark;
+
+import com.here.android.mpa.common.RoadElement;
+import com.here.android.mpa.routing.Route;
+import com.here.msdkui.routing.LongestRoadSegments;
+import com.here.msdkui.routing.RouteUtil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link RouteUtil#getLongestRoadSegments(Route)} for a route of
+ * {@link BenchmarkFixtures#ROUTE_SIZE} route elements. One operation is one route.
+ * <p>{@code scan} measures a single pass over the elements, {@code getLongestRoadSegments} the
+ * cached result for a route which was scanned before.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RouteUtilBenchmark {
+
+    private Route mRoute;
+    private RoadElement[] mRoads;
+
+    @Setup
+    public void setUp() {
+        mRoute = BenchmarkFixtures.createRouteWithElements();
+        mRoads = BenchmarkFixtures.getRoadElements(mRoute);
+    }
+
+    /**
+     * Only reads the stubbed values, which is the cost of the mocks included in the other benchmarks.
+     */
+    @Benchmark
+    public void baseline(Blackhole blackhole) {
+        blackhole.consume(mRoute.getRouteElements().getElements());
+        for (final RoadElement road : mRoads) {
+            blackhole.consume(road.getRouteName());
+            blackhole.consume(road.getRoadName());
+            blackhole.consume(road.getGeometryLength());
+        }
+    }
+
+    @Benchmark
+    public String scan() {
+        return LongestRoadSegments.compute(mRoute.getRouteElements().getElements());
+    }
+
+    @Benchmark
+    public String getLongestRoadSegments() {
+        return RouteUtil.getLongestRoadSegments(mRoute);
+    }
+}
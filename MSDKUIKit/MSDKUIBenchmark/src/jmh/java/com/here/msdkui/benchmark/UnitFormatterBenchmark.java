@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.benchmark;
+
+import android.content.Context;
+
+import com.here.msdkui.common.DistanceFormatterUtil;
+import com.here.msdkui.common.SpeedFormatterUtil;
+import com.here.msdkui.common.measurements.UnitSystem;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link DistanceFormatterUtil} and {@link SpeedFormatterUtil} for all unit systems.
+ * Every invocation formats the next value of a fixed set of inputs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UnitFormatterBenchmark {
+
+    @Param({"METRIC", "IMPERIAL_US", "IMPERIAL_UK"})
+    public UnitSystem mUnitSystem;
+
+    private Context mContext;
+    private long[] mDistances;
+    private double[] mSpeeds;
+    private int mIndex;
+
+    @Setup
+    public void setUp() {
+        mContext = BenchmarkFixtures.createContext();
+        mDistances = BenchmarkFixtures.createDistances();
+        mSpeeds = BenchmarkFixtures.createSpeeds();
+    }
+
+    private int nextIndex() {
+        mIndex = (mIndex + 1) & (BenchmarkFixtures.INPUT_COUNT - 1);
+        return mIndex;
+    }
+
+    @Benchmark
+    public String distanceFormat() {
+        return DistanceFormatterUtil.format(mContext, mDistances[nextIndex()], mUnitSystem);
+    }
+
+    @Benchmark
+    public String distanceFormatDistance() {
+        return DistanceFormatterUtil.formatDistance(mContext, mDistances[nextIndex()], mUnitSystem);
+    }
+
+    @Benchmark
+    public double distanceGetDisplayedDistance() {
+        return DistanceFormatterUtil.getDisplayedDistance(mDistances[nextIndex()], mUnitSystem);
+    }
+
+    @Benchmark
+    public int speedFormat() {
+        return SpeedFormatterUtil.format(mSpeeds[nextIndex()], mUnitSystem);
+    }
+
+    @Benchmark
+    public String speedFormatToString() {
+        return SpeedFormatterUtil.formatToString(mSpeeds[nextIndex()], mUnitSystem);
+    }
+}
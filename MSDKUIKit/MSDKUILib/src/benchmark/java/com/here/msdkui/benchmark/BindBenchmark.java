@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.benchmark;
+
+import android.os.Build;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.Charset;
+import java.util.Locale;
+
+/**
+ * Measures the cost of binding data to a view.
+ * <p>A bind is run a number of times to warm up, then the measured binds are run in one batch.
+ * Wall time is taken from {@link System#nanoTime()}, allocated bytes from the
+ * {@link com.sun.management.ThreadMXBean} of the calling thread, so everything allocated by the bind
+ * itself is counted, including what Robolectric's shadows allocate. The numbers are meant to compare
+ * releases of this library on the same machine, not to predict the cost on a device.</p>
+ * <p>Every result is written as a JSON file named after the benchmark to the directory given by the
+ * system property {@value #OUTPUT_DIR_PROPERTY}.</p>
+ */
+final class BindBenchmark {
+
+    /**
+     * System property with the directory results are written to.
+     */
+    static final String OUTPUT_DIR_PROPERTY = "msdkui.benchmark.dir";
+
+    /**
+     * System property with the number of measured binds.
+     */
+    static final String BINDS_PROPERTY = "msdkui.benchmark.binds";
+
+    private static final int DEFAULT_BINDS = 5000;
+    private static final int WARMUP_DIVISOR = 5;
+
+    private BindBenchmark() {
+    }
+
+    /**
+     * A bind to measure.
+     */
+    interface Bind {
+
+        /**
+         * Binds once.
+         *
+         * @param iteration
+         *         the number of the bind, can be used to cycle through different data.
+         */
+        void bind(int iteration);
+    }
+
+    /**
+     * Runs and measures a bind, then writes the result.
+     *
+     * @param name
+     *         the name of the benchmark.
+     * @param bind
+     *         the bind to measure.
+     *
+     * @return the result.
+     * @throws IOException if the result can't be written.
+     */
+    static Result run(String name, Bind bind) throws IOException {
+        final int binds = Integer.getInteger(BINDS_PROPERTY, DEFAULT_BINDS);
+        final int warmupBinds = binds / WARMUP_DIVISOR;
+        for (int i = 0; i < warmupBinds; i++) {
+            bind.bind(i);
+        }
+
+        final com.sun.management.ThreadMXBean threadBean = getThreadBean();
+        final long threadId = Thread.currentThread().getId();
+        final long startBytes = threadBean == null ? 0 : threadBean.getThreadAllocatedBytes(threadId);
+        final long startNanos = System.nanoTime();
+        for (int i = 0; i < binds; i++) {
+            bind.bind(i);
+        }
+        final long nanos = System.nanoTime() - startNanos;
+        final long bytes = threadBean == null ? -1 : threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        final Result result = new Result(name, warmupBinds, binds, nanos, bytes);
+        result.write();
+        return result;
+    }
+
+    /**
+     * Gets the thread bean with allocation counting enabled or null if the JVM can't count
+     * allocations.
+     */
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        final com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threadBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        return threadBean;
+    }
+
+    /**
+     * The result of a benchmark.
+     */
+    static final class Result {
+
+        private final String mName;
+        private final int mWarmupBinds;
+        private final int mBinds;
+        private final long mNanos;
+        private final long mBytes;
+
+        Result(String name, int warmupBinds, int binds, long nanos, long bytes) {
+            mName = name;
+            mWarmupBinds = warmupBinds;
+            mBinds = binds;
+            mNanos = nanos;
+            mBytes = bytes;
+        }
+
+        /**
+         * Gets the average wall time of a bind.
+         *
+         * @return the time in nanoseconds.
+         */
+        double getNanosPerBind() {
+            return (double) mNanos / mBinds;
+        }
+
+        /**
+         * Gets the average number of bytes allocated by a bind.
+         *
+         * @return the number of bytes or -1 if the JVM can't count allocations.
+         */
+        double getBytesPerBind() {
+            return mBytes < 0 ? -1 : (double) mBytes / mBinds;
+        }
+
+        String toJson() {
+            return String.format(Locale.ROOT, "{\n" +
+                            "  \"benchmark\": \"%s\",\n" +
+                            "  \"sdk\": %d,\n" +
+                            "  \"warmupBinds\": %d,\n" +
+                            "  \"binds\": %d,\n" +
+                            "  \"totalNanos\": %d,\n" +
+                            "  \"totalBytes\": %d,\n" +
+                            "  \"nanosPerBind\": %.1f,\n" +
+                            "  \"bytesPerBind\": %.1f\n" +
+                            "}\n",
+                    mName, Build.VERSION.SDK_INT, mWarmupBinds, mBinds, mNanos, mBytes, getNanosPerBind(),
+                    getBytesPerBind());
+        }
+
+        void write() throws IOException {
+            System.out.print(toJson());
+            final String dir = System.getProperty(OUTPUT_DIR_PROPERTY);
+            if (dir == null) {
+                return;
+            }
+            final File file = new File(dir, mName + ".json");
+            if (!file.getParentFile().isDirectory() && !file.getParentFile().mkdirs()) {
+                throw new IOException("Can't create " + file.getParent());
+            }
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), Charset.forName("UTF-8"))) {
+                writer.write(toJson());
+            }
+        }
+    }
+}
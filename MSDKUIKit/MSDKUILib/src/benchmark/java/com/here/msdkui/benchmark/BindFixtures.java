@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.benchmark;
+
+import com.here.android.mpa.common.GeoCoordinate;
+import com.here.android.mpa.common.RoadElement;
+import com.here.android.mpa.routing.Maneuver;
+import com.here.android.mpa.routing.Route;
+import com.here.android.mpa.routing.RouteElement;
+import com.here.android.mpa.routing.RouteElements;
+import com.here.android.mpa.routing.RouteOptions;
+import com.here.android.mpa.routing.RoutePlan;
+import com.here.android.mpa.routing.RouteTta;
+import com.here.android.mpa.routing.RouteWaypoint;
+import com.here.msdkui.routing.WaypointEntry;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Mocked HERE SDK objects for the benchmarks, like the ones of {@link com.here.MockUtils}.
+ * <p>All mocks are stub only. They don't record invocations, so binding thousands of times neither
+ * fills the heap nor adds the allocations of Mockito to the measured ones.</p>
+ */
+final class BindFixtures {
+
+    private static final String[] ROAD_NAMES = {"Invalidenstraße", "Chausseestraße", "Friedrichstraße",
+            "Unter den Linden", "Torstraße"};
+    private static final String[] ROAD_NUMBERS = {"", "B96", "", "B1", ""};
+    private static final Maneuver.Icon[] ICONS = {Maneuver.Icon.LIGHT_LEFT, Maneuver.Icon.HEAVY_LEFT,
+            Maneuver.Icon.LIGHT_RIGHT, Maneuver.Icon.QUITE_LEFT, Maneuver.Icon.QUITE_RIGHT};
+    private static final Maneuver.Turn[] TURNS = {Maneuver.Turn.LIGHT_LEFT, Maneuver.Turn.HEAVY_LEFT,
+            Maneuver.Turn.LIGHT_RIGHT, Maneuver.Turn.KEEP_LEFT, Maneuver.Turn.QUITE_RIGHT};
+
+    private BindFixtures() {
+    }
+
+    /**
+     * Creates maneuvers with different icons, roads and distances.
+     */
+    static List<Maneuver> createManeuvers(int count) {
+        final List<Maneuver> maneuvers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final int variant = i % ROAD_NAMES.length;
+            final Maneuver maneuver = mock(Maneuver.class, withSettings().stubOnly());
+            when(maneuver.getIcon()).thenReturn(ICONS[variant]);
+            when(maneuver.getTurn()).thenReturn(TURNS[variant]);
+            when(maneuver.getAction()).thenReturn(Maneuver.Action.JUNCTION);
+            when(maneuver.getTransportMode()).thenReturn(RouteOptions.TransportMode.CAR);
+            when(maneuver.getDistanceToNextManeuver()).thenReturn(100 + 37 * i);
+            when(maneuver.getDistanceFromPreviousManeuver()).thenReturn(100 + 37 * i);
+            when(maneuver.getRoadName()).thenReturn(ROAD_NAMES[variant]);
+            when(maneuver.getRoadNumber()).thenReturn(ROAD_NUMBERS[variant]);
+            when(maneuver.getNextRoadName()).thenReturn(ROAD_NAMES[(variant + 1) % ROAD_NAMES.length]);
+            when(maneuver.getNextRoadNumber()).thenReturn(ROAD_NUMBERS[(variant + 1) % ROAD_NUMBERS.length]);
+            maneuvers.add(maneuver);
+        }
+        return maneuvers;
+    }
+
+    /**
+     * Creates a car route with traffic delay.
+     */
+    static Route createRoute(List<Maneuver> maneuvers) {
+        final Route route = mock(Route.class, withSettings().stubOnly());
+
+        final RouteTta ttaIncludingTraffic = mock(RouteTta.class, withSettings().stubOnly());
+        when(ttaIncludingTraffic.isBlocked()).thenReturn(false);
+        when(ttaIncludingTraffic.getDuration()).thenReturn(2400);
+        final RouteTta ttaExcludingTraffic = mock(RouteTta.class, withSettings().stubOnly());
+        when(ttaExcludingTraffic.getDuration()).thenReturn(1800);
+        when(route.getTtaIncludingTraffic(anyInt())).thenReturn(ttaIncludingTraffic);
+        when(route.getTtaExcludingTraffic(anyInt())).thenReturn(ttaExcludingTraffic);
+
+        final List<RouteElement> elements = new ArrayList<>();
+        for (int i = 0; i < ROAD_NAMES.length; i++) {
+            final RoadElement road = mock(RoadElement.class, withSettings().stubOnly());
+            when(road.getGeometryLength()).thenReturn(100.0 * (i + 1));
+            when(road.getRoadName()).thenReturn(ROAD_NAMES[i]);
+            when(road.getRouteName()).thenReturn(ROAD_NUMBERS[i]);
+            final RouteElement element = mock(RouteElement.class, withSettings().stubOnly());
+            when(element.getRoadElement()).thenReturn(road);
+            elements.add(element);
+        }
+        final RouteElements routeElements = mock(RouteElements.class, withSettings().stubOnly());
+        when(routeElements.getElements()).thenReturn(elements);
+        when(route.getRouteElements()).thenReturn(routeElements);
+
+        final RouteOptions options = mock(RouteOptions.class, withSettings().stubOnly());
+        when(options.getTransportMode()).thenReturn(RouteOptions.TransportMode.CAR);
+        when(options.getTime(any(Date.class))).thenReturn(RouteOptions.TimeType.DEPARTURE);
+        final RoutePlan plan = mock(RoutePlan.class, withSettings().stubOnly());
+        when(plan.getRouteOptions()).thenReturn(options);
+        when(route.getRoutePlan()).thenReturn(plan);
+
+        when(route.getManeuvers()).thenReturn(maneuvers);
+        when(route.getLength()).thenReturn(23_500);
+        return route;
+    }
+
+    /**
+     * Creates waypoint entries with locations.
+     */
+    static List<WaypointEntry> createWaypointEntries(int count) {
+        final List<WaypointEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final GeoCoordinate coordinate = mock(GeoCoordinate.class, withSettings().stubOnly());
+            when(coordinate.toString()).thenReturn("(52.53" + i + ", 13.37" + i + ")");
+            final RouteWaypoint waypoint = mock(RouteWaypoint.class, withSettings().stubOnly());
+            when(waypoint.getOriginalPosition()).thenReturn(coordinate);
+            entries.add(new WaypointEntry(waypoint));
+        }
+        return entries;
+    }
+}
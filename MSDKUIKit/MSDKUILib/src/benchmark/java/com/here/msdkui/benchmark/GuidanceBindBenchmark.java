@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.benchmark;
+
+import android.view.View;
+
+import com.here.RobolectricTest;
+import com.here.msdkui.R;
+import com.here.msdkui.guidance.GuidanceManeuverData;
+import com.here.msdkui.guidance.GuidanceManeuverView;
+import com.here.msdkui.guidance.GuidanceSpeedData;
+import com.here.msdkui.guidance.GuidanceSpeedView;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * Benchmarks of binding guidance data to views, see {@link BindBenchmark}.
+ * <p>The data changes with every bind, like during guidance.</p>
+ */
+public class GuidanceBindBenchmark extends RobolectricTest {
+
+    private static final int DATA_COUNT = 64;
+
+    @Before
+    public void setUp() {
+        super.setUp();
+    }
+
+    @Test
+    public void guidanceManeuverViewSetViewState() throws IOException {
+        final GuidanceManeuverView.State[] states = new GuidanceManeuverView.State[DATA_COUNT];
+        for (int i = 0; i < DATA_COUNT; i++) {
+            states[i] = new GuidanceManeuverView.State(new GuidanceManeuverData(R.drawable.ic_maneuver_icon_4,
+                    (long) (DATA_COUNT - i) * 50, "Exit " + i, "Invalidenstraße"));
+        }
+        final GuidanceManeuverView view = new GuidanceManeuverView(getApplicationContext());
+        final BindBenchmark.Result result = BindBenchmark.run("GuidanceManeuverView.setViewState",
+                iteration -> view.setViewState(states[iteration % DATA_COUNT]));
+        assertThat(result.getNanosPerBind(), greaterThan(0.0));
+        assertThat(view.getVisibility(), equalTo(View.VISIBLE));
+    }
+
+    @Test
+    public void guidanceSpeedViewSetCurrentSpeedData() throws IOException {
+        final GuidanceSpeedData[] data = new GuidanceSpeedData[DATA_COUNT];
+        for (int i = 0; i < DATA_COUNT; i++) {
+            // crosses the speed limit back and forth
+            data[i] = new GuidanceSpeedData(10.0 + i % 16, 20.0);
+        }
+        final GuidanceSpeedView view = new GuidanceSpeedView(getApplicationContext());
+        final BindBenchmark.Result result = BindBenchmark.run("GuidanceSpeedView.setCurrentSpeedData",
+                iteration -> view.setCurrentSpeedData(data[iteration % DATA_COUNT]));
+        assertThat(result.getNanosPerBind(), greaterThan(0.0));
+        assertThat(view.getVisibility(), equalTo(View.VISIBLE));
+    }
+}
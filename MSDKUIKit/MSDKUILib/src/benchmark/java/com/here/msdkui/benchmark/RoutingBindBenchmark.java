@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.benchmark;
+
+import android.view.View;
+import android.widget.FrameLayout;
+
+import com.here.RobolectricTest;
+import com.here.android.mpa.routing.Maneuver;
+import com.here.android.mpa.routing.Route;
+import com.here.msdkui.routing.ManeuverItemView;
+import com.here.msdkui.routing.ManeuverResources;
+import com.here.msdkui.routing.RouteDescriptionItem;
+import com.here.msdkui.routing.WaypointEntry;
+import com.here.msdkui.routing.WaypointListAdapter;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * Benchmarks of binding routing data to views, see {@link BindBenchmark}.
+ */
+public class RoutingBindBenchmark extends RobolectricTest {
+
+    private static final int MANEUVER_COUNT = 50;
+    private static final int WAYPOINT_COUNT = 10;
+
+    @Test
+    public void maneuverItemViewSetManeuver() throws IOException {
+        final List<Maneuver> maneuvers = BindFixtures.createManeuvers(MANEUVER_COUNT);
+        final ManeuverItemView view = new ManeuverItemView(getContextWithTheme());
+        final BindBenchmark.Result result = BindBenchmark.run("ManeuverItemView.setManeuver",
+                iteration -> view.setManeuver(maneuvers, iteration % MANEUVER_COUNT));
+        assertThat(result.getNanosPerBind(), greaterThan(0.0));
+        assertThat(view.getVisibility(), equalTo(View.VISIBLE));
+    }
+
+    @Test
+    public void maneuverItemViewSetManeuverWithSharedResources() throws IOException {
+        final List<Maneuver> maneuvers = BindFixtures.createManeuvers(MANEUVER_COUNT);
+        final ManeuverItemView view = new ManeuverItemView(getContextWithTheme());
+        final ManeuverResources resources = new ManeuverResources(getContextWithTheme(), maneuvers);
+        final BindBenchmark.Result result = BindBenchmark.run("ManeuverItemView.setManeuver.sharedResources",
+                iteration -> view.setManeuver(maneuvers, iteration % MANEUVER_COUNT, resources));
+        assertThat(result.getNanosPerBind(), greaterThan(0.0));
+        assertThat(view.getVisibility(), equalTo(View.VISIBLE));
+    }
+
+    @Test
+    public void routeDescriptionItemSetRoute() throws IOException {
+        final Route route = BindFixtures.createRoute(BindFixtures.createManeuvers(MANEUVER_COUNT));
+        final RouteDescriptionItem item = new RouteDescriptionItem(getContextWithTheme());
+        item.setTrafficEnabled(true);
+        final BindBenchmark.Result result = BindBenchmark.run("RouteDescriptionItem.setRoute",
+                iteration -> item.setRoute(route));
+        assertThat(result.getNanosPerBind(), greaterThan(0.0));
+        assertThat(item.getVisibility(), equalTo(View.VISIBLE));
+    }
+
+    @Test
+    public void waypointListAdapterOnBindViewHolder() throws IOException {
+        final List<WaypointEntry> entries = BindFixtures.createWaypointEntries(WAYPOINT_COUNT);
+        final WaypointListAdapter adapter = new WaypointListAdapter(entries);
+        final WaypointListAdapter.WaypointsListViewHolder holder =
+                adapter.onCreateViewHolder(new FrameLayout(getContextWithTheme()), 0);
+        final BindBenchmark.Result result = BindBenchmark.run("WaypointListAdapter.onBindViewHolder",
+                iteration -> adapter.onBindViewHolder(holder, iteration % WAYPOINT_COUNT));
+        assertThat(result.getNanosPerBind(), greaterThan(0.0));
+        assertThat(holder.itemView.getVisibility(), equalTo(View.VISIBLE));
+    }
+}
@@ -32,6 +32,7 @@ public abstract class BaseView extends LinearLayout {
 
     protected UnitSystem mUnitSystem = UnitSystem.METRIC;
     protected boolean mSaveStateEnabled = true;
+    private DistanceFormatter mDistanceFormatter;
 
     /**
      * Constructs a new instance.
@@ -113,6 +114,17 @@ public abstract class BaseView extends LinearLayout {
         return mUnitSystem;
     }
 
+    /**
+     * Gets a {@link DistanceFormatter} for the current unit system of this view. The formatter is
+     * reused as long as the unit system and the default locale do not change.
+     *
+     * @return a {@link DistanceFormatter}.
+     */
+    protected DistanceFormatter getDistanceFormatter() {
+        mDistanceFormatter = DistanceFormatter.obtain(mDistanceFormatter, getContext(), mUnitSystem);
+        return mDistanceFormatter;
+    }
+
     /**
      * Controls whether the saving of this view's data is enabled. View's data will be saved in {@link #onSaveInstanceState}
      * and restored in {@link  #onRestoreInstanceState(android.os.Parcelable)}.
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs computations on an {@link Executor} and delivers their results on the main thread.
+ * <p>Only the result of the latest submitted computation is delivered: submitting a new
+ * computation or calling {@link #cancel()} drops all computations which did not deliver yet.
+ * Computations that have not started when they are dropped are skipped.</p>
+ */
+public final class ComputePipeline {
+
+    /**
+     * Computation to run on the executor.
+     *
+     * @param <T>
+     *         type of the result.
+     */
+    public interface Computation<T> {
+
+        /**
+         * Computes the result. Called on the executor thread.
+         *
+         * @return the result, may be null.
+         */
+        @Nullable
+        T compute();
+    }
+
+    /**
+     * Receiver of a computation result.
+     *
+     * @param <T>
+     *         type of the result.
+     */
+    public interface Delivery<T> {
+
+        /**
+         * Delivers the result. Called on the main thread.
+         *
+         * @param result
+         *         the result of the computation.
+         */
+        void deliver(@Nullable T result);
+    }
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final AtomicInteger mGeneration = new AtomicInteger();
+    private final Executor mExecutor;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param executor
+     *         the {@link Executor} to run computations on.
+     */
+    public ComputePipeline(@NonNull Executor executor) {
+        mExecutor = executor;
+    }
+
+    /**
+     * Gets the executor computations run on.
+     *
+     * @return the {@link Executor}.
+     */
+    public @NonNull Executor getExecutor() {
+        return mExecutor;
+    }
+
+    /**
+     * Submits a computation, replacing any computation which did not deliver yet.
+     *
+     * @param computation
+     *         the computation to run on the executor.
+     * @param delivery
+     *         receiver of the result on the main thread.
+     * @param <T>
+     *         type of the result.
+     */
+    public <T> void submit(@NonNull final Computation<T> computation, @NonNull final Delivery<T> delivery) {
+        final int generation = mGeneration.incrementAndGet();
+        mExecutor.execute(() -> {
+            if (generation != mGeneration.get()) {
+                return;
+            }
+            final T result = computation.compute();
+            if (generation != mGeneration.get()) {
+                return;
+            }
+            mHandler.post(() -> {
+                if (generation == mGeneration.get()) {
+                    delivery.deliver(result);
+                }
+            });
+        });
+    }
+
+    /**
+     * Drops all computations which did not deliver yet.
+     */
+    public void cancel() {
+        mGeneration.incrementAndGet();
+    }
+}
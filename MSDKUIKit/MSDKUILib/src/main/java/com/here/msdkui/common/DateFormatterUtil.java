@@ -26,6 +26,7 @@ import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
+import java.util.TimeZone;
 
 /**
  * A convenience class to convert {@link Date} to a readable string representation or to convert a formatted
@@ -36,6 +37,9 @@ public final class DateFormatterUtil {
     private static final int FORMAT_SHORT_TIME = DateUtils.FORMAT_SHOW_TIME | DateUtils.FORMAT_ABBREV_TIME;
     private static final int FORMAT_DAY_AND_SHORT_MONTH = DateUtils.FORMAT_SHOW_DATE | DateUtils.FORMAT_ABBREV_MONTH;
 
+    // DateFormat is expensive to create and not thread safe, so every thread keeps its own instance.
+    private static final ThreadLocal<CachedDateFormat> DATE_TIME_FORMATS = new ThreadLocal<>();
+
     private DateFormatterUtil() {
     }
 
@@ -73,8 +77,17 @@ public final class DateFormatterUtil {
      * @return a formatted string.
      */
     public static String format(final Date date) {
-        final DateFormat df = DateFormat.getDateTimeInstance(DateFormat.DEFAULT, DateFormat.SHORT, Locale.getDefault());
-        return df.format(date);
+        final Locale locale = Locale.getDefault();
+        final TimeZone timeZone = TimeZone.getDefault();
+        CachedDateFormat cached = DATE_TIME_FORMATS.get();
+        if (cached == null || !cached.mLocale.equals(locale) ||
+                !cached.mTimeZone.getID().equals(timeZone.getID())) {
+            final DateFormat df = DateFormat.getDateTimeInstance(DateFormat.DEFAULT, DateFormat.SHORT, locale);
+            df.setTimeZone(timeZone);
+            cached = new CachedDateFormat(locale, timeZone, df);
+            DATE_TIME_FORMATS.set(cached);
+        }
+        return cached.mDateFormat.format(date);
     }
 
     /**
@@ -99,4 +112,20 @@ public final class DateFormatterUtil {
         return DateUtils.formatDateTime(context, date.getTime(),
                 DateUtils.FORMAT_SHOW_TIME | FORMAT_DAY_AND_SHORT_MONTH);
     }
+
+    /**
+     * A date format of one thread.
+     */
+    private static final class CachedDateFormat {
+
+        private final Locale mLocale;
+        private final TimeZone mTimeZone;
+        private final DateFormat mDateFormat;
+
+        CachedDateFormat(Locale locale, TimeZone timeZone, DateFormat dateFormat) {
+            mLocale = locale;
+            mTimeZone = timeZone;
+            mDateFormat = dateFormat;
+        }
+    }
 }
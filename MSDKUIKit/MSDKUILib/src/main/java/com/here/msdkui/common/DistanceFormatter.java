@@ -0,0 +1,398 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common;
+
+import android.content.Context;
+import android.util.LongSparseArray;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.here.msdkui.R;
+import com.here.msdkui.common.measurements.ConversionTable;
+import com.here.msdkui.common.measurements.MeasurementUnit;
+import com.here.msdkui.common.measurements.UnitSystem;
+
+import java.text.FieldPosition;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+import static com.here.msdkui.common.DistanceFormatterUtil.FEET_THRESHOLD;
+import static com.here.msdkui.common.DistanceFormatterUtil.FEET_THRESHOLD_10;
+import static com.here.msdkui.common.DistanceFormatterUtil.FEET_THRESHOLD_1050;
+import static com.here.msdkui.common.DistanceFormatterUtil.FEET_THRESHOLD_5275;
+import static com.here.msdkui.common.DistanceFormatterUtil.KM_THRESHOLD;
+import static com.here.msdkui.common.DistanceFormatterUtil.METER_THRESHOLD;
+import static com.here.msdkui.common.DistanceFormatterUtil.METER_THRESHOLD_10;
+import static com.here.msdkui.common.DistanceFormatterUtil.METER_THRESHOLD_200;
+import static com.here.msdkui.common.DistanceFormatterUtil.METER_THRESHOLD_975;
+import static com.here.msdkui.common.DistanceFormatterUtil.TEN;
+import static com.here.msdkui.common.DistanceFormatterUtil.THOUSAND;
+import static com.here.msdkui.common.DistanceFormatterUtil.TWO_DIGITS;
+import static com.here.msdkui.common.DistanceFormatterUtil.YARDS_THRESHOLD;
+import static com.here.msdkui.common.DistanceFormatterUtil.YARDS_THRESHOLD_10;
+import static com.here.msdkui.common.DistanceFormatterUtil.YARDS_THRESHOLD_1750;
+import static com.here.msdkui.common.DistanceFormatterUtil.YARDS_THRESHOLD_350;
+import static com.here.msdkui.common.DistanceFormatterUtil.roundNear10;
+import static com.here.msdkui.common.DistanceFormatterUtil.roundNear50;
+import static com.here.msdkui.common.DistanceFormatterUtil.roundToSignificantDigits;
+
+/**
+ * A reusable formatter converting distances in meters to a string representation for one
+ * {@link Locale} and {@link UnitSystem}.
+ * <p>The output is the same as the one of
+ * {@link DistanceFormatterUtil#format(Context, long, UnitSystem)} and
+ * {@link DistanceFormatterUtil#formatDistance(Context, long, UnitSystem)}, but unit strings and the
+ * number format are resolved once and the result is written into reusable buffers. Instances are
+ * not thread safe, use one instance per thread.</p>
+ * <p>Distances are rounded before they are formatted, so only a small set of different strings is
+ * displayed. The methods returning a {@link String} keep these strings in a bounded cache keyed by
+ * the rounded value, so formatting a distance which was formatted before allocates nothing.</p>
+ */
+public final class DistanceFormatter {
+
+    /**
+     * Maximum number of cached strings per unit.
+     */
+    public static final int MAX_CACHED_RESULTS = 256;
+
+    private final Locale mLocale;
+    private final int mGeneration;
+    private final UnitSystem mUnitSystem;
+    private final NumberFormat mNumberFormat;
+    private final FieldPosition mFieldPosition = new FieldPosition(0);
+    private final StringBuffer mNumber = new StringBuffer();
+    private final StringBuilder mResult = new StringBuilder();
+    private final String mPattern;
+    private final String mSmallUnit;
+    private final String mLargeUnit;
+    private final LongSparseArray<String> mSmallUnitResults = new LongSparseArray<>();
+    private final LongSparseArray<String> mLargeUnitResults = new LongSparseArray<>();
+
+    // The rounded value of the distance being formatted.
+    private boolean mLongValue;
+    private long mLong;
+    private double mDouble;
+
+    // The value with unit pattern split at its placeholders, null if it cannot be split.
+    private final String mPrefix;
+    private final String mSeparator;
+    private final String mSuffix;
+    private final boolean mValueFirst;
+
+    /**
+     * Constructs a new instance for the default locale.
+     *
+     * @param context
+     *         the required context.
+     * @param unitSystem
+     *         the unit system {@link UnitSystem}.
+     */
+    public DistanceFormatter(@NonNull Context context, @NonNull UnitSystem unitSystem) {
+        this(context, Locale.getDefault(), unitSystem);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param context
+     *         the required context.
+     * @param locale
+     *         the {@link Locale} used to format numbers.
+     * @param unitSystem
+     *         the unit system {@link UnitSystem}.
+     */
+    public DistanceFormatter(@NonNull Context context, @NonNull Locale locale, @NonNull UnitSystem unitSystem) {
+        mLocale = locale;
+        mGeneration = NumberFormatProvider.getGeneration();
+        mUnitSystem = unitSystem;
+        mNumberFormat = NumberFormat.getInstance(locale);
+        mPattern = context.getString(R.string.msdkui_distance_value_with_unit);
+        final MsdkUiResources resources = MsdkUiResources.get(context);
+        mSmallUnit = resources.getSmallDistanceUnit(unitSystem);
+        mLargeUnit = resources.getLargeDistanceUnit(unitSystem);
+
+        final String valuePlaceholder = "%1$s";
+        final String unitPlaceholder = "%2$s";
+        final int valueIndex = mPattern.indexOf(valuePlaceholder);
+        final int unitIndex = mPattern.indexOf(unitPlaceholder);
+        final int first = Math.min(valueIndex, unitIndex);
+        final int second = Math.max(valueIndex, unitIndex);
+        final String prefix = first < 0 ? null : mPattern.substring(0, first);
+        final String separator = first < 0 ? null : mPattern.substring(first + valuePlaceholder.length(), second);
+        final String suffix = first < 0 ? null : mPattern.substring(second + unitPlaceholder.length());
+        if (prefix == null || (prefix + separator + suffix).indexOf('%') >= 0) {
+            // Unexpected pattern, fall back to String.format.
+            mPrefix = null;
+            mSeparator = null;
+            mSuffix = null;
+        } else {
+            mPrefix = prefix;
+            mSeparator = separator;
+            mSuffix = suffix;
+        }
+        mValueFirst = valueIndex < unitIndex;
+    }
+
+    /**
+     * Gets a formatter for the given unit system and the current default locale, reusing the given
+     * formatter if it matches and {@link NumberFormatProvider#invalidate()} was not called since it
+     * was created.
+     *
+     * @param formatter
+     *         the formatter to reuse or null.
+     * @param context
+     *         the required context.
+     * @param unitSystem
+     *         the unit system {@link UnitSystem}.
+     *
+     * @return a {@link DistanceFormatter} for the unit system and the default locale.
+     */
+    public static @NonNull DistanceFormatter obtain(@Nullable DistanceFormatter formatter,
+            @NonNull Context context, @NonNull UnitSystem unitSystem) {
+        final Locale locale = Locale.getDefault();
+        if (formatter != null && formatter.mUnitSystem == unitSystem && formatter.mLocale.equals(locale) &&
+                formatter.mGeneration == NumberFormatProvider.getGeneration()) {
+            return formatter;
+        }
+        return new DistanceFormatter(context, locale, unitSystem);
+    }
+
+    /**
+     * Gets the locale used to format numbers.
+     *
+     * @return the {@link Locale}.
+     */
+    public @NonNull Locale getLocale() {
+        return mLocale;
+    }
+
+    /**
+     * Gets the unit system.
+     *
+     * @return the unit system {@link UnitSystem}.
+     */
+    public @NonNull UnitSystem getUnitSystem() {
+        return mUnitSystem;
+    }
+
+    /**
+     * Converts a given distance in meters to a string representation, see
+     * {@link DistanceFormatterUtil#format(Context, long, UnitSystem)}.
+     *
+     * @param distance
+     *         the distance in meters.
+     *
+     * @return a string representation including unit.
+     */
+    public @NonNull String format(long distance) {
+        return getResult(computeFormat(distance));
+    }
+
+    /**
+     * Appends the string representation of a given distance in meters to the given builder, see
+     * {@link DistanceFormatterUtil#format(Context, long, UnitSystem)}.
+     *
+     * @param distance
+     *         the distance in meters.
+     * @param out
+     *         the builder to append to.
+     *
+     * @return the given builder.
+     */
+    public @NonNull StringBuilder format(long distance, @NonNull StringBuilder out) {
+        return appendWithUnit(out, computeFormat(distance));
+    }
+
+    /**
+     * Computes the value and unit of the given distance the way {@link #format(long)} displays it.
+     *
+     * @return the unit.
+     */
+    private String computeFormat(long distance) {
+        final String unit;
+        switch (mUnitSystem) {
+            case IMPERIAL_UK:
+                unit = computeImperial(distance, MeasurementUnit.FOOT, FEET_THRESHOLD);
+                break;
+            case IMPERIAL_US:
+                unit = computeImperial(distance, MeasurementUnit.YARD, YARDS_THRESHOLD);
+                break;
+            case METRIC:
+            default: // metric
+                if (distance < METER_THRESHOLD) {
+                    setValue(distance);
+                    unit = mSmallUnit;
+                } else if (distance < KM_THRESHOLD) {
+                    setValue(roundToSignificantDigits((double) distance / THOUSAND, TWO_DIGITS));
+                    unit = mLargeUnit;
+                } else {
+                    setValue(Math.round((double) distance / THOUSAND));
+                    unit = mLargeUnit;
+                }
+                break;
+        }
+        return unit;
+    }
+
+    /**
+     * Converts a given distance in meters to a rounded string representation, see
+     * {@link DistanceFormatterUtil#formatDistance(Context, long, UnitSystem)}.
+     *
+     * @param distance
+     *         the distance in meters.
+     *
+     * @return a string representation including unit.
+     */
+    public @NonNull String formatDistance(long distance) {
+        return getResult(computeFormatDistance(distance));
+    }
+
+    /**
+     * Appends the rounded string representation of a given distance in meters to the given
+     * builder, see {@link DistanceFormatterUtil#formatDistance(Context, long, UnitSystem)}.
+     *
+     * @param distance
+     *         the distance in meters.
+     * @param out
+     *         the builder to append to.
+     *
+     * @return the given builder.
+     */
+    public @NonNull StringBuilder formatDistance(long distance, @NonNull StringBuilder out) {
+        return appendWithUnit(out, computeFormatDistance(distance));
+    }
+
+    /**
+     * Computes the value and unit of the given distance the way {@link #formatDistance(long)}
+     * displays it.
+     *
+     * @return the unit.
+     */
+    private String computeFormatDistance(long distance) {
+        final String unit;
+        switch (mUnitSystem) {
+            case IMPERIAL_UK:
+                unit = computeRoundedImperial(distance, MeasurementUnit.FOOT, FEET_THRESHOLD_10,
+                        FEET_THRESHOLD_1050, FEET_THRESHOLD_5275, FEET_THRESHOLD);
+                break;
+            case IMPERIAL_US:
+                unit = computeRoundedImperial(distance, MeasurementUnit.YARD, YARDS_THRESHOLD_10,
+                        YARDS_THRESHOLD_350, YARDS_THRESHOLD_1750, YARDS_THRESHOLD);
+                break;
+            case METRIC:
+            default: // metric
+                unit = distance < METER_THRESHOLD_975 ? mSmallUnit : mLargeUnit;
+                if (distance < METER_THRESHOLD_10) {
+                    setValue(distance);
+                } else if (distance < METER_THRESHOLD_200) {
+                    setValue(roundNear10(distance));
+                } else if (distance < METER_THRESHOLD_975) {
+                    setValue(roundNear50(distance));
+                } else if (distance < METER_THRESHOLD) {
+                    setValue(roundToSignificantDigits((double) roundNear50(distance) / THOUSAND, TWO_DIGITS));
+                } else if (distance <= KM_THRESHOLD) {
+                    setValue(roundToSignificantDigits((double) distance / THOUSAND, TWO_DIGITS));
+                } else {
+                    setValue(Math.round((double) distance / THOUSAND));
+                }
+                break;
+        }
+        return unit;
+    }
+
+    private String computeImperial(long distance, MeasurementUnit smallUnit, int mileThreshold) {
+        final double distanceSmall = ConversionTable.convert(distance, MeasurementUnit.METER, smallUnit);
+        final double distanceMiles = ConversionTable.convert(distance, MeasurementUnit.METER, MeasurementUnit.MILE);
+        if (distanceSmall < mileThreshold) {
+            setValue(Math.round(distanceSmall));
+            return mSmallUnit;
+        } else if (distanceMiles <= TEN) {
+            setValue(roundToSignificantDigits(distanceMiles, TWO_DIGITS));
+        } else {
+            setValue(Math.round(distanceMiles));
+        }
+        return mLargeUnit;
+    }
+
+    private String computeRoundedImperial(long distance, MeasurementUnit smallUnit, int threshold10,
+            int threshold50, int unitThreshold, int mileThreshold) {
+        final double distanceSmall = ConversionTable.convert(distance, MeasurementUnit.METER, smallUnit);
+        final double distanceMiles = ConversionTable.convert(distance, MeasurementUnit.METER, MeasurementUnit.MILE);
+        if (distanceSmall < threshold10) {
+            setValue(Math.round(distanceSmall));
+        } else if (distanceSmall < threshold50) {
+            setValue(roundNear10((long) distanceSmall));
+        } else if (distanceSmall < unitThreshold) {
+            setValue(roundNear50((long) distanceSmall));
+        } else if (distanceSmall < mileThreshold || distanceMiles <= TEN) {
+            setValue(roundToSignificantDigits(distanceMiles, TWO_DIGITS));
+        } else {
+            setValue(Math.round(distanceMiles));
+        }
+        return distanceSmall < unitThreshold ? mSmallUnit : mLargeUnit;
+    }
+
+    private void setValue(long number) {
+        mLongValue = true;
+        mLong = number;
+    }
+
+    private void setValue(double number) {
+        mLongValue = false;
+        mDouble = number;
+    }
+
+    /**
+     * Gets the string for the computed value and the given unit from the cache, formats it if it
+     * is not cached yet.
+     */
+    private String getResult(String unit) {
+        final LongSparseArray<String> results = unit == mSmallUnit ? mSmallUnitResults : mLargeUnitResults;
+        // Integral values are formatted the same way as long and double, so one key is enough.
+        final long key = Double.doubleToLongBits(mLongValue ? (double) mLong : mDouble);
+        String result = results.get(key);
+        if (result == null) {
+            mResult.setLength(0);
+            result = appendWithUnit(mResult, unit).toString();
+            if (results.size() >= MAX_CACHED_RESULTS) {
+                results.clear();
+            }
+            results.put(key, result);
+        }
+        return result;
+    }
+
+    private StringBuilder appendWithUnit(StringBuilder out, String unit) {
+        mNumber.setLength(0);
+        if (mLongValue) {
+            mNumberFormat.format(mLong, mNumber, mFieldPosition);
+        } else {
+            mNumberFormat.format(mDouble, mNumber, mFieldPosition);
+        }
+        if (mPrefix == null) {
+            return out.append(String.format(mPattern, mNumber.toString(), unit));
+        }
+        out.append(mPrefix);
+        if (mValueFirst) {
+            out.append(mNumber).append(mSeparator).append(unit);
+        } else {
+            out.append(unit).append(mSeparator).append(mNumber);
+        }
+        return out.append(mSuffix);
+    }
+}
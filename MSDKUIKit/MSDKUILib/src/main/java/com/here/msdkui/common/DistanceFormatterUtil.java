@@ -19,8 +19,7 @@ package com.here.msdkui.common;
 import android.content.Context;
 
 import com.here.msdkui.R;
-import com.here.msdkui.common.measurements.LengthConverter;
-import com.here.msdkui.common.measurements.Measurement;
+import com.here.msdkui.common.measurements.ConversionTable;
 import com.here.msdkui.common.measurements.MeasurementUnit;
 import com.here.msdkui.common.measurements.UnitSystem;
 
@@ -28,31 +27,30 @@ import java.text.NumberFormat;
 
 /**
  * A convenience class to convert distance in meters to a string representation.
+ * <p>All methods can be called from any thread, numbers are formatted with the current default
+ * locale, see {@link NumberFormatProvider}.</p>
  */
 public final class DistanceFormatterUtil {
 
     public static final int THOUSAND = 1000;
-    private static final int TEN = 10;
-    private static final int TWO_DIGITS = 2;
+    static final int TEN = 10;
+    static final int TWO_DIGITS = 2;
 
-    private static final int METER_THRESHOLD_10 = 10;
-    private static final int METER_THRESHOLD_200 = 200; // This is 1/5 of one kilometer.
-    private static final int METER_THRESHOLD_975 = 975; // Special case where roundNear50 will result in a unit change.
-    private static final int METER_THRESHOLD = 999;
-    private static final int KM_THRESHOLD = 9950;
+    static final int METER_THRESHOLD_10 = 10;
+    static final int METER_THRESHOLD_200 = 200; // This is 1/5 of one kilometer.
+    static final int METER_THRESHOLD_975 = 975; // Special case where roundNear50 will result in a unit change.
+    static final int METER_THRESHOLD = 999;
+    static final int KM_THRESHOLD = 9950;
 
-    private static final int YARDS_THRESHOLD_10 = 10;
-    private static final int YARDS_THRESHOLD_350 = 350; // This is around 1/5 of one mile.
-    private static final int YARDS_THRESHOLD_1750 = 1750; // Special case where roundNear50 will result in a unit change.
-    private static final int YARDS_THRESHOLD = 1759;
+    static final int YARDS_THRESHOLD_10 = 10;
+    static final int YARDS_THRESHOLD_350 = 350; // This is around 1/5 of one mile.
+    static final int YARDS_THRESHOLD_1750 = 1750; // Special case where roundNear50 will result in a unit change.
+    static final int YARDS_THRESHOLD = 1759;
 
-    private static final int FEET_THRESHOLD_10 = 10;
-    private static final int FEET_THRESHOLD_1050 = 1050; // This is around 1/5 of one mile.
-    private static final int FEET_THRESHOLD_5275 = 5275; // Special case where roundNear50 will result in a unit change.
-    private static final int FEET_THRESHOLD = 5279;
-
-
-    private static final NumberFormat FORMATTER = NumberFormat.getInstance();
+    static final int FEET_THRESHOLD_10 = 10;
+    static final int FEET_THRESHOLD_1050 = 1050; // This is around 1/5 of one mile.
+    static final int FEET_THRESHOLD_5275 = 5275; // Special case where roundNear50 will result in a unit change.
+    static final int FEET_THRESHOLD = 5279;
 
     private DistanceFormatterUtil() {
     }
@@ -99,14 +97,15 @@ public final class DistanceFormatterUtil {
     public static String formatInMetricSystem(final Context context, final long distance) {
         final String value;
         final String unit;
+        final NumberFormat formatter = NumberFormatProvider.get();
         if (distance < METER_THRESHOLD) {
-            value = FORMATTER.format(distance);
+            value = formatter.format(distance);
             unit = context.getString(R.string.msdkui_unit_meter);
         } else if (distance < KM_THRESHOLD) {
-            value = FORMATTER.format(roundToSignificantDigits((double) distance / THOUSAND, TWO_DIGITS));
+            value = formatter.format(roundToSignificantDigits((double) distance / THOUSAND, TWO_DIGITS));
             unit = context.getString(R.string.msdkui_unit_kilometer);
         } else {
-            value = FORMATTER.format(Math.round((double) distance / THOUSAND));
+            value = formatter.format(Math.round((double) distance / THOUSAND));
             unit = context.getString(R.string.msdkui_unit_kilometer);
         }
         return String.format(context.getString(R.string.msdkui_distance_value_with_unit), value, unit);
@@ -125,20 +124,17 @@ public final class DistanceFormatterUtil {
     public static String formatInImperialUsSystem(final Context context, final long distance) {
         final String value;
         final String unit;
-        LengthConverter lengthConverter = new LengthConverter();
-        Measurement distanceMeters = new Measurement(distance, MeasurementUnit.METER);
-        final double distanceYards = lengthConverter.convert(distanceMeters.getValue(),
-                distanceMeters.getUnit(), MeasurementUnit.YARD).getValue();
-        final double distanceMiles = lengthConverter.convert(distanceMeters.getValue(),
-                distanceMeters.getUnit(), MeasurementUnit.MILE).getValue();
+        final NumberFormat formatter = NumberFormatProvider.get();
+        final double distanceYards = ConversionTable.convert(distance, MeasurementUnit.METER, MeasurementUnit.YARD);
+        final double distanceMiles = ConversionTable.convert(distance, MeasurementUnit.METER, MeasurementUnit.MILE);
         if (distanceYards < YARDS_THRESHOLD) {
-            value = FORMATTER.format(Math.round(distanceYards));
+            value = formatter.format(Math.round(distanceYards));
             unit = context.getString(R.string.msdkui_unit_yard);
         } else if (distanceMiles <= TEN) {
-            value = FORMATTER.format(roundToSignificantDigits(distanceMiles, TWO_DIGITS));
+            value = formatter.format(roundToSignificantDigits(distanceMiles, TWO_DIGITS));
             unit = context.getString(R.string.msdkui_unit_mile);
         } else {
-            value = FORMATTER.format(Math.round(distanceMiles));
+            value = formatter.format(Math.round(distanceMiles));
             unit = context.getString(R.string.msdkui_unit_mile);
         }
         return String.format(context.getString(R.string.msdkui_distance_value_with_unit), value, unit);
@@ -157,20 +153,17 @@ public final class DistanceFormatterUtil {
     public static String formatInImperialUkSystem(final Context context, final long distance) {
         final String value;
         final String unit;
-        LengthConverter lengthConverter = new LengthConverter();
-        Measurement distanceMeters = new Measurement(distance, MeasurementUnit.METER);
-        final double distanceFeet = lengthConverter.convert(distanceMeters.getValue(),
-                distanceMeters.getUnit(), MeasurementUnit.FOOT).getValue();
-        final double distanceMiles = lengthConverter.convert(distanceMeters.getValue(),
-                distanceMeters.getUnit(), MeasurementUnit.MILE).getValue();
+        final NumberFormat formatter = NumberFormatProvider.get();
+        final double distanceFeet = ConversionTable.convert(distance, MeasurementUnit.METER, MeasurementUnit.FOOT);
+        final double distanceMiles = ConversionTable.convert(distance, MeasurementUnit.METER, MeasurementUnit.MILE);
         if (distanceFeet < FEET_THRESHOLD) {
-            value = FORMATTER.format(Math.round(distanceFeet));
+            value = formatter.format(Math.round(distanceFeet));
             unit = context.getString(R.string.msdkui_unit_foot);
         } else if (distanceMiles <= TEN) {
-            value = FORMATTER.format(roundToSignificantDigits(distanceMiles, TWO_DIGITS));
+            value = formatter.format(roundToSignificantDigits(distanceMiles, TWO_DIGITS));
             unit = context.getString(R.string.msdkui_unit_mile);
         } else {
-            value = FORMATTER.format(Math.round(distanceMiles));
+            value = formatter.format(Math.round(distanceMiles));
             unit = context.getString(R.string.msdkui_unit_mile);
         }
         return String.format(context.getString(R.string.msdkui_distance_value_with_unit), value, unit);
@@ -233,23 +226,24 @@ public final class DistanceFormatterUtil {
     public static String formatDistanceInMetricSystem(final Context context, final long distance) {
         final String value;
         final String unit;
+        final NumberFormat formatter = NumberFormatProvider.get();
         if (distance < METER_THRESHOLD_975) {
             unit = context.getString(R.string.msdkui_unit_meter);
         } else {
             unit = context.getString(R.string.msdkui_unit_kilometer);
         }
         if (distance < METER_THRESHOLD_10) {
-            value = FORMATTER.format(distance);
+            value = formatter.format(distance);
         } else if (distance < METER_THRESHOLD_200) {
-            value = FORMATTER.format(roundNear10(distance));
+            value = formatter.format(roundNear10(distance));
         } else if (distance < METER_THRESHOLD_975) {
-            value = FORMATTER.format(roundNear50(distance));
+            value = formatter.format(roundNear50(distance));
         } else if (distance < METER_THRESHOLD) {
-            value = FORMATTER.format(roundToSignificantDigits((double) roundNear50(distance) / THOUSAND, TWO_DIGITS));
+            value = formatter.format(roundToSignificantDigits((double) roundNear50(distance) / THOUSAND, TWO_DIGITS));
         } else if (distance <= KM_THRESHOLD) {
-            value = FORMATTER.format(roundToSignificantDigits((double) distance / THOUSAND, TWO_DIGITS));
+            value = formatter.format(roundToSignificantDigits((double) distance / THOUSAND, TWO_DIGITS));
         } else {
-            value = FORMATTER.format(Math.round((double) distance / THOUSAND));
+            value = formatter.format(Math.round((double) distance / THOUSAND));
         }
         return String.format(context.getString(R.string.msdkui_distance_value_with_unit), value, unit);
     }
@@ -282,29 +276,26 @@ public final class DistanceFormatterUtil {
     public static String formatDistanceInImperialUsSystem(final Context context, final long distance) {
         final String value;
         final String unit;
-        LengthConverter lengthConverter = new LengthConverter();
-        Measurement distanceMeters = new Measurement(distance, MeasurementUnit.METER);
-        final double distanceYards = lengthConverter.convert(distanceMeters.getValue(),
-                distanceMeters.getUnit(), MeasurementUnit.YARD).getValue();
-        final double distanceMiles = lengthConverter.convert(distanceMeters.getValue(),
-                distanceMeters.getUnit(), MeasurementUnit.MILE).getValue();
+        final NumberFormat formatter = NumberFormatProvider.get();
+        final double distanceYards = ConversionTable.convert(distance, MeasurementUnit.METER, MeasurementUnit.YARD);
+        final double distanceMiles = ConversionTable.convert(distance, MeasurementUnit.METER, MeasurementUnit.MILE);
         if (distanceYards < YARDS_THRESHOLD_1750) {
             unit = context.getString(R.string.msdkui_unit_yard);
         } else {
             unit = context.getString(R.string.msdkui_unit_mile);
         }
         if (distanceYards < YARDS_THRESHOLD_10) {
-            value = FORMATTER.format(Math.round(distanceYards));
+            value = formatter.format(Math.round(distanceYards));
         } else if (distanceYards < YARDS_THRESHOLD_350) {
-            value = FORMATTER.format(roundNear10((long) distanceYards));
+            value = formatter.format(roundNear10((long) distanceYards));
         } else if (distanceYards < YARDS_THRESHOLD_1750) {
-            value = FORMATTER.format(roundNear50((long) distanceYards));
+            value = formatter.format(roundNear50((long) distanceYards));
         } else if (distanceYards < YARDS_THRESHOLD) {
-            value = FORMATTER.format(roundToSignificantDigits(distanceMiles, TWO_DIGITS));
+            value = formatter.format(roundToSignificantDigits(distanceMiles, TWO_DIGITS));
         } else if (distanceMiles <= TEN) {
-            value = FORMATTER.format(roundToSignificantDigits(distanceMiles, TWO_DIGITS));
+            value = formatter.format(roundToSignificantDigits(distanceMiles, TWO_DIGITS));
         } else {
-            value = FORMATTER.format(Math.round(distanceMiles));
+            value = formatter.format(Math.round(distanceMiles));
         }
         return String.format(context.getString(R.string.msdkui_distance_value_with_unit), value, unit);
     }
@@ -337,33 +328,92 @@ public final class DistanceFormatterUtil {
     public static String formatDistanceInImperialUkSystem(final Context context, final long distance) {
         final String value;
         final String unit;
-        LengthConverter lengthConverter = new LengthConverter();
-        Measurement distanceMeters = new Measurement(distance, MeasurementUnit.METER);
-        final double distanceFeet = lengthConverter.convert(distanceMeters.getValue(),
-                distanceMeters.getUnit(), MeasurementUnit.FOOT).getValue();
-        final double distanceMiles = lengthConverter.convert(distanceMeters.getValue(),
-                distanceMeters.getUnit(), MeasurementUnit.MILE).getValue();
+        final NumberFormat formatter = NumberFormatProvider.get();
+        final double distanceFeet = ConversionTable.convert(distance, MeasurementUnit.METER, MeasurementUnit.FOOT);
+        final double distanceMiles = ConversionTable.convert(distance, MeasurementUnit.METER, MeasurementUnit.MILE);
         if (distanceFeet < FEET_THRESHOLD_5275) {
             unit = context.getString(R.string.msdkui_unit_foot);
         } else {
             unit = context.getString(R.string.msdkui_unit_mile);
         }
         if (distanceFeet < FEET_THRESHOLD_10) {
-            value = FORMATTER.format(Math.round(distanceFeet));
+            value = formatter.format(Math.round(distanceFeet));
         } else if (distanceFeet < FEET_THRESHOLD_1050) {
-            value = FORMATTER.format(roundNear10((long) distanceFeet));
+            value = formatter.format(roundNear10((long) distanceFeet));
         } else if (distanceFeet < FEET_THRESHOLD_5275) {
-            value = FORMATTER.format(roundNear50((long) distanceFeet));
+            value = formatter.format(roundNear50((long) distanceFeet));
         } else if (distanceFeet < FEET_THRESHOLD) {
-            value = FORMATTER.format(roundToSignificantDigits(distanceMiles, TWO_DIGITS));
+            value = formatter.format(roundToSignificantDigits(distanceMiles, TWO_DIGITS));
         } else if (distanceMiles <= TEN) {
-            value = FORMATTER.format(roundToSignificantDigits(distanceMiles, TWO_DIGITS));
+            value = formatter.format(roundToSignificantDigits(distanceMiles, TWO_DIGITS));
         } else {
-            value = FORMATTER.format(Math.round(distanceMiles));
+            value = formatter.format(Math.round(distanceMiles));
         }
         return String.format(context.getString(R.string.msdkui_distance_value_with_unit), value, unit);
     }
 
+    /**
+     * Gets the distance the way it is displayed by
+     * {@link DistanceFormatterUtil#formatDistance(Context, long, UnitSystem)}. Two distances
+     * having the same displayed distance result in the same string representation, so it can be
+     * used to skip updates that would not change the UI.
+     *
+     * @param distance
+     *         the distance in meters.
+     * @param system
+     *         the unit system {@link UnitSystem}.
+     *
+     * @return the rounded distance expressed in the smallest unit of the unit system. These are
+     * meters for {@link UnitSystem#METRIC}, yards for {@link UnitSystem#IMPERIAL_US} and feet for
+     * {@link UnitSystem#IMPERIAL_UK}.
+     */
+    public static double getDisplayedDistance(final long distance, final UnitSystem system) {
+        switch (system) {
+            case IMPERIAL_UK:
+                return getDisplayedImperialDistance(distance, MeasurementUnit.FOOT, FEET_THRESHOLD_10,
+                        FEET_THRESHOLD_1050, FEET_THRESHOLD_5275);
+            case IMPERIAL_US:
+                return getDisplayedImperialDistance(distance, MeasurementUnit.YARD, YARDS_THRESHOLD_10,
+                        YARDS_THRESHOLD_350, YARDS_THRESHOLD_1750);
+            case METRIC:
+            default: // metric
+                if (distance < METER_THRESHOLD_10) {
+                    return distance;
+                } else if (distance < METER_THRESHOLD_200) {
+                    return roundNear10(distance);
+                } else if (distance < METER_THRESHOLD_975) {
+                    return roundNear50(distance);
+                } else if (distance < METER_THRESHOLD) {
+                    return roundToSignificantDigits((double) roundNear50(distance) / THOUSAND, TWO_DIGITS) * THOUSAND;
+                } else if (distance <= KM_THRESHOLD) {
+                    return roundToSignificantDigits((double) distance / THOUSAND, TWO_DIGITS) * THOUSAND;
+                }
+                return Math.round((double) distance / THOUSAND) * THOUSAND;
+        }
+    }
+
+    /**
+     * Gets the displayed imperial distance in the given small unit, see
+     * {@link DistanceFormatterUtil#getDisplayedDistance(long, UnitSystem)}.
+     */
+    private static double getDisplayedImperialDistance(final long distance, final MeasurementUnit smallUnit,
+            final int threshold10, final int threshold50, final int mileThreshold) {
+        final double distanceSmall = ConversionTable.convert(distance, MeasurementUnit.METER, smallUnit);
+        if (distanceSmall < threshold10) {
+            return Math.round(distanceSmall);
+        } else if (distanceSmall < threshold50) {
+            return roundNear10((long) distanceSmall);
+        } else if (distanceSmall < mileThreshold) {
+            return roundNear50((long) distanceSmall);
+        }
+        final double distanceMiles = ConversionTable.convert(distance, MeasurementUnit.METER, MeasurementUnit.MILE);
+        final double smallUnitsPerMile = ConversionTable.convert(1, MeasurementUnit.MILE, smallUnit);
+        if (distanceMiles <= TEN) {
+            return roundToSignificantDigits(distanceMiles, TWO_DIGITS) * smallUnitsPerMile;
+        }
+        return Math.round(distanceMiles) * smallUnitsPerMile;
+    }
+
     /**
      * Rounds the given number to it's nearest division of 50.
      *
@@ -377,7 +427,7 @@ public final class DistanceFormatterUtil {
      *
      * @return rounded result.
      */
-    private static double roundNear50(long number) {
+    static double roundNear50(long number) {
         return (Math.round(((double) number / 100) * 2) / 2.0) * 100;
     }
 
@@ -394,7 +444,7 @@ public final class DistanceFormatterUtil {
      *
      * @return rounded result.
      */
-    private static double roundNear10(long number) {
+    static double roundNear10(long number) {
         return Math.round((double) number / 10) * 10;
     }
 
@@ -408,7 +458,7 @@ public final class DistanceFormatterUtil {
      *
      * @return a rounded value.
      */
-    private static double roundToSignificantDigits(final double number, final int significantDigits) {
+    static double roundToSignificantDigits(final double number, final int significantDigits) {
         if (number == 0) {
             return 0;
         }
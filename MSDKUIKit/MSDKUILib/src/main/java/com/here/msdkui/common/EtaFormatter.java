@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common;
+
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+import android.util.LongSparseArray;
+
+import androidx.annotation.NonNull;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * A reusable formatter for estimated times of arrival and durations.
+ * <p>The output is the same as the one of {@link DateFormatterUtil#format(Context, Date)} and
+ * {@link TimeFormatterUtil#format(Context, long)}. Arrival times are only displayed with minute
+ * precision and durations are rounded, so the results are kept in bounded caches: an arrival time is
+ * keyed by its epoch minute and whether it is today, a duration by its displayed time, see
+ * {@link TimeFormatterUtil#getDisplayedTime(long)}. Updates arriving every second therefore format
+ * nothing most of the time. Instances are not thread safe, use one instance per thread.</p>
+ * <p>The caches are dropped when the default locale changes and when the system reports a changed
+ * time zone, locale, time or 24-hour setting, see {@link #invalidate()}.</p>
+ */
+public final class EtaFormatter {
+
+    /**
+     * Maximum number of cached arrival times and durations.
+     */
+    public static final int MAX_CACHED_RESULTS = 64;
+
+    private static final long MINUTE_IN_MILLISECONDS = 60 * 1000L;
+
+    private static volatile int sGeneration;
+    private static volatile Day sToday;
+    private static boolean sReceiverRegistered;
+
+    private final Context mContext;
+    private final LongSparseArray<String> mEtaResults = new LongSparseArray<>();
+    private final LongSparseArray<String> mDurationResults = new LongSparseArray<>();
+
+    // The state the cached results are valid for.
+    private int mGeneration;
+    private Locale mLocale;
+    private long mTodayStart;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param context
+     *         the required context.
+     */
+    public EtaFormatter(@NonNull Context context) {
+        mContext = context;
+        registerReceiver(context);
+        reset();
+    }
+
+    /**
+     * Drops the cached results of all formatters, they are formatted again on next use. This is
+     * done automatically when the system reports a changed time zone, locale or time.
+     */
+    public static void invalidate() {
+        synchronized (EtaFormatter.class) {
+            sGeneration++;
+        }
+    }
+
+    /**
+     * Converts an estimated time of arrival to a short string representation, see
+     * {@link DateFormatterUtil#format(Context, Date)}.
+     *
+     * @param eta
+     *         the {@link Date} to be converted to string representation.
+     *
+     * @return a string containing the formatted date.
+     */
+    public @NonNull String formatEta(@NonNull Date eta) {
+        validate();
+        final long time = eta.getTime();
+        final Day day = getToday();
+        if (day.mStart != mTodayStart) {
+            // results depending on "today" are outdated
+            mTodayStart = day.mStart;
+            mEtaResults.clear();
+        }
+        final boolean today = day.contains(time);
+        final long minute = time >= 0 ? time / MINUTE_IN_MILLISECONDS : (time + 1) / MINUTE_IN_MILLISECONDS - 1;
+        final long key = minute * 2 + (today ? 1 : 0);
+        String result = mEtaResults.get(key);
+        if (result == null) {
+            result = DateFormatterUtil.format(mContext, eta);
+            put(mEtaResults, key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Converts a duration to a string representation showing days, hours and minutes, see
+     * {@link TimeFormatterUtil#format(Context, long)}.
+     *
+     * @param milliseconds
+     *         duration in milliseconds.
+     *
+     * @return a formatted string.
+     */
+    public @NonNull String formatDuration(long milliseconds) {
+        validate();
+        final long key = TimeFormatterUtil.getDisplayedTime(milliseconds);
+        String result = mDurationResults.get(key);
+        if (result == null) {
+            result = TimeFormatterUtil.format(mContext, milliseconds);
+            put(mDurationResults, key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Converts a duration in seconds to a string representation, see
+     * {@link #formatDuration(long)}.
+     *
+     * @param seconds
+     *         duration in seconds.
+     *
+     * @return a formatted string.
+     */
+    public @NonNull String formatDuration(int seconds) {
+        return formatDuration(seconds * 1000L);
+    }
+
+    /**
+     * Checks if the given time is on the current day in the default time zone, which decides how an
+     * arrival time is displayed. The bounds of the current day are computed once per day and dropped
+     * together with the caches of all formatters, e.g. when the system reports a changed time zone to
+     * the receiver registered by the first formatter, see {@link #invalidate()}.
+     *
+     * @param time
+     *         the time in milliseconds since the epoch.
+     *
+     * @return true if the time is today, false otherwise.
+     */
+    public static boolean isToday(long time) {
+        return getToday().contains(time);
+    }
+
+    /**
+     * Gets the start of the current day in the default time zone, see {@link #isToday(long)}. It
+     * changes at midnight and when the time zone changes, so an arrival time in the same minute is
+     * displayed the same way as long as the start of the day is the same.
+     *
+     * @return the start of the current day in milliseconds since the epoch.
+     */
+    public static long getTodayStart() {
+        return getToday().mStart;
+    }
+
+    private static Day getToday() {
+        final long now = System.currentTimeMillis();
+        final int generation = sGeneration;
+        Day today = sToday;
+        if (today == null || today.mGeneration != generation || !today.contains(now)) {
+            today = new Day(generation, now);
+            sToday = today;
+        }
+        return today;
+    }
+
+    /**
+     * Drops the cached results if the state they depend on changed.
+     */
+    private void validate() {
+        if (mGeneration != sGeneration || !mLocale.equals(Locale.getDefault())) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        mGeneration = sGeneration;
+        mLocale = Locale.getDefault();
+        mEtaResults.clear();
+        mDurationResults.clear();
+        mTodayStart = getToday().mStart;
+    }
+
+    private static void put(LongSparseArray<String> results, long key, String result) {
+        if (results.size() >= MAX_CACHED_RESULTS) {
+            results.clear();
+        }
+        results.put(key, result);
+    }
+
+    /**
+     * Registers a receiver invalidating all formatters once per process.
+     */
+    private static void registerReceiver(Context context) {
+        synchronized (EtaFormatter.class) {
+            if (sReceiverRegistered) {
+                return;
+            }
+            final IntentFilter filter = new IntentFilter();
+            filter.addAction(Intent.ACTION_TIMEZONE_CHANGED);
+            filter.addAction(Intent.ACTION_LOCALE_CHANGED);
+            // also sent when the 24-hour setting changes
+            filter.addAction(Intent.ACTION_TIME_CHANGED);
+            final Context applicationContext = context.getApplicationContext();
+            final Context receiverOwner = applicationContext == null ? context : applicationContext;
+            receiverOwner.registerReceiver(new BroadcastReceiver() {
+                @Override
+                public void onReceive(Context receiverContext, Intent intent) {
+                    invalidate();
+                }
+            }, filter);
+            sReceiverRegistered = true;
+        }
+    }
+
+    /**
+     * The bounds of a day in the default time zone.
+     */
+    private static final class Day {
+
+        private final int mGeneration;
+        private final long mStart;
+        private final long mEnd;
+
+        Day(int generation, long time) {
+            mGeneration = generation;
+            final Calendar calendar = Calendar.getInstance();
+            calendar.setTimeInMillis(time);
+            calendar.set(Calendar.HOUR_OF_DAY, 0);
+            calendar.set(Calendar.MINUTE, 0);
+            calendar.set(Calendar.SECOND, 0);
+            calendar.set(Calendar.MILLISECOND, 0);
+            mStart = calendar.getTimeInMillis();
+            calendar.add(Calendar.DAY_OF_MONTH, 1);
+            mEnd = calendar.getTimeInMillis();
+        }
+
+        boolean contains(long time) {
+            return time >= mStart && time < mEnd;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.here.msdkui.common;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Utility class to fan computations out to an {@link Executor}.
+ */
+public final class ExecutorUtil {
+
+    private ExecutorUtil() {
+    }
+
+    /**
+     * Runs the given tasks in parallel and waits for their results. All tasks are passed to the
+     * executor, the calling thread then collects the results in order and runs every task itself
+     * which the executor did not start yet. So all tasks complete even if the executor is busy or
+     * never runs them.
+     *
+     * @param executor
+     *         the {@link Executor} to run the tasks on.
+     * @param tasks
+     *         the tasks to run.
+     * @param <T>
+     *         type of the results.
+     *
+     * @return the results in the order of the tasks.
+     * @throws IllegalStateException
+     *         if a task failed or the calling thread was interrupted.
+     */
+    public static <T> List<T> invokeAll(@NonNull Executor executor, @NonNull List<? extends Callable<T>> tasks) {
+        final List<FutureTask<T>> futures = new ArrayList<>(tasks.size());
+        for (final Callable<T> task : tasks) {
+            final FutureTask<T> future = new FutureTask<>(task);
+            futures.add(future);
+            executor.execute(future);
+        }
+        final List<T> results = new ArrayList<>(futures.size());
+        for (final FutureTask<T> future : futures) {
+            // runs the task here if the executor did not start it yet
+            future.run();
+            results.add(getResult(future));
+        }
+        return results;
+    }
+
+    private static <T> T getResult(FutureTask<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
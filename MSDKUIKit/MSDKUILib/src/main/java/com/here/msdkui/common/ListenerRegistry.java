@@ -0,0 +1,241 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * A thread safe registry of listeners.
+ * <p>Listeners are kept in an array which is copied on every change, so dispatching iterates over a
+ * snapshot without locking and without allocating an iterator. Listeners can be added or removed
+ * from any thread, also while a dispatch is running: such changes take effect with the next
+ * dispatch.</p>
+ * <p>Optionally the listeners are held weakly, listeners which were garbage collected are dropped
+ * on the next change or dispatch.</p>
+ *
+ * @param <L>
+ *         type of the listeners.
+ */
+public final class ListenerRegistry<L> {
+
+    /**
+     * Action to invoke on every listener.
+     *
+     * @param <L>
+     *         type of the listeners.
+     * @param <T>
+     *         type of the argument passed to every listener.
+     */
+    public interface Action<L, T> {
+
+        /**
+         * Invokes the action on a listener.
+         *
+         * @param listener
+         *         the listener.
+         * @param argument
+         *         the argument passed to {@link ListenerRegistry#dispatch(Action, Object)}.
+         */
+        void invoke(@NonNull L listener, @Nullable T argument);
+    }
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private final boolean mWeak;
+    private volatile Object[] mListeners = EMPTY;
+
+    /**
+     * Constructs a new instance holding the listeners strongly.
+     */
+    public ListenerRegistry() {
+        this(false);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param weak
+     *         true to hold the listeners weakly, false otherwise.
+     */
+    public ListenerRegistry(boolean weak) {
+        mWeak = weak;
+    }
+
+    /**
+     * Adds a listener, if it is not registered yet.
+     *
+     * @param listener
+     *         the listener to add, null is ignored.
+     *
+     * @return true if the listener was added, false if it is null or already registered.
+     */
+    public boolean add(@Nullable L listener) {
+        if (listener == null) {
+            return false;
+        }
+        synchronized (this) {
+            final Object[] listeners = mListeners;
+            int count = 0;
+            for (final Object entry : listeners) {
+                final Object current = unwrap(entry);
+                if (listener.equals(current)) {
+                    return false;
+                }
+                if (current != null) {
+                    count++;
+                }
+            }
+            final Object[] updated = new Object[count + 1];
+            int index = 0;
+            for (final Object entry : listeners) {
+                if (unwrap(entry) != null) {
+                    updated[index++] = entry;
+                }
+            }
+            updated[index] = mWeak ? new WeakReference<>(listener) : listener;
+            mListeners = updated;
+            return true;
+        }
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener
+     *         the listener to remove.
+     *
+     * @return true if the listener was removed, false if it was not registered.
+     */
+    public boolean remove(@Nullable L listener) {
+        if (listener == null) {
+            return false;
+        }
+        synchronized (this) {
+            final Object[] listeners = mListeners;
+            boolean found = false;
+            int count = 0;
+            for (final Object entry : listeners) {
+                final Object current = unwrap(entry);
+                if (listener.equals(current)) {
+                    found = true;
+                } else if (current != null) {
+                    count++;
+                }
+            }
+            if (found) {
+                mListeners = copyWithout(listeners, listener, count);
+            }
+            return found;
+        }
+    }
+
+    /**
+     * Removes all listeners.
+     */
+    public void clear() {
+        synchronized (this) {
+            mListeners = EMPTY;
+        }
+    }
+
+    /**
+     * Gets the number of registered listeners. Weakly held listeners which were garbage collected,
+     * but not dropped yet, are included.
+     *
+     * @return the number of listeners.
+     */
+    public int size() {
+        return mListeners.length;
+    }
+
+    /**
+     * Checks if no listener is registered.
+     *
+     * @return true if there are no listeners, false otherwise.
+     */
+    public boolean isEmpty() {
+        return mListeners.length == 0;
+    }
+
+    /**
+     * Invokes an action on all listeners registered when the dispatch starts. Pass a non-capturing
+     * lambda or method reference as action, so dispatching does not allocate.
+     *
+     * @param action
+     *         the action to invoke on every listener.
+     * @param argument
+     *         the argument to pass to the action.
+     * @param <T>
+     *         type of the argument.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> void dispatch(@NonNull Action<L, T> action, @Nullable T argument) {
+        final Object[] listeners = mListeners;
+        boolean collected = false;
+        for (int i = 0; i < listeners.length; i++) {
+            final Object listener = unwrap(listeners[i]);
+            if (listener == null) {
+                collected = true;
+            } else {
+                action.invoke((L) listener, argument);
+            }
+        }
+        if (collected) {
+            pruneCollected();
+        }
+    }
+
+    private void pruneCollected() {
+        synchronized (this) {
+            final Object[] listeners = mListeners;
+            int count = 0;
+            for (final Object entry : listeners) {
+                if (unwrap(entry) != null) {
+                    count++;
+                }
+            }
+            if (count != listeners.length) {
+                mListeners = copyWithout(listeners, null, count);
+            }
+        }
+    }
+
+    /**
+     * Copies all entries which are neither equal to the given listener nor garbage collected.
+     */
+    private static Object[] copyWithout(Object[] listeners, @Nullable Object listener, int count) {
+        if (count == 0) {
+            return EMPTY;
+        }
+        final Object[] updated = new Object[count];
+        int index = 0;
+        for (final Object entry : listeners) {
+            final Object current = unwrap(entry);
+            if (current != null && (listener == null || !listener.equals(current)) && index < count) {
+                updated[index++] = entry;
+            }
+        }
+        return updated;
+    }
+
+    private static Object unwrap(Object entry) {
+        return entry instanceof WeakReference ? ((WeakReference<?>) entry).get() : entry;
+    }
+}
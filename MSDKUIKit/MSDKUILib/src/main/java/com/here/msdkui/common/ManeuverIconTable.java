@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common;
+
+import androidx.annotation.DrawableRes;
+import androidx.annotation.Nullable;
+
+import com.here.android.mpa.routing.Maneuver;
+import com.here.msdkui.R;
+
+/**
+ * Maps {@link Maneuver.Icon} values to the drawable resources of the maneuver icons.
+ * <p>The drawable {@code ic_maneuver_icon_<n>} belongs to the icon with the ordinal {@code n}.
+ * The table is indexed by ordinal, so lookups need neither string building nor
+ * {@link android.content.res.Resources#getIdentifier(String, String, String)}.</p>
+ */
+public final class ManeuverIconTable {
+
+    private static final int[] ICON_IDS = {
+            R.drawable.ic_maneuver_icon_0,
+            R.drawable.ic_maneuver_icon_1,
+            R.drawable.ic_maneuver_icon_2,
+            R.drawable.ic_maneuver_icon_3,
+            R.drawable.ic_maneuver_icon_4,
+            R.drawable.ic_maneuver_icon_5,
+            R.drawable.ic_maneuver_icon_6,
+            R.drawable.ic_maneuver_icon_7,
+            R.drawable.ic_maneuver_icon_8,
+            R.drawable.ic_maneuver_icon_9,
+            R.drawable.ic_maneuver_icon_10,
+            R.drawable.ic_maneuver_icon_11,
+            R.drawable.ic_maneuver_icon_12,
+            R.drawable.ic_maneuver_icon_13,
+            R.drawable.ic_maneuver_icon_14,
+            R.drawable.ic_maneuver_icon_15,
+            R.drawable.ic_maneuver_icon_16,
+            R.drawable.ic_maneuver_icon_17,
+            R.drawable.ic_maneuver_icon_18,
+            R.drawable.ic_maneuver_icon_19,
+            R.drawable.ic_maneuver_icon_20,
+            R.drawable.ic_maneuver_icon_21,
+            R.drawable.ic_maneuver_icon_22,
+            R.drawable.ic_maneuver_icon_23,
+            R.drawable.ic_maneuver_icon_24,
+            R.drawable.ic_maneuver_icon_25,
+            R.drawable.ic_maneuver_icon_26,
+            R.drawable.ic_maneuver_icon_27,
+            R.drawable.ic_maneuver_icon_28,
+            R.drawable.ic_maneuver_icon_29,
+            R.drawable.ic_maneuver_icon_30,
+            R.drawable.ic_maneuver_icon_31,
+            R.drawable.ic_maneuver_icon_32,
+            R.drawable.ic_maneuver_icon_33,
+            R.drawable.ic_maneuver_icon_34,
+            R.drawable.ic_maneuver_icon_35,
+            R.drawable.ic_maneuver_icon_36,
+            R.drawable.ic_maneuver_icon_37,
+            R.drawable.ic_maneuver_icon_38,
+            R.drawable.ic_maneuver_icon_39,
+            R.drawable.ic_maneuver_icon_40,
+            R.drawable.ic_maneuver_icon_41,
+            R.drawable.ic_maneuver_icon_42,
+            R.drawable.ic_maneuver_icon_43,
+            R.drawable.ic_maneuver_icon_44,
+            R.drawable.ic_maneuver_icon_45,
+            R.drawable.ic_maneuver_icon_46,
+            R.drawable.ic_maneuver_icon_47,
+            R.drawable.ic_maneuver_icon_48
+    };
+
+    private ManeuverIconTable() {
+    }
+
+    /**
+     * Gets the drawable resource of the given maneuver icon.
+     *
+     * @param icon
+     *         the {@link Maneuver.Icon} to get the drawable for.
+     *
+     * @return the drawable resource id or 0 if there is no drawable for the icon.
+     */
+    @DrawableRes
+    public static int getIconId(@Nullable Maneuver.Icon icon) {
+        if (icon == null) {
+            return 0;
+        }
+        return getIconId(icon.ordinal());
+    }
+
+    /**
+     * Gets the drawable resource of the maneuver icon with the given ordinal.
+     *
+     * @param ordinal
+     *         the ordinal of the {@link Maneuver.Icon}.
+     *
+     * @return the drawable resource id or 0 if there is no drawable for the ordinal.
+     */
+    @DrawableRes
+    public static int getIconId(int ordinal) {
+        if (ordinal < 0 || ordinal >= ICON_IDS.length) {
+            return 0;
+        }
+        return ICON_IDS[ordinal];
+    }
+
+    /**
+     * Gets the number of icons in the table.
+     *
+     * @return the number of icons.
+     */
+    public static int size() {
+        return ICON_IDS.length;
+    }
+}
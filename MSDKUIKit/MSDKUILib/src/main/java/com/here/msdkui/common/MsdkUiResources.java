@@ -0,0 +1,346 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.content.res.Resources;
+
+import androidx.annotation.NonNull;
+import androidx.core.os.ConfigurationCompat;
+
+import com.here.msdkui.R;
+import com.here.msdkui.common.measurements.UnitSystem;
+
+import java.util.Locale;
+
+/**
+ * Strings and dimensions of this library which are needed on hot paths, resolved once per
+ * locale, density and ui mode.
+ * <p>{@link #get(Context)} returns an immutable snapshot for the locale, density and ui mode of the
+ * given context. One snapshot is kept for each combination in use, so contexts with different
+ * configurations, e.g. one created by {@link Context#createConfigurationContext(Configuration)},
+ * don't resolve the resources again on every call. Other configuration changes, e.g. orientation, keep the snapshot. The
+ * snapshot can be used from any thread.</p>
+ * <p>This class is also the single place where caches depending on the configuration are dropped.
+ * Whenever {@link #onConfigurationChanged(Configuration)} detects a change of locale, density or
+ * ui mode or {@link #invalidate()} is called, all registered {@link InvalidationListener}s are
+ * called. The caches of {@link NumberFormatProvider}, {@link EtaFormatter} and {@link ThemeUtil}
+ * are registered by default, other caches can register with
+ * {@link #addInvalidationListener(InvalidationListener)}.</p>
+ */
+public final class MsdkUiResources {
+
+    /**
+     * Listener called when configuration dependent caches must be dropped.
+     */
+    public interface InvalidationListener {
+
+        /**
+         * Called when locale, density or ui mode changed or {@link MsdkUiResources#invalidate()}
+         * was called.
+         */
+        void onInvalidate();
+    }
+
+    private static final int[] ORIENTATION_IDS = {R.string.msdkui_maneuver_orientation_north,
+            R.string.msdkui_maneuver_orientation_north_east, R.string.msdkui_maneuver_orientation_east,
+            R.string.msdkui_maneuver_orientation_south_east, R.string.msdkui_maneuver_orientation_south,
+            R.string.msdkui_maneuver_orientation_south_west, R.string.msdkui_maneuver_orientation_west,
+            R.string.msdkui_maneuver_orientation_north_west};
+
+    /**
+     * Maximum number of snapshots kept, the least recently created one is dropped first.
+     */
+    private static final int MAX_SNAPSHOTS = 4;
+
+    private static final MsdkUiResources[] EMPTY = new MsdkUiResources[0];
+    private static final ListenerRegistry<InvalidationListener> LISTENERS = new ListenerRegistry<>();
+    private static volatile MsdkUiResources[] sSnapshots = EMPTY;
+    private static volatile MsdkUiResources sLatest;
+
+    static {
+        LISTENERS.add(NumberFormatProvider::invalidate);
+        LISTENERS.add(EtaFormatter::invalidate);
+        LISTENERS.add(ThemeUtil::invalidateColors);
+    }
+
+    private final Locale mLocale;
+    private final int mDensityDpi;
+    private final int mUiMode;
+    private final String mValueNotAvailable;
+    private final String mRoadNameDivider;
+    private final String[] mOrientations = new String[ORIENTATION_IDS.length];
+    private final String mMeter;
+    private final String mKilometer;
+    private final String mYard;
+    private final String mFoot;
+    private final String mMile;
+    private final String mKilometersPerHour;
+    private final String mMilesPerHour;
+    private final int mNextRoadIconMaxWidth;
+    private final int mNextRoadIconMaxHeight;
+
+    private MsdkUiResources(Resources resources, Configuration configuration) {
+        mLocale = ConfigurationCompat.getLocales(configuration).get(0);
+        mDensityDpi = configuration.densityDpi;
+        mUiMode = configuration.uiMode;
+        mValueNotAvailable = resources.getString(R.string.msdkui_value_not_available);
+        mRoadNameDivider = resources.getString(R.string.msdkui_maneuver_road_name_divider);
+        for (int i = 0; i < ORIENTATION_IDS.length; i++) {
+            mOrientations[i] = resources.getString(ORIENTATION_IDS[i]);
+        }
+        mMeter = resources.getString(R.string.msdkui_unit_meter);
+        mKilometer = resources.getString(R.string.msdkui_unit_kilometer);
+        mYard = resources.getString(R.string.msdkui_unit_yard);
+        mFoot = resources.getString(R.string.msdkui_unit_foot);
+        mMile = resources.getString(R.string.msdkui_unit_mile);
+        mKilometersPerHour = resources.getString(R.string.msdkui_unit_km_per_h);
+        mMilesPerHour = resources.getString(R.string.msdkui_unit_miles_per_hour);
+        mNextRoadIconMaxWidth = resources.getDimensionPixelSize(R.dimen.next_road_image_max_width);
+        mNextRoadIconMaxHeight = resources.getDimensionPixelSize(R.dimen.next_road_image_max_height);
+    }
+
+    /**
+     * Gets the resources for the current configuration of the given context.
+     *
+     * @param context
+     *         the required context.
+     *
+     * @return a {@link MsdkUiResources} snapshot.
+     */
+    public static @NonNull MsdkUiResources get(@NonNull Context context) {
+        final Resources resources = context.getResources();
+        final Configuration configuration = resources.getConfiguration();
+        final Locale locale = ConfigurationCompat.getLocales(configuration).get(0);
+        MsdkUiResources snapshot = find(sSnapshots, locale, configuration);
+        if (snapshot == null) {
+            synchronized (MsdkUiResources.class) {
+                final MsdkUiResources[] snapshots = sSnapshots;
+                snapshot = find(snapshots, locale, configuration);
+                if (snapshot == null) {
+                    snapshot = new MsdkUiResources(resources, configuration);
+                    final int kept = Math.min(snapshots.length, MAX_SNAPSHOTS - 1);
+                    final MsdkUiResources[] newSnapshots = new MsdkUiResources[kept + 1];
+                    System.arraycopy(snapshots, snapshots.length - kept, newSnapshots, 0, kept);
+                    newSnapshots[kept] = snapshot;
+                    sSnapshots = newSnapshots;
+                }
+            }
+        }
+        if (sLatest != snapshot) {
+            sLatest = snapshot;
+        }
+        return snapshot;
+    }
+
+    private static MsdkUiResources find(MsdkUiResources[] snapshots, Locale locale, Configuration configuration) {
+        for (final MsdkUiResources snapshot : snapshots) {
+            if (snapshot.matches(locale, configuration)) {
+                return snapshot;
+            }
+        }
+        return null;
+    }
+
+    private boolean matches(Locale locale, Configuration configuration) {
+        return mDensityDpi == configuration.densityDpi && mUiMode == configuration.uiMode &&
+                mLocale.equals(locale);
+    }
+
+    /**
+     * Notifies about a configuration change. Caches are dropped if locale, density or ui mode
+     * changed compared to the snapshot returned last by {@link #get(Context)}. Call this method
+     * from {@code onConfigurationChanged} of components handling configuration changes themselves.
+     *
+     * @param newConfiguration
+     *         the new {@link Configuration}.
+     */
+    public static void onConfigurationChanged(@NonNull Configuration newConfiguration) {
+        final MsdkUiResources latest = sLatest;
+        if (latest != null && !latest.matches(ConfigurationCompat.getLocales(newConfiguration).get(0),
+                newConfiguration)) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Drops the resolved resources and calls all registered {@link InvalidationListener}s.
+     */
+    public static void invalidate() {
+        synchronized (MsdkUiResources.class) {
+            sSnapshots = EMPTY;
+            sLatest = null;
+        }
+        dispatchInvalidate();
+    }
+
+    /**
+     * Registers a listener called whenever configuration dependent caches must be dropped. The
+     * listener is held strongly until it is removed.
+     *
+     * @param listener
+     *         the listener to add.
+     *
+     * @return true if the listener was added, false if it is null or already registered.
+     */
+    public static boolean addInvalidationListener(InvalidationListener listener) {
+        return LISTENERS.add(listener);
+    }
+
+    /**
+     * Removes a listener added by {@link #addInvalidationListener(InvalidationListener)}.
+     *
+     * @param listener
+     *         the listener to remove.
+     *
+     * @return true if the listener was removed, false if it was not registered.
+     */
+    public static boolean removeInvalidationListener(InvalidationListener listener) {
+        return LISTENERS.remove(listener);
+    }
+
+    private static void dispatchInvalidate() {
+        LISTENERS.dispatch((listener, ignored) -> listener.onInvalidate(), null);
+    }
+
+    /**
+     * Gets the locale of the configuration, which is used to format strings.
+     *
+     * @return the {@link Locale}.
+     */
+    public @NonNull Locale getLocale() {
+        return mLocale;
+    }
+
+    /**
+     * Gets the string displayed when a value is not available.
+     *
+     * @return the string.
+     */
+    public @NonNull String getValueNotAvailable() {
+        return mValueNotAvailable;
+    }
+
+    /**
+     * Combines two parts of a road name, e.g. road number and road name, the same way as
+     * {@code context.getString(R.string.msdkui_maneuver_road_name_divider, first, second)}.
+     *
+     * @param first
+     *         the first part.
+     * @param second
+     *         the second part.
+     *
+     * @return the combined road name.
+     */
+    public @NonNull String formatRoadName(String first, String second) {
+        return String.format(mLocale, mRoadNameDivider, first, second);
+    }
+
+    /**
+     * Gets the localized orientation, e.g. "north", for the given angle.
+     *
+     * @param angleInDegrees
+     *         the angle in degrees, 0 is north.
+     *
+     * @return the orientation or the angle itself if it is out of range.
+     */
+    public @NonNull String getOrientation(int angleInDegrees) {
+        final int index = ((angleInDegrees + 45 / 2) % 360) / 45;
+        // Normally, this should never happen.
+        if (index < 0 || index >= mOrientations.length) {
+            return String.valueOf(angleInDegrees);
+        }
+        return mOrientations[index];
+    }
+
+    /**
+     * Gets the unit for small distances, e.g. meters.
+     *
+     * @param unitSystem
+     *         the unit system {@link UnitSystem}.
+     *
+     * @return the unit string.
+     */
+    public @NonNull String getSmallDistanceUnit(@NonNull UnitSystem unitSystem) {
+        switch (unitSystem) {
+            case IMPERIAL_UK:
+                return mFoot;
+            case IMPERIAL_US:
+                return mYard;
+            case METRIC:
+            default: // metric
+                return mMeter;
+        }
+    }
+
+    /**
+     * Gets the unit for large distances, e.g. kilometers.
+     *
+     * @param unitSystem
+     *         the unit system {@link UnitSystem}.
+     *
+     * @return the unit string.
+     */
+    public @NonNull String getLargeDistanceUnit(@NonNull UnitSystem unitSystem) {
+        switch (unitSystem) {
+            case IMPERIAL_UK:
+            case IMPERIAL_US:
+                return mMile;
+            case METRIC:
+            default: // metric
+                return mKilometer;
+        }
+    }
+
+    /**
+     * Gets the unit for speeds, e.g. km/h.
+     *
+     * @param unitSystem
+     *         the unit system {@link UnitSystem}.
+     *
+     * @return the unit string.
+     */
+    public @NonNull String getSpeedUnit(@NonNull UnitSystem unitSystem) {
+        switch (unitSystem) {
+            case IMPERIAL_UK:
+            case IMPERIAL_US:
+                return mMilesPerHour;
+            case METRIC:
+            default: // metric
+                return mKilometersPerHour;
+        }
+    }
+
+    /**
+     * Gets the maximum width of next road icons.
+     *
+     * @return the width in pixels.
+     */
+    public int getNextRoadIconMaxWidth() {
+        return mNextRoadIconMaxWidth;
+    }
+
+    /**
+     * Gets the maximum height of next road icons.
+     *
+     * @return the height in pixels.
+     */
+    public int getNextRoadIconMaxHeight() {
+        return mNextRoadIconMaxHeight;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common;
+
+import androidx.annotation.NonNull;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+
+/**
+ * Provides {@link NumberFormat} instances which can be used from any thread.
+ * <p>{@link NumberFormat} is not thread safe, so every thread gets its own instance. An instance is
+ * created for the current default locale and replaced as soon as the default locale changes or
+ * {@link #invalidate()} is called, so formatting never uses a stale locale. No locking is involved,
+ * threads only share a generation counter.</p>
+ */
+public final class NumberFormatProvider {
+
+    private static volatile int sGeneration;
+
+    private static final ThreadLocal<Entry> ENTRIES = new ThreadLocal<>();
+
+    private NumberFormatProvider() {
+    }
+
+    /**
+     * Gets the number format of the calling thread for the current default locale. The returned
+     * instance must not be passed to other threads.
+     *
+     * @return a {@link NumberFormat}.
+     */
+    public static @NonNull NumberFormat get() {
+        final Locale locale = Locale.getDefault();
+        final int generation = sGeneration;
+        Entry entry = ENTRIES.get();
+        if (entry == null || entry.mGeneration != generation || !entry.mLocale.equals(locale)) {
+            entry = new Entry(locale, generation, NumberFormat.getInstance(locale));
+            ENTRIES.set(entry);
+        }
+        return entry.mNumberFormat;
+    }
+
+    /**
+     * Gets the current generation, which changes whenever {@link #invalidate()} is called.
+     *
+     * @return the generation.
+     */
+    static int getGeneration() {
+        return sGeneration;
+    }
+
+    /**
+     * Drops the number formats of all threads, they are created again on next use. Call this method
+     * when the configuration changed in a way which is not reflected by the default locale.
+     */
+    public static void invalidate() {
+        synchronized (NumberFormatProvider.class) {
+            sGeneration++;
+        }
+    }
+
+    /**
+     * A number format of one thread.
+     */
+    private static final class Entry {
+
+        private final Locale mLocale;
+        private final int mGeneration;
+        private final NumberFormat mNumberFormat;
+
+        Entry(Locale locale, int generation, NumberFormat numberFormat) {
+            mLocale = locale;
+            mGeneration = generation;
+            mNumberFormat = numberFormat;
+        }
+    }
+}
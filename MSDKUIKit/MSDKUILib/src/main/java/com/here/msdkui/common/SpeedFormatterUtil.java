@@ -18,16 +18,22 @@ package com.here.msdkui.common;
 
 import android.content.Context;
 
-import com.here.msdkui.R;
-import com.here.msdkui.common.measurements.Measurement;
+import com.here.msdkui.common.measurements.ConversionTable;
 import com.here.msdkui.common.measurements.MeasurementUnit;
-import com.here.msdkui.common.measurements.SpeedConverter;
 import com.here.msdkui.common.measurements.UnitSystem;
 
 /**
  * A convenience class to convert velocity in meters per second to velocity in a different unit.
  */
 public final class SpeedFormatterUtil {
+
+    /**
+     * Speeds from 0 up to this value are kept as strings, see {@link #formatToString(double, UnitSystem)}.
+     */
+    public static final int MAX_CACHED_SPEED = 400;
+
+    private static final String[] SPEED_STRINGS = new String[MAX_CACHED_SPEED + 1];
+
     private SpeedFormatterUtil() {}
 
     /**
@@ -41,25 +47,48 @@ public final class SpeedFormatterUtil {
      * @return velocity in specified unit system.
      */
     public static int format(final double metersPerSecond, final UnitSystem system) {
-        SpeedConverter speedConverter = new SpeedConverter();
-        Measurement speedMeterPerSecond = new Measurement(metersPerSecond,
-                MeasurementUnit.METERS_PER_SECOND);
         double ret;
         switch (system) {
             case IMPERIAL_UK:
             case IMPERIAL_US:
-                ret = speedConverter.convert(speedMeterPerSecond.getValue(),
-                        speedMeterPerSecond.getUnit(), MeasurementUnit.MILES_PER_HOUR).getValue();
+                ret = ConversionTable.convert(metersPerSecond, MeasurementUnit.METERS_PER_SECOND,
+                        MeasurementUnit.MILES_PER_HOUR);
                 break;
             case METRIC:
             default: // metric
-                ret = speedConverter.convert(speedMeterPerSecond.getValue(),
-                        speedMeterPerSecond.getUnit(), MeasurementUnit.KILOMETERS_PER_HOUR).getValue();
+                ret = ConversionTable.convert(metersPerSecond, MeasurementUnit.METERS_PER_SECOND,
+                        MeasurementUnit.KILOMETERS_PER_HOUR);
                 break;
         }
         return (int) Math.round(ret);
     }
 
+    /**
+     * Converts velocity expressed in meters per second to specified unit system and returns it as
+     * string. The same as {@code String.valueOf(format(metersPerSecond, system))}, but the strings of
+     * speeds up to {@link #MAX_CACHED_SPEED} are only created once.
+     *
+     * @param metersPerSecond
+     *         velocity in meters per second.
+     * @param system
+     *         the unit system {@link UnitSystem}.
+     *
+     * @return velocity in specified unit system as string.
+     */
+    public static String formatToString(final double metersPerSecond, final UnitSystem system) {
+        final int speed = format(metersPerSecond, system);
+        if (speed < 0 || speed > MAX_CACHED_SPEED) {
+            return String.valueOf(speed);
+        }
+        // Strings are immutable, so a racing thread at worst creates the same string again.
+        String speedString = SPEED_STRINGS[speed];
+        if (speedString == null) {
+            speedString = String.valueOf(speed);
+            SPEED_STRINGS[speed] = speedString;
+        }
+        return speedString;
+    }
+
     /**
      * Returns abbreviation of velocity string in specified unit system.
      *
@@ -71,13 +100,6 @@ public final class SpeedFormatterUtil {
      * @return abbreviation of velocity string in specified unit system.
      */
     public static String getUnitString(final Context context, final UnitSystem system) {
-        switch (system) {
-            case IMPERIAL_UK:
-            case IMPERIAL_US:
-                return context.getString(R.string.msdkui_unit_miles_per_hour);
-            case METRIC:
-            default: // metric
-                return context.getString(R.string.msdkui_unit_km_per_h);
-        }
+        return MsdkUiResources.get(context).getSpeedUnit(system);
     }
 }
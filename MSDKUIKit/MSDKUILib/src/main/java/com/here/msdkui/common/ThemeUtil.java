@@ -23,13 +23,19 @@ import android.content.res.TypedArray;
 import android.graphics.Color;
 import android.graphics.drawable.ColorDrawable;
 import android.graphics.drawable.Drawable;
+import android.os.Build;
 import androidx.annotation.ColorInt;
 import androidx.core.content.ContextCompat;
 import android.util.Log;
+import android.util.SparseIntArray;
 import android.util.TypedValue;
 
 import com.here.msdkui.R;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * A convenience class to access theme attributes.
  */
@@ -37,6 +43,9 @@ public final class ThemeUtil {
 
     private static final int[] DESIGN_THEME = R.styleable.DarkTheme;
 
+    // Resolved colors per theme, usually there are only a few themes in use.
+    private static final List<ThemeColors> COLOR_CACHES = new ArrayList<>();
+
     private ThemeUtil() {
     }
 
@@ -92,6 +101,8 @@ public final class ThemeUtil {
 
     /**
      * Returns a color value specified by the given theme attribute.
+     * <p>Since API level 23 resolved colors are cached per theme and attribute. The cache of a theme
+     * is dropped when a style is applied to the theme or the ui mode changes, e.g. to night mode.</p>
      *
      * @param context
      *         the required context.
@@ -102,6 +113,62 @@ public final class ThemeUtil {
      */
     @ColorInt
     public static int getColor(Context context, int colorAttribute) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.M) {
+            // a theme changed by applyStyle cannot be detected, see getThemeColors
+            return resolveColor(context, colorAttribute);
+        }
+        final Resources.Theme theme = context.getTheme();
+        final int uiMode = context.getResources().getConfiguration().uiMode;
+        synchronized (COLOR_CACHES) {
+            final ThemeColors colors = getThemeColors(theme, uiMode);
+            final int index = colors.mColors.indexOfKey(colorAttribute);
+            if (index >= 0) {
+                return colors.mColors.valueAt(index);
+            }
+            final int color = resolveColor(context, colorAttribute);
+            colors.mColors.put(colorAttribute, color);
+            return color;
+        }
+    }
+
+    /**
+     * Drops all cached colors, they are resolved again on next use. Colors are dropped automatically
+     * when the theme or the ui mode changes, so this is only needed if resources changed otherwise.
+     */
+    public static void invalidateColors() {
+        synchronized (COLOR_CACHES) {
+            COLOR_CACHES.clear();
+        }
+    }
+
+    /**
+     * Gets the cached colors of a theme, dropping them if the theme or ui mode changed since they
+     * were resolved. Must be called while holding the lock of {@link #COLOR_CACHES}.
+     */
+    private static ThemeColors getThemeColors(Resources.Theme theme, int uiMode) {
+        // Themes are compared by identity, equal themes may belong to different configurations. The
+        // hash code of a theme reflects the styles applied to it since API level 23.
+        final int themeHash = theme.hashCode();
+        for (int i = COLOR_CACHES.size() - 1; i >= 0; i--) {
+            final ThemeColors colors = COLOR_CACHES.get(i);
+            final Resources.Theme cachedTheme = colors.mTheme.get();
+            if (cachedTheme == null) {
+                COLOR_CACHES.remove(i);
+            } else if (cachedTheme == theme) {
+                if (colors.mThemeHash != themeHash || colors.mUiMode != uiMode) {
+                    colors.mThemeHash = themeHash;
+                    colors.mUiMode = uiMode;
+                    colors.mColors.clear();
+                }
+                return colors;
+            }
+        }
+        final ThemeColors colors = new ThemeColors(theme, themeHash, uiMode);
+        COLOR_CACHES.add(colors);
+        return colors;
+    }
+
+    private static int resolveColor(Context context, int colorAttribute) {
         final TypedValue outValue = new TypedValue();
         context.getTheme().resolveAttribute(colorAttribute, outValue, true);
         if (isColor(outValue)) {
@@ -184,4 +251,21 @@ public final class ThemeUtil {
         context.getTheme().resolveAttribute(themeAttribute, value, true);
         return value.resourceId;
     }
+
+    /**
+     * Colors resolved from one theme, keyed by attribute.
+     */
+    private static final class ThemeColors {
+
+        private final WeakReference<Resources.Theme> mTheme;
+        private final SparseIntArray mColors = new SparseIntArray();
+        private int mThemeHash;
+        private int mUiMode;
+
+        ThemeColors(Resources.Theme theme, int themeHash, int uiMode) {
+            mTheme = new WeakReference<>(theme);
+            mThemeHash = themeHash;
+            mUiMode = uiMode;
+        }
+    }
 }
@@ -81,6 +81,39 @@ public final class TimeFormatterUtil {
         return context.getString(R.string.msdkui_seconds, (seconds / 10) * 10);
     }
 
+    /**
+     * Gets the time the way it is displayed by {@link TimeFormatterUtil#format(Context, long)}.
+     * Two times having the same displayed time result in the same string representation, so it
+     * can be used to skip updates that would not change the UI.
+     *
+     * @param milliseconds
+     *         time in milliseconds.
+     *
+     * @return the displayed time in milliseconds, 1 for times below ten seconds or -1 for negative
+     * times.
+     */
+    public static long getDisplayedTime(final long milliseconds) {
+        if (milliseconds <= 0) {
+            return milliseconds < 0 ? -1 : 0;
+        }
+
+        final int seconds = (int) (milliseconds / SECOND_IN_MILLISECONDS);
+        final int days = seconds / (HOUR_IN_SECONDS * DAY_IN_HOURS);
+        final int hours = seconds / HOUR_IN_SECONDS % DAY_IN_HOURS;
+        final long daysAndHours = (long) days * HOUR_IN_SECONDS * DAY_IN_HOURS + (long) hours * HOUR_IN_SECONDS;
+        if (days > 0) {
+            return daysAndHours * SECOND_IN_MILLISECONDS;
+        }
+
+        final int minutes = (seconds / MINUTE_IN_SECONDS) % MINUTE_IN_SECONDS;
+        if (hours > 0 || minutes > 0) {
+            return (daysAndHours + minutes * MINUTE_IN_SECONDS) * SECOND_IN_MILLISECONDS;
+        }
+
+        // Less than ten seconds is shown as zero seconds, which must differ from zero minutes.
+        return Math.max(1, (seconds / 10) * 10 * SECOND_IN_MILLISECONDS);
+    }
+
     /**
      * Converts seconds to a string representation showing days, hours and minutes.
      *
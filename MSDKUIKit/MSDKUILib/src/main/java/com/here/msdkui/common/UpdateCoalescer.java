@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.view.Choreographer;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Collapses bursts of update requests into a single run of an action on the main thread.
+ * <p>The action runs at most once per display frame when the interval is {@link #PER_FRAME},
+ * otherwise at most once per given interval. Requests made while a run is already scheduled are
+ * merged into that run.</p>
+ */
+public final class UpdateCoalescer {
+
+    /**
+     * Interval value to align runs with the next display frame.
+     */
+    public static final long PER_FRAME = 0;
+
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final Runnable mAction;
+    private final long mIntervalMillis;
+    private final Runnable mRunnable = this::run;
+    private final Runnable mFrameRequest = this::postFrameCallback;
+    private final Choreographer.FrameCallback mFrameCallback = frameTimeNanos -> run();
+
+    private boolean mScheduled;
+    private long mLastRunMillis;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param action
+     *         the action to run on the main thread.
+     * @param intervalMillis
+     *         minimum time between two runs in milliseconds or {@link #PER_FRAME}.
+     */
+    public UpdateCoalescer(@NonNull Runnable action, long intervalMillis) {
+        if (intervalMillis < 0) {
+            throw new IllegalArgumentException("Interval must not be negative.");
+        }
+        mAction = action;
+        mIntervalMillis = intervalMillis;
+    }
+
+    /**
+     * Gets the minimum time between two runs.
+     *
+     * @return interval in milliseconds or {@link #PER_FRAME}.
+     */
+    public long getInterval() {
+        return mIntervalMillis;
+    }
+
+    /**
+     * Requests a run of the action. Has no effect if a run is already scheduled.
+     */
+    public synchronized void request() {
+        if (mScheduled) {
+            return;
+        }
+        mScheduled = true;
+        if (mIntervalMillis == PER_FRAME) {
+            if (Looper.myLooper() == Looper.getMainLooper()) {
+                postFrameCallback();
+            } else {
+                mHandler.post(mFrameRequest);
+            }
+        } else {
+            final long delay = mLastRunMillis + mIntervalMillis - SystemClock.uptimeMillis();
+            mHandler.postDelayed(mRunnable, Math.max(0, delay));
+        }
+    }
+
+    /**
+     * Cancels a scheduled run, if any.
+     */
+    public synchronized void cancel() {
+        if (!mScheduled) {
+            return;
+        }
+        mScheduled = false;
+        mHandler.removeCallbacks(mRunnable);
+        mHandler.removeCallbacks(mFrameRequest);
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            Choreographer.getInstance().removeFrameCallback(mFrameCallback);
+        }
+        // A frame callback that could not be removed returns early in run().
+    }
+
+    private void postFrameCallback() {
+        Choreographer.getInstance().postFrameCallback(mFrameCallback);
+    }
+
+    private void run() {
+        synchronized (this) {
+            if (!mScheduled) {
+                return;
+            }
+            mScheduled = false;
+            mLastRunMillis = SystemClock.uptimeMillis();
+        }
+        mAction.run();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common.measurements;
+
+/**
+ * Converts values between {@link MeasurementUnit}s without allocating any objects.
+ * <p>For every pair of units a multiplier and a divisor are computed once, a conversion is a
+ * single lookup followed by a multiplication and a division. Keeping the divisor separate, instead
+ * of folding it into one factor, gives exactly the same results as converting via the base unit,
+ * e.g. 1760 yards are exactly one mile.</p>
+ */
+public final class ConversionTable {
+
+    private static final double KILOMETER_IN_METERS = 1000;
+    private static final double FOOT_IN_METERS = 0.3048;
+    private static final double YARD_IN_METERS = 0.9144;
+    private static final double MILE_IN_METERS = 1609.344;
+    private static final double SECONDS_IN_HOUR = 3600;
+
+    private static final int UNIT_COUNT = MeasurementUnit.values().length;
+    private static final double[][] MULTIPLIERS = new double[UNIT_COUNT][UNIT_COUNT];
+    private static final double[][] DIVISORS = new double[UNIT_COUNT][UNIT_COUNT];
+
+    static {
+        // a unit in base units (meters or meters per second) is numerator / denominator
+        final double[] numerators = new double[UNIT_COUNT];
+        final double[] denominators = new double[UNIT_COUNT];
+        for (final MeasurementUnit unit : MeasurementUnit.values()) {
+            final int index = unit.ordinal();
+            numerators[index] = getBaseNumerator(unit);
+            denominators[index] = isSpeed(unit) && unit != MeasurementUnit.METERS_PER_SECOND
+                    ? SECONDS_IN_HOUR : 1;
+        }
+        for (final MeasurementUnit from : MeasurementUnit.values()) {
+            for (final MeasurementUnit to : MeasurementUnit.values()) {
+                final int f = from.ordinal();
+                final int t = to.ordinal();
+                if (isSpeed(from) != isSpeed(to)) {
+                    MULTIPLIERS[f][t] = Double.NaN;
+                    DIVISORS[f][t] = 1;
+                } else {
+                    MULTIPLIERS[f][t] = numerators[f] * denominators[t];
+                    DIVISORS[f][t] = denominators[f] * numerators[t];
+                }
+            }
+        }
+    }
+
+    private ConversionTable() {
+    }
+
+    /**
+     * Converts a value in given {@link MeasurementUnit} to another unit.
+     *
+     * @param in
+     *          a value to be converted.
+     *
+     * @param from
+     *          a source {@link MeasurementUnit}.
+     *
+     * @param to
+     *          a target {@link MeasurementUnit}.
+     *
+     * @return the converted value or {@link Double#NaN} if the units are not compatible.
+     */
+    public static double convert(double in, MeasurementUnit from, MeasurementUnit to) {
+        if (from == to) {
+            return in;
+        }
+        final int f = from.ordinal();
+        final int t = to.ordinal();
+        return in * MULTIPLIERS[f][t] / DIVISORS[f][t];
+    }
+
+    /**
+     * Converts all values of an array from given {@link MeasurementUnit} to another unit. Input and
+     * output may be the same array.
+     *
+     * @param in
+     *          values to be converted.
+     *
+     * @param out
+     *          array receiving the converted values at the same indices, it must be at least as long
+     *          as {@code in}. If the units are not compatible, it is filled with {@link Double#NaN}.
+     *
+     * @param from
+     *          a source {@link MeasurementUnit}.
+     *
+     * @param to
+     *          a target {@link MeasurementUnit}.
+     *
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code in}.
+     */
+    public static void convert(double[] in, double[] out, MeasurementUnit from, MeasurementUnit to) {
+        if (out.length < in.length) {
+            throw new IllegalArgumentException("Output array is shorter than input array");
+        }
+        if (from == to) {
+            if (in != out) {
+                System.arraycopy(in, 0, out, 0, in.length);
+            }
+            return;
+        }
+        final double multiplier = MULTIPLIERS[from.ordinal()][to.ordinal()];
+        final double divisor = DIVISORS[from.ordinal()][to.ordinal()];
+        for (int i = 0; i < in.length; i++) {
+            out[i] = in[i] * multiplier / divisor;
+        }
+    }
+
+    /**
+     * Checks if values can be converted between two units.
+     *
+     * @param from
+     *          a source {@link MeasurementUnit}.
+     *
+     * @param to
+     *          a target {@link MeasurementUnit}.
+     *
+     * @return true if both units measure length or both measure speed, false otherwise.
+     */
+    public static boolean areCompatible(MeasurementUnit from, MeasurementUnit to) {
+        return isSpeed(from) == isSpeed(to);
+    }
+
+    private static boolean isSpeed(MeasurementUnit unit) {
+        return Converter.isSpeed(unit);
+    }
+
+    private static double getBaseNumerator(MeasurementUnit unit) {
+        switch (unit) {
+            case KILOMETER:
+            case KILOMETERS_PER_HOUR:
+                return KILOMETER_IN_METERS;
+
+            case YARD:
+                return YARD_IN_METERS;
+
+            case FOOT:
+                return FOOT_IN_METERS;
+
+            case MILE:
+            case MILES_PER_HOUR:
+                return MILE_IN_METERS;
+
+            default:
+                return 1;
+        }
+    }
+}
@@ -26,6 +26,11 @@ public abstract class Converter {
 
     protected static final double KILOMETER_IN_METERS = 1000;
 
+    private static final double[] POWERS_OF_TEN = {1, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9};
+    private static final double MAX_FAST_SCALED = 1e9;
+    private static final double TIE_TOLERANCE = 1e-6;
+    private static final double HALF = 0.5;
+
     /**
      * Converts a value in given {@link MeasurementUnit} to another unit.
      *
@@ -44,9 +49,29 @@ public abstract class Converter {
         if (!areUnitsCompatible(from, to)) {
             return null;
         }
-        double val = toBaseUnit(in, from);
-        val = fromBaseTo(val, to);
-        return new Measurement(val, to);
+        return new Measurement(convertValue(in, from, to), to);
+    }
+
+    /**
+     * Converts a value in given {@link MeasurementUnit} to another unit without creating a
+     * {@link Measurement}.
+     *
+     * @param in
+     *          a value to be converted.
+     *
+     * @param from
+     *          a source {@link MeasurementUnit}.
+     *
+     * @param to
+     *          a target {@link MeasurementUnit}.
+     *
+     * @return the converted value or {@link Double#NaN} if the units are not compatible.
+     */
+    public double convertValue(double in, MeasurementUnit from, MeasurementUnit to) {
+        if (!areUnitsCompatible(from, to)) {
+            return Double.NaN;
+        }
+        return fromBaseTo(toBaseUnit(in, from), to);
     }
 
     /**
@@ -89,7 +114,24 @@ public abstract class Converter {
     public static double round(double value, int places) {
         if (places < 0) throw new IllegalArgumentException();
 
-        BigDecimal bd = new BigDecimal(String.valueOf(value));
+        if (places < POWERS_OF_TEN.length) {
+            // Fast path without allocations. It is only taken when the scaled value is small enough
+            // and clearly away from a tie, so it gives the same result as rounding the decimal
+            // representation below.
+            final double scale = POWERS_OF_TEN[places];
+            final double scaled = Math.abs(value) * scale;
+            if (scaled < MAX_FAST_SCALED) {
+                final double floor = Math.floor(scaled);
+                if (Math.abs(scaled - floor - HALF) > TIE_TOLERANCE) {
+                    final double rounded = scaled - floor > HALF ? floor + 1 : floor;
+                    if (rounded == 0) {
+                        return 0;
+                    }
+                    return value < 0 ? -rounded / scale : rounded / scale;
+                }
+            }
+        }
+        BigDecimal bd = BigDecimal.valueOf(value);
         bd = bd.setScale(places, RoundingMode.HALF_UP);
         return bd.doubleValue();
     }
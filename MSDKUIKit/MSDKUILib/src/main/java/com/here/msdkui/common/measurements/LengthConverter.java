@@ -18,56 +18,22 @@ package com.here.msdkui.common.measurements;
 
 /**
  * Utility class for basic length conversions.
+ * <p>Conversions are done by {@link ConversionTable}, this class only wraps the results.</p>
  */
 public class LengthConverter extends Converter {
 
-    private static final double FOOT_IN_METERS = 0.3048;
-    private static final double YARD_IN_METERS = 0.9144;
-    private static final double MILE_IN_METERS = 1609.344;
+    @Override
+    public double convertValue(double in, MeasurementUnit from, MeasurementUnit to) {
+        return ConversionTable.convert(in, from, to);
+    }
 
     @Override
     protected double toBaseUnit(double in, MeasurementUnit unit) {
-        switch (unit) {
-            case METER:
-                return in;
-
-            case KILOMETER:
-                return in * KILOMETER_IN_METERS;
-
-            case YARD:
-                return in * YARD_IN_METERS;
-
-            case FOOT:
-                return in * FOOT_IN_METERS;
-
-            case MILE:
-                return in * MILE_IN_METERS;
-
-            default:
-                return in;
-        }
+        return ConversionTable.convert(in, unit, MeasurementUnit.METER);
     }
 
     @Override
     protected double fromBaseTo(double in, MeasurementUnit unit) {
-        switch (unit) {
-            case METER:
-                return in;
-
-            case KILOMETER:
-                return in / KILOMETER_IN_METERS;
-
-            case YARD:
-                return in / YARD_IN_METERS;
-
-            case FOOT:
-                return in / FOOT_IN_METERS;
-
-            case MILE:
-                return in / MILE_IN_METERS;
-
-            default:
-                return in;
-        }
+        return ConversionTable.convert(in, MeasurementUnit.METER, unit);
     }
 }
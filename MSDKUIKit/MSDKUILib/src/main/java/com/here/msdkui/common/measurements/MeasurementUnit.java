@@ -29,8 +29,12 @@ public enum MeasurementUnit {
     KILOMETERS_PER_HOUR,
     MILES_PER_HOUR;
 
+    private static final LengthConverter LENGTH_CONVERTER = new LengthConverter();
+    private static final SpeedConverter SPEED_CONVERTER = new SpeedConverter();
+
     /**
-     * Returns a converter for this unit.
+     * Returns a converter for this unit. Converters are stateless, so the same instance is returned
+     * on every call.
      *
      * @return an instance of {@link Converter}.
      */
@@ -41,12 +45,12 @@ public enum MeasurementUnit {
             case METER:
             case YARD:
             case FOOT:
-                return new LengthConverter();
+                return LENGTH_CONVERTER;
 
             case MILES_PER_HOUR:
             case KILOMETERS_PER_HOUR:
             case METERS_PER_SECOND:
-                return new SpeedConverter();
+                return SPEED_CONVERTER;
 
             default:
                 return null; //should never happen
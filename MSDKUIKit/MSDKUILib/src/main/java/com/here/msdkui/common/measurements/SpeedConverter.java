@@ -18,44 +18,22 @@ package com.here.msdkui.common.measurements;
 
 /**
  * Utility class used for speed conversions.
+ * <p>Conversions are done by {@link ConversionTable}, this class only wraps the results.</p>
  */
 public class SpeedConverter extends Converter {
 
-    private static final double SECONDS_IN_HOUR = 3600;
+    @Override
+    public double convertValue(double in, MeasurementUnit from, MeasurementUnit to) {
+        return ConversionTable.convert(in, from, to);
+    }
 
     @Override
     protected double toBaseUnit(double in, MeasurementUnit unit) {
-        switch (unit) {
-            case METERS_PER_SECOND:
-                return in;
-
-            case KILOMETERS_PER_HOUR:
-                return (in * KILOMETER_IN_METERS) / SECONDS_IN_HOUR;
-
-            case MILES_PER_HOUR:
-                return (new LengthConverter().convert(in,
-                        MeasurementUnit.MILE, MeasurementUnit.METER)).getValue() / SECONDS_IN_HOUR;
-
-            default:
-                return in;
-        }
+        return ConversionTable.convert(in, unit, MeasurementUnit.METERS_PER_SECOND);
     }
 
     @Override
     protected double fromBaseTo(double in, MeasurementUnit unit) {
-        switch (unit) {
-            case METERS_PER_SECOND:
-                return in;
-
-            case KILOMETERS_PER_HOUR:
-                return (in * SECONDS_IN_HOUR) / KILOMETER_IN_METERS;
-
-            case MILES_PER_HOUR:
-                return new LengthConverter().convert(in, MeasurementUnit.METER,
-                        MeasurementUnit.MILE).getValue() * SECONDS_IN_HOUR;
-
-            default:
-                return in;
-        }
+        return ConversionTable.convert(in, MeasurementUnit.METERS_PER_SECOND, unit);
     }
 }
@@ -32,9 +32,8 @@ import com.here.android.mpa.ftcr.FTCRRouteWarning;
 import com.here.android.mpa.guidance.NavigationManager;
 import com.here.msdkui.R;
 import com.here.msdkui.common.BaseView;
-import com.here.msdkui.common.DateFormatterUtil;
-import com.here.msdkui.common.DistanceFormatterUtil;
-import com.here.msdkui.common.TimeFormatterUtil;
+import com.here.msdkui.common.EtaFormatter;
+import com.here.msdkui.common.MsdkUiResources;
 
 import java.util.Date;
 
@@ -45,6 +44,7 @@ import java.util.Date;
 public class GuidanceEstimatedArrivalView extends BaseView {
 
     private GuidanceEstimatedArrivalViewData mData;
+    private EtaFormatter mEtaFormatter;
 
     /**
      * Constructs a new instance.
@@ -109,21 +109,28 @@ public class GuidanceEstimatedArrivalView extends BaseView {
         final TextView duration = (TextView) findViewById(R.id.duration);
         final String etaText =
                 data.getEta() == null || data.getEta().equals(new Date(-1)) ?
-                        getContext().getString(R.string.msdkui_value_not_available) :
-                        DateFormatterUtil.format(getContext(), data.getEta());
+                        MsdkUiResources.get(getContext()).getValueNotAvailable() :
+                        getEtaFormatter().formatEta(data.getEta());
         eta.setText(etaText);
 
         final String distanceText = data.getDistance() == null || data.getDistance() < 0 ?
-                getContext().getString(R.string.msdkui_value_not_available) :
-                DistanceFormatterUtil.formatDistance(getContext(), data.getDistance(), mUnitSystem);
+                MsdkUiResources.get(getContext()).getValueNotAvailable() :
+                getDistanceFormatter().formatDistance(data.getDistance());
         distance.setText(distanceText);
 
         final String durationText = data.getDuration() == null || data.getDuration() < 0 ?
-                getContext().getString(R.string.msdkui_value_not_available) :
-                TimeFormatterUtil.format(getContext(), data.getDuration());
+                MsdkUiResources.get(getContext()).getValueNotAvailable() :
+                getEtaFormatter().formatDuration(data.getDuration());
         duration.setText(durationText);
     }
 
+    private EtaFormatter getEtaFormatter() {
+        if (mEtaFormatter == null) {
+            mEtaFormatter = new EtaFormatter(getContext());
+        }
+        return mEtaFormatter;
+    }
+
     /**
      * Gets current {@link GuidanceEstimatedArrivalViewData}.
      *
@@ -16,13 +16,18 @@
 
 package com.here.msdkui.ftcr.guidance;
 
+import androidx.annotation.Nullable;
+
 import com.here.android.mpa.common.PositioningManager;
 import com.here.android.mpa.ftcr.FTCRNavigationManager;
+import com.here.msdkui.common.DistanceFormatterUtil;
+import com.here.msdkui.common.EtaFormatter;
+import com.here.msdkui.common.ListenerRegistry;
+import com.here.msdkui.common.TimeFormatterUtil;
+import com.here.msdkui.common.measurements.UnitSystem;
 import com.here.msdkui.ftcr.guidance.base.BaseGuidancePresenter;
 
-import java.util.ArrayList;
 import java.util.Date;
-import java.util.List;
 
 /**
  * This class creates {@link GuidanceEstimatedArrivalViewData} instances during guidance and notifies it's
@@ -30,7 +35,13 @@ import java.util.List;
  */
 public class GuidanceEstimatedArrivalViewPresenter extends BaseGuidancePresenter {
 
-    private final List<GuidanceEstimatedArrivalViewListener> mListener = new ArrayList<>();
+    private static final long MINUTE_IN_MILLISECONDS = 60000L;
+    private static final long SECOND_IN_MILLISECONDS = 1000L;
+
+    private final ListenerRegistry<GuidanceEstimatedArrivalViewListener> mListener = new ListenerRegistry<>();
+    private UnitSystem mUnitSystem;
+    private GuidanceEstimatedArrivalViewData mLastData;
+    private long mLastTodayStart;
 
     /**
      * Constructs a new instance.
@@ -45,21 +56,85 @@ public class GuidanceEstimatedArrivalViewPresenter extends BaseGuidancePresenter
 
     @Override
     protected void handlePositionUpdate() {
-        updateEtaData(getEta(), getDestinationDistance(), getTimeToArrival());
+        updateEtaData(getEtaMillis(), getDestinationDistance(), getTimeToArrivalSeconds());
     }
 
-    private void updateEtaData(Date date, Long distance, Integer duration) {
-        final GuidanceEstimatedArrivalViewData data = new GuidanceEstimatedArrivalViewData(date, distance, duration);
-        notifyDataChanged(data);
+    /**
+     * Notifies on new data, if it is displayed differently than the last data. The arrival date is
+     * only created and distance and duration are only boxed when new data is created, so updates
+     * which change nothing visible don't allocate.
+     */
+    private void updateEtaData(long eta, long distance, int duration) {
+        final GuidanceEstimatedArrivalViewData last = mLastData;
+        final long todayStart = EtaFormatter.getTodayStart();
+        if (last != null && todayStart == mLastTodayStart && isSameDisplayedDate(last.getEta(), eta) &&
+                isSameDisplayedDistance(last.getDistance(), distance) &&
+                isSameDisplayedDuration(last.getDuration(), duration)) {
+            return;
+        }
+        mLastData = new GuidanceEstimatedArrivalViewData(new Date(eta), distance, duration);
+        mLastTodayStart = todayStart;
+        notifyDataChanged(mLastData);
+    }
+
+    /**
+     * Checks if both dates are displayed the same way. Dates are displayed with minute precision and
+     * dates in the same minute are on the same day. Whether the date is today and the time zone it is
+     * displayed in are compared separately by the start of the current day, see
+     * {@link EtaFormatter#getTodayStart()}.
+     */
+    private static boolean isSameDisplayedDate(Date lastDate, long eta) {
+        return lastDate != null && lastDate.getTime() / MINUTE_IN_MILLISECONDS == eta / MINUTE_IN_MILLISECONDS;
+    }
+
+    private boolean isSameDisplayedDistance(Long lastDistance, long distance) {
+        if (lastDistance == null) {
+            return false;
+        }
+        if (mUnitSystem == null) {
+            return lastDistance.longValue() == distance;
+        }
+        return Double.compare(DistanceFormatterUtil.getDisplayedDistance(lastDistance, mUnitSystem),
+                DistanceFormatterUtil.getDisplayedDistance(distance, mUnitSystem)) == 0;
+    }
+
+    private static boolean isSameDisplayedDuration(Integer lastDuration, int duration) {
+        if (lastDuration == null) {
+            return false;
+        }
+        return TimeFormatterUtil.getDisplayedTime(lastDuration * SECOND_IN_MILLISECONDS) ==
+                TimeFormatterUtil.getDisplayedTime(duration * SECOND_IN_MILLISECONDS);
+    }
+
+    /**
+     * Sets the unit system used to display the distance of the emitted
+     * {@link GuidanceEstimatedArrivalViewData}. When set, updates are only emitted if the displayed
+     * distance changes. By default, no unit system is set and every change of the distance is emitted.
+     * Arrival time and duration are always compared as they are displayed.
+     *
+     * @param unitSystem
+     *         the {@link UnitSystem} of the view showing the data or null to compare exact distances.
+     */
+    public void setUnitSystem(@Nullable UnitSystem unitSystem) {
+        mUnitSystem = unitSystem;
+        mLastData = null;
+    }
+
+    /**
+     * Gets the unit system used to compare distances of the emitted
+     * {@link GuidanceEstimatedArrivalViewData}.
+     *
+     * @return the {@link UnitSystem} or null if exact distances are compared.
+     */
+    public @Nullable UnitSystem getUnitSystem() {
+        return mUnitSystem;
     }
 
     /**
      * Notify on {@link GuidanceEstimatedArrivalViewData} changes.
      */
     private void notifyDataChanged(GuidanceEstimatedArrivalViewData data) {
-        for (final GuidanceEstimatedArrivalViewListener listener : mListener) {
-            listener.onDataChanged(data);
-        }
+        mListener.dispatch(GuidanceEstimatedArrivalViewListener::onDataChanged, data);
     }
 
     /**
@@ -69,8 +144,9 @@ public class GuidanceEstimatedArrivalViewPresenter extends BaseGuidancePresenter
      *         the listener to add to the list of listeners.
      */
     public void addListener(GuidanceEstimatedArrivalViewListener listener) {
-        if (listener != null && !mListener.contains(listener)) {
-            mListener.add(listener);
+        if (mListener.add(listener)) {
+            // Make sure the new listener receives the next update.
+            mLastData = null;
         }
     }
 
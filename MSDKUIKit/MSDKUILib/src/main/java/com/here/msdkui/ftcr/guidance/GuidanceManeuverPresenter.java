@@ -18,6 +18,9 @@ package com.here.msdkui.ftcr.guidance;
 
 import android.content.Context;
 import android.graphics.Bitmap;
+import android.text.TextUtils;
+
+import androidx.annotation.Nullable;
 
 import com.here.android.mpa.common.Image;
 import com.here.android.mpa.common.PositioningManager;
@@ -25,13 +28,14 @@ import com.here.android.mpa.ftcr.FTCRManeuver;
 import com.here.android.mpa.ftcr.FTCRNavigationManager;
 import com.here.android.mpa.ftcr.FTCRRoute;
 import com.here.android.mpa.routing.Signpost;
-import com.here.msdkui.R;
+import com.here.msdkui.common.DistanceFormatterUtil;
+import com.here.msdkui.common.ListenerRegistry;
+import com.here.msdkui.common.ManeuverIconTable;
+import com.here.msdkui.common.MsdkUiResources;
+import com.here.msdkui.common.measurements.UnitSystem;
 import com.here.msdkui.ftcr.FTCRUtil;
 import com.here.msdkui.ftcr.guidance.base.BaseGuidancePresenter;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * A class that creates {@link GuidanceManeuverData} during guidance. This data can be fed into
  * {@link GuidanceManeuverView} to inform the user about the next maneuvers to take.
@@ -42,7 +46,13 @@ public class GuidanceManeuverPresenter extends BaseGuidancePresenter {
 
     private static final int DESTINATION_THRESHOLD_DISTANCE = 50;
     private final Context mContext;
-    private final List<GuidanceManeuverListener> mListener = new ArrayList<>();
+    private final RouteManeuverIndex.StreetResolver mStreetResolver;
+    private final ListenerRegistry<GuidanceManeuverListener> mListener = new ListenerRegistry<>();
+    private UnitSystem mUnitSystem;
+    private GuidanceManeuverData mLastData;
+    private boolean mHasLastData;
+    private FTCRManeuver mLastManeuver;
+    private FTCRManeuver mPendingManeuver;
 
     /**
      * Constructs a new instance.
@@ -60,6 +70,7 @@ public class GuidanceManeuverPresenter extends BaseGuidancePresenter {
                                      FTCRRoute route) {
         super(navigationManager, positioningManager, route);
         mContext = context;
+        mStreetResolver = maneuver -> GuidanceManeuverUtil.determineNextManeuverStreet(context, maneuver, this);
     }
 
     @Override
@@ -90,19 +101,24 @@ public class GuidanceManeuverPresenter extends BaseGuidancePresenter {
      * @param maneuver
      *         the maneuver to use.
      */
-    private void updateDestinationManeuverData(FTCRManeuver maneuver) {
+    private void updateDestinationManeuverData(final FTCRManeuver maneuver) {
 
         final long distance = getDestinationDistance();
         if (distance < DESTINATION_THRESHOLD_DISTANCE) {  // Less than 10 meters.
             notifyDestinationReached();
         }
-        String street = getStreet(maneuver);
-        if (street == null) {
-            street = mContext.getString(R.string.msdkui_value_not_available);
+        if (isUnchanged(maneuver, distance)) {
+            return;
         }
-        notifyDataChanged(new GuidanceManeuverData(getIcon(maneuver),
-                distance, getManeuverSignpost(maneuver), street,
-                getNextRoadIcon(maneuver)));
+        mPendingManeuver = maneuver;
+        compute(() -> {
+            String street = getStreet(maneuver);
+            if (street == null) {
+                street = MsdkUiResources.get(mContext).getValueNotAvailable();
+            }
+            return new GuidanceManeuverData(getIcon(maneuver), distance, getManeuverSignpost(maneuver), street,
+                    getNextRoadIcon(maneuver));
+        }, this::onManeuverDataComputed);
     }
 
     /**
@@ -111,14 +127,109 @@ public class GuidanceManeuverPresenter extends BaseGuidancePresenter {
      * @param maneuver
      *         the maneuver to use.
      */
-    private void updateManeuverData(FTCRManeuver maneuver) {
+    private void updateManeuverData(final FTCRManeuver maneuver) {
         if (maneuver == null) {
-            notifyDataChanged(null);
+            // Data still being computed is outdated.
+            cancelComputation();
+            mPendingManeuver = null;
+            mLastManeuver = null;
+            if (!mHasLastData || mLastData != null) {
+                mLastData = null;
+                mHasLastData = true;
+                notifyDataChanged(null);
+            }
         } else {
-            notifyDataChanged(new GuidanceManeuverData(getIcon(maneuver),
-                    getNextManeuverDistance(), getManeuverSignpost(maneuver), getStreet(maneuver),
-                    getNextRoadIcon(maneuver)));
+            final long distance = getNextManeuverDistance();
+            if (isUnchanged(maneuver, distance)) {
+                return;
+            }
+            mPendingManeuver = maneuver;
+            compute(() -> new GuidanceManeuverData(getIcon(maneuver), distance, getManeuverSignpost(maneuver),
+                    getStreet(maneuver), getNextRoadIcon(maneuver)), this::onManeuverDataComputed);
+        }
+    }
+
+    /**
+     * Checks if the data for the given maneuver and distance would look the same as the last notified
+     * data. All values except the distance only depend on the maneuver, so this is the case if the
+     * maneuver is the one of the last data and the distance is displayed the same way. Position
+     * updates which change nothing visible are skipped this way before any data is computed, so they
+     * don't allocate. Maneuvers are compared by location and action like in
+     * {@link GuidanceManeuverUtil#maneuversEqual(FTCRManeuver, FTCRManeuver)}, since a new instance may be
+     * returned for the same maneuver on every update. Nothing is skipped while a computation did not
+     * deliver yet.
+     */
+    private boolean isUnchanged(FTCRManeuver maneuver, long distance) {
+        final GuidanceManeuverData last = mLastData;
+        return mPendingManeuver == null && mHasLastData && last != null && last.getDistance() != null &&
+                (maneuver == mLastManeuver || GuidanceManeuverUtil.maneuversEqual(maneuver, mLastManeuver)) &&
+                isSameDisplayedDistance(last.getDistance(), distance);
+    }
+
+    /**
+     * Receives the data computed for the pending maneuver.
+     */
+    private void onManeuverDataComputed(GuidanceManeuverData data) {
+        mLastManeuver = mPendingManeuver;
+        mPendingManeuver = null;
+        notifyDataChangedIfVisible(data);
+    }
+
+    /**
+     * Notifies on the given {@link GuidanceManeuverData}, if it differs from the last notified data
+     * in a way that is visible to the user. Distances are compared as they are displayed in the
+     * unit system set by {@link #setUnitSystem(UnitSystem)}.
+     */
+    private void notifyDataChangedIfVisible(GuidanceManeuverData data) {
+        final GuidanceManeuverData last = mLastData;
+        if (mHasLastData && last != null && data != null && last.getIconId() == data.getIconId() &&
+                last.getDistance() != null && data.getDistance() != null &&
+                isSameDisplayedDistance(last.getDistance(), data.getDistance()) &&
+                TextUtils.equals(last.getInfo1(), data.getInfo1()) &&
+                TextUtils.equals(last.getInfo2(), data.getInfo2()) &&
+                isSameBitmap(last.getNextRoadIcon(), data.getNextRoadIcon())) {
+            return;
         }
+        mLastData = data;
+        mHasLastData = true;
+        notifyDataChanged(data);
+    }
+
+    private boolean isSameDisplayedDistance(long lastDistance, long distance) {
+        if (mUnitSystem == null) {
+            return lastDistance == distance;
+        }
+        return Double.compare(DistanceFormatterUtil.getDisplayedDistance(lastDistance, mUnitSystem),
+                DistanceFormatterUtil.getDisplayedDistance(distance, mUnitSystem)) == 0;
+    }
+
+    private static boolean isSameBitmap(Bitmap first, Bitmap second) {
+        if (first == second) {
+            return true;
+        }
+        return first != null && second != null && first.sameAs(second);
+    }
+
+    /**
+     * Sets the unit system used to display the distances of the emitted {@link GuidanceManeuverData}.
+     * When set, updates are only emitted if the displayed distance changes. By default, no unit system
+     * is set and every change of the distance is emitted.
+     *
+     * @param unitSystem
+     *         the {@link UnitSystem} of the view showing the data or null to compare exact distances.
+     */
+    public void setUnitSystem(@Nullable UnitSystem unitSystem) {
+        mUnitSystem = unitSystem;
+        mHasLastData = false;
+    }
+
+    /**
+     * Gets the unit system used to compare distances of the emitted {@link GuidanceManeuverData}.
+     *
+     * @return the {@link UnitSystem} or null if exact distances are compared.
+     */
+    public @Nullable UnitSystem getUnitSystem() {
+        return mUnitSystem;
     }
 
     /**
@@ -142,8 +253,7 @@ public class GuidanceManeuverPresenter extends BaseGuidancePresenter {
      * @return the resource id of the icon.
      */
     protected int getIcon(FTCRManeuver maneuver) {
-        final int id = FTCRUtil.getIcon(maneuver).ordinal();
-        return mContext.getResources().getIdentifier("ic_maneuver_icon_" + id, "drawable", mContext.getPackageName());
+        return ManeuverIconTable.getIconId(FTCRUtil.getIcon(maneuver));
     }
 
     /**
@@ -155,7 +265,7 @@ public class GuidanceManeuverPresenter extends BaseGuidancePresenter {
      * @return the street name.
      */
     private String getStreet(FTCRManeuver maneuver) {
-        return GuidanceManeuverUtil.determineNextManeuverStreet(mContext, maneuver, this);
+        return getManeuverIndex().getStreet(maneuver, mStreetResolver);
     }
 
     /**
@@ -183,9 +293,10 @@ public class GuidanceManeuverPresenter extends BaseGuidancePresenter {
         final long originalWidth = source.getWidth();
         final long originalHeight = source.getHeight();
 
-        final int maxHeight = mContext.getResources().getDimensionPixelSize(R.dimen.next_road_image_max_height);
+        final MsdkUiResources resources = MsdkUiResources.get(mContext);
+        final int maxHeight = resources.getNextRoadIconMaxHeight();
 
-        int width = mContext.getResources().getDimensionPixelSize(R.dimen.next_road_image_max_width);
+        int width = resources.getNextRoadIconMaxWidth();
         int height = (int) ((width * originalHeight) / originalWidth);
 
         if (height > maxHeight) {
@@ -202,8 +313,9 @@ public class GuidanceManeuverPresenter extends BaseGuidancePresenter {
      *         the listener to add to the list of listeners.
      */
     public void addListener(GuidanceManeuverListener listener) {
-        if (listener != null && !mListener.contains(listener)) {
-            mListener.add(listener);
+        if (mListener.add(listener)) {
+            // Make sure the new listener receives the next update.
+            mHasLastData = false;
         }
     }
 
@@ -221,17 +333,13 @@ public class GuidanceManeuverPresenter extends BaseGuidancePresenter {
      * Notify on {@link GuidanceManeuverData} changes.
      */
     private void notifyDataChanged(GuidanceManeuverData data) {
-        for (final GuidanceManeuverListener listener : mListener) {
-            listener.onDataChanged(data);
-        }
+        mListener.dispatch(GuidanceManeuverListener::onDataChanged, data);
     }
 
     /**
      * Notify that destination was reached.
      */
     private void notifyDestinationReached() {
-        for (final GuidanceManeuverListener listener : mListener) {
-            listener.onDestinationReached();
-        }
+        mListener.dispatch((listener, ignored) -> listener.onDestinationReached(), null);
     }
 }
\ No newline at end of file
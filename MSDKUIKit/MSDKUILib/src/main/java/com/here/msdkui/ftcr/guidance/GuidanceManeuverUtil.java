@@ -115,7 +115,7 @@ public final class GuidanceManeuverUtil {
         FTCRManeuver afterNextManeuver = getNextManeuver(baseGuidancePresenter, maneuver);
         while (distance < NEXT_NEXT_MANEUVER_THRESHOLD &&
                 afterNextManeuver != null && nextToNextStreetValue == null) {
-            distance += getDistanceFromPreviousManeuver(baseGuidancePresenter.getRoute(),
+            distance += getDistanceFromPreviousManeuver(baseGuidancePresenter.getManeuverIndex(),
                     afterNextManeuver);
             nextToNextStreetValue = combineRoadNumberAndName(context, afterNextManeuver,
                     "",
@@ -139,7 +139,7 @@ public final class GuidanceManeuverUtil {
      */
     private static FTCRManeuver getNextManeuver(BaseGuidancePresenter baseGuidancePresenter,
                                             FTCRManeuver lastManeuver) {
-        return  getFollowingManeuver(baseGuidancePresenter.getRoute(), lastManeuver);
+        return baseGuidancePresenter.getManeuverIndex().getFollowing(lastManeuver);
     }
 
     /**
@@ -187,22 +187,18 @@ public final class GuidanceManeuverUtil {
     }
 
     /**
-     * Gets the following {@link Maneuver} of given lastManeuver.
+     * Gets the length of the maneuver preceding the given maneuver.
      *
-     * @param route
-     *         {@link Route} to get all maneuvers.
-     * @param lastManeuver
-     *         input {@link Maneuver} to get its following maneuver.
+     * @param index
+     *         the {@link RouteManeuverIndex} of the route.
+     * @param currManeuver
+     *         the maneuver to get the distance for.
+     * @return distance from the previous maneuver in meters or 0 if there is no previous maneuver.
      */
-    private static FTCRManeuver getFollowingManeuver(FTCRRoute route, FTCRManeuver lastManeuver) {
-        List<FTCRManeuver> maneuvers = route.getManeuvers();
-        for (int i = 0; i < maneuvers.size(); i++) {
-            if (i + 1 < maneuvers.size()
-                    && GuidanceManeuverUtil.maneuversEqual(maneuvers.get(i), lastManeuver)) {
-                return maneuvers.get(i + 1);
-            }
-        }
-        return null;
+    public static int getDistanceFromPreviousManeuver(RouteManeuverIndex index,
+                                                      FTCRManeuver currManeuver) {
+        final FTCRManeuver prevManeuver = index.getPrevious(currManeuver);
+        return prevManeuver != null ? (int) prevManeuver.getLength() : 0;
     }
 
     public static int getDistanceFromPreviousManeuver(FTCRRoute route, FTCRManeuver currManeuver) {
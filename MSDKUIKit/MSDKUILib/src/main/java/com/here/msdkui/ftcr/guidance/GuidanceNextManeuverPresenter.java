@@ -23,12 +23,11 @@ import com.here.android.mpa.ftcr.FTCRManeuver;
 import com.here.android.mpa.ftcr.FTCRNavigationManager;
 import com.here.android.mpa.ftcr.FTCRRoute;
 import com.here.msdkui.common.DistanceFormatterUtil;
+import com.here.msdkui.common.ListenerRegistry;
+import com.here.msdkui.common.ManeuverIconTable;
 import com.here.msdkui.ftcr.FTCRUtil;
 import com.here.msdkui.ftcr.guidance.base.BaseGuidancePresenter;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * A class that creates {@link GuidanceNextManeuverData} during guidance. This data can be fed into
  * {@link GuidanceNextManeuverView} to inform the user about maneuver to take after current one.
@@ -38,7 +37,8 @@ import java.util.List;
 public class GuidanceNextManeuverPresenter extends BaseGuidancePresenter {
 
     private final Context mContext;
-    private final List<GuidanceNextManeuverListener> mListener = new ArrayList<>();
+    private final RouteManeuverIndex.StreetResolver mStreetResolver;
+    private final ListenerRegistry<GuidanceNextManeuverListener> mListener = new ListenerRegistry<>();
 
     /**
      * Constructs a new instance.
@@ -56,6 +56,7 @@ public class GuidanceNextManeuverPresenter extends BaseGuidancePresenter {
                                          FTCRRoute route) {
         super(navigationManager, positioningManager, route);
         mContext = context;
+        mStreetResolver = maneuver -> GuidanceManeuverUtil.determineNextManeuverStreet(context, maneuver, this);
     }
 
     @Override
@@ -80,7 +81,7 @@ public class GuidanceNextManeuverPresenter extends BaseGuidancePresenter {
             notifyDataChanged(null);
         } else {
             final GuidanceNextManeuverData data = new GuidanceNextManeuverData(getIcon(maneuver),
-                    (long) GuidanceManeuverUtil.getDistanceFromPreviousManeuver(getRoute(), maneuver),
+                    (long) GuidanceManeuverUtil.getDistanceFromPreviousManeuver(getManeuverIndex(), maneuver),
                     getStreet(maneuver));
             if (data.getIconId() == 0 || data.getDistance() < 0 ||
                     data.getDistance() > DistanceFormatterUtil.THOUSAND) {
@@ -100,15 +101,14 @@ public class GuidanceNextManeuverPresenter extends BaseGuidancePresenter {
      * @return the resource id of the icon.
      */
     protected int getIcon(FTCRManeuver maneuver) {
-        final int id = FTCRUtil.getIcon(maneuver).ordinal();
-        return mContext.getResources().getIdentifier("ic_maneuver_icon_" + id, "drawable", mContext.getPackageName());
+        return ManeuverIconTable.getIconId(FTCRUtil.getIcon(maneuver));
     }
 
     /**
      * Gets the street name for {@link FTCRManeuver}.
      */
     private String getStreet(FTCRManeuver maneuver) {
-        return GuidanceManeuverUtil.determineNextManeuverStreet(mContext, maneuver, this);
+        return getManeuverIndex().getStreet(maneuver, mStreetResolver);
     }
 
     /**
@@ -118,9 +118,7 @@ public class GuidanceNextManeuverPresenter extends BaseGuidancePresenter {
      *         the listener to add to the list of listeners.
      */
     public void addListener(GuidanceNextManeuverListener listener) {
-        if (listener != null && !mListener.contains(listener)) {
-            mListener.add(listener);
-        }
+        mListener.add(listener);
     }
 
     /**
@@ -137,8 +135,6 @@ public class GuidanceNextManeuverPresenter extends BaseGuidancePresenter {
      * Notify on {@link GuidanceNextManeuverData} changes.
      */
     private void notifyDataChanged(GuidanceNextManeuverData data) {
-        for (final GuidanceNextManeuverListener listener : mListener) {
-            listener.onDataChanged(data);
-        }
+        mListener.dispatch(GuidanceNextManeuverListener::onDataChanged, data);
     }
 }
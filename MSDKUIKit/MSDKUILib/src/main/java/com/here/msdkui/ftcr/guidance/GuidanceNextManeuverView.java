@@ -32,7 +32,6 @@ import androidx.constraintlayout.widget.ConstraintLayout;
 
 import com.here.msdkui.R;
 import com.here.msdkui.common.BaseView;
-import com.here.msdkui.common.DistanceFormatterUtil;
 import com.here.msdkui.common.ThemeUtil;
 
 /**
@@ -122,8 +121,7 @@ public class GuidanceNextManeuverView extends BaseView {
             maneuverDistance.setVisibility(View.GONE);
         } else {
             maneuverDistance.setVisibility(View.VISIBLE);
-            maneuverDistance.setText(DistanceFormatterUtil.format(
-                    getContext(), nextManeuverData.getDistance(), mUnitSystem));
+            maneuverDistance.setText(getDistanceFormatter().format(nextManeuverData.getDistance()));
         }
 
         final TextView streetName = findViewById(R.id.afterNextManeuverStreetName);
@@ -30,6 +30,7 @@ import androidx.annotation.RequiresApi;
 
 import com.here.msdkui.R;
 import com.here.msdkui.common.BaseView;
+import com.here.msdkui.common.MsdkUiResources;
 import com.here.msdkui.common.SpeedFormatterUtil;
 
 /**
@@ -149,8 +150,8 @@ public class GuidanceSpeedView extends BaseView {
 
     private void populateUi(@Nullable GuidanceSpeedData data) {
         final String speedText = data == null || !data.isValid() ?
-                getContext().getString(R.string.msdkui_value_not_available) :
-                String.valueOf(SpeedFormatterUtil.format(data.getCurrentSpeed(), mUnitSystem));
+                MsdkUiResources.get(getContext()).getValueNotAvailable() :
+                SpeedFormatterUtil.formatToString(data.getCurrentSpeed(), mUnitSystem);
         final TextView speed = findViewById(R.id.guidance_current_speed_value);
         speed.setText(speedText);
         final TextView speedUnit = findViewById(R.id.guidance_current_speed_unit);
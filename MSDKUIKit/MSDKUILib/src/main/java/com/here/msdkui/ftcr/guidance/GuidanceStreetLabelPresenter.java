@@ -23,12 +23,10 @@ import com.here.android.mpa.ftcr.FTCRManeuver;
 import com.here.android.mpa.ftcr.FTCRNavigationManager;
 import com.here.android.mpa.ftcr.FTCRRoute;
 import com.here.msdkui.R;
+import com.here.msdkui.common.ListenerRegistry;
 import com.here.msdkui.common.ThemeUtil;
 import com.here.msdkui.ftcr.guidance.base.BaseGuidancePresenter;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Class that creates {@link GuidanceStreetLabelData} objects on maneuver update and feds them into
  * registered listeners (e.g. {@link GuidanceStreetLabelView}.
@@ -37,7 +35,7 @@ public class GuidanceStreetLabelPresenter extends BaseGuidancePresenter {
 
     private final Context mContext;
 
-    private final List<GuidanceStreetLabelListener> mListener = new ArrayList<>();
+    private final ListenerRegistry<GuidanceStreetLabelListener> mListener = new ListenerRegistry<>();
 
     /**
      * Constructs a new instance using a {@link FTCRNavigationManager} instance and
@@ -94,8 +92,7 @@ public class GuidanceStreetLabelPresenter extends BaseGuidancePresenter {
      *         the listener to add to the list of listeners.
      */
     public void addListener(GuidanceStreetLabelListener listener) {
-        if (listener != null && !mListener.contains(listener)) {
-            mListener.add(listener);
+        if (mListener.add(listener)) {
             listener.onDataChanged(new GuidanceStreetLabelData(mContext.getString(R.string.msdkui_userposition_search),
                     ThemeUtil.getColor(mContext, R.attr.colorForegroundSecondary)));
         }
@@ -115,8 +112,6 @@ public class GuidanceStreetLabelPresenter extends BaseGuidancePresenter {
      * Notify on {@link GuidanceStreetLabelData} changes.
      */
     private void notifyDataChanged(GuidanceStreetLabelData data) {
-        for (final GuidanceStreetLabelListener listener : mListener) {
-            listener.onDataChanged(data);
-        }
+        mListener.dispatch(GuidanceStreetLabelListener::onDataChanged, data);
     }
 }
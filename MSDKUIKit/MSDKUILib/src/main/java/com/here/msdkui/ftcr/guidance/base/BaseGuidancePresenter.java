@@ -19,9 +19,7 @@ package com.here.msdkui.ftcr.guidance.base;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
-import com.here.android.mpa.common.GeoPosition;
 import com.here.android.mpa.common.PositioningManager;
-import com.here.android.mpa.ftcr.FTCRLaneInformation;
 import com.here.android.mpa.ftcr.FTCRManeuver;
 import com.here.android.mpa.ftcr.FTCRNavigationManager;
 import com.here.android.mpa.ftcr.FTCRRoute;
@@ -29,10 +27,12 @@ import com.here.android.mpa.ftcr.FTCRRouter;
 import com.here.android.mpa.routing.Maneuver;
 import com.here.android.mpa.routing.Route;
 import com.here.android.mpa.routing.RouteResult;
-import com.here.android.mpa.routing.RoutingError;
-import java.lang.ref.WeakReference;
+import com.here.msdkui.common.ComputePipeline;
+import com.here.msdkui.common.UpdateCoalescer;
+import com.here.msdkui.ftcr.guidance.RouteManeuverIndex;
+
 import java.util.Date;
-import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Base class for guidance presenters.
@@ -45,64 +45,17 @@ public class BaseGuidancePresenter {
     private final FTCRNavigationManager mNavigationManager;
     private final PositioningManager mPosManageer;
 
-    private final FTCRNavigationManager.FTCRNavigationManagerListener mNavigationListener =
-            new FTCRNavigationManager.FTCRNavigationManagerListener() {
-                @Override
-                public void onCurrentManeuverChanged(@Nullable FTCRManeuver ftcrManeuver,
-                                                     @Nullable FTCRManeuver ftcrManeuver1) {
-                    handleManeuverEvent();
-                    handleNewInstructionEvent();
-                }
-
-                @Override
-                public void onStopoverReached(int i) {
-
-                }
-
-                @Override
-                public void onDestinationReached() {
-                }
-
-                @Override
-                public void onRerouteBegin() {
-                    handleRerouteBegin();
-                }
+    private volatile FTCRRoute mRoute;
 
-                @Override
-                public void onRerouteEnd(@Nullable FTCRRoute ftcrRoute,
-                                         @NonNull FTCRRouter.ErrorResponse errorResponse) {
-                    if (errorResponse.getErrorCode() == RoutingError.NONE) {
-                        handleRerouteEnd(ftcrRoute);
-                    } else {
-                        handleRerouteFailed(errorResponse);
-                    }
-                }
+    private UpdateCoalescer mCoalescer;
+    private boolean mPendingManeuverEvent;
+    private boolean mPendingNewInstructionEvent;
+    private boolean mPendingPositionUpdate;
 
-                @Override
-                public void onLaneInformation(@NonNull List<FTCRLaneInformation> list) {
-
-                }
-            };
-
-
-    /*
-      Listener for {@link PositioningManager.PositionListener}.
-     */
-    private final PositioningManager.OnPositionChangedListener mPositionListener =
-            new PositioningManager.OnPositionChangedListener() {
-                @Override
-                public void onPositionUpdated(PositioningManager.LocationMethod locationMethod,
-                                              @Nullable GeoPosition geoPosition, boolean b) {
-                    handlePositionUpdate();
-                }
-
-                @Override
-                public void onPositionFixChanged(PositioningManager.LocationMethod locationMethod, PositioningManager.LocationStatus locationStatus) {
-
-                }
-            };
-
-    private FTCRRoute mRoute;
+    private ComputePipeline mComputePipeline;
+    private volatile RouteManeuverIndex mManeuverIndex;
+    private volatile boolean mManeuverIndexStale;
+    private final Object mManeuverIndexLock = new Object();
 
     /**
      * Constructs a new instance using a {@link FTCRNavigationManager} instance and
@@ -121,18 +74,167 @@ public class BaseGuidancePresenter {
 
     /**
      * Resumes presenter to start listening to navigation events.
+     * <p>All presenters share one set of {@link FTCRNavigationManager} and
+     * {@link PositioningManager} listeners, calling this method on an already resumed presenter
+     * has no effect.</p>
      */
     public void resume() {
-        mNavigationManager.addNavigationListener(mNavigationListener);
-        mPosManageer.addListener(new WeakReference<>(mPositionListener));
+        GuidanceEventHub.attach(mNavigationManager, mPosManageer, this);
     }
 
     /**
      * Pauses presenter to stop listening to navigation events.
      */
     public void pause() {
-        mNavigationManager.removeNavigationListener(mNavigationListener);
-        mPosManageer.removeListener(mPositionListener);
+        GuidanceEventHub.detach(mNavigationManager, mPosManageer, this);
+        cancelPendingEvents();
+        cancelComputation();
+    }
+
+    /**
+     * Sets the executor used to compute presenter data off the main thread. When set, the data is
+     * computed on the executor and listeners are notified on the main thread. Results overtaken
+     * by a newer event are dropped. By default, no executor is set and data is computed on the
+     * thread delivering the navigation events.
+     *
+     * @param executor the {@link Executor} to compute data on or null to compute on the calling
+     *                 thread.
+     */
+    public void setComputeExecutor(@Nullable Executor executor) {
+        cancelComputation();
+        mComputePipeline = executor == null ? null : new ComputePipeline(executor);
+    }
+
+    /**
+     * Gets the executor used to compute presenter data.
+     *
+     * @return the {@link Executor} or null if data is computed on the calling thread.
+     */
+    public @Nullable Executor getComputeExecutor() {
+        return mComputePipeline == null ? null : mComputePipeline.getExecutor();
+    }
+
+    /**
+     * Runs a computation and delivers its result. If an executor was set with
+     * {@link #setComputeExecutor(Executor)}, the computation runs on it and the result is
+     * delivered on the main thread, unless a newer computation was submitted or
+     * {@link #cancelComputation()} was called in the meantime. Otherwise both run on the calling
+     * thread.
+     *
+     * @param computation the computation to run.
+     * @param delivery    receiver of the result.
+     * @param <T>         type of the result.
+     */
+    protected <T> void compute(@NonNull ComputePipeline.Computation<T> computation,
+                               @NonNull ComputePipeline.Delivery<T> delivery) {
+        if (mComputePipeline == null) {
+            delivery.deliver(computation.compute());
+        } else {
+            mComputePipeline.submit(computation, delivery);
+        }
+    }
+
+    /**
+     * Drops all computations started with {@link #compute(ComputePipeline.Computation,
+     * ComputePipeline.Delivery)} which did not deliver yet.
+     */
+    protected void cancelComputation() {
+        if (mComputePipeline != null) {
+            mComputePipeline.cancel();
+        }
+    }
+
+    /**
+     * Enables coalescing of maneuver, new instruction and position events. Events arriving in a
+     * burst are collapsed, so the matching {@code handle} methods run at most once per display
+     * frame or per given interval. Since the presenters read the navigation state when handling
+     * an event, the latest state is always delivered.
+     *
+     * @param intervalMillis minimum time between two updates in milliseconds or
+     *                       {@link UpdateCoalescer#PER_FRAME} to align the updates with the
+     *                       display frames.
+     */
+    public void enableUpdateCoalescing(long intervalMillis) {
+        cancelPendingEvents();
+        mCoalescer = new UpdateCoalescer(this::flushPendingEvents, intervalMillis);
+    }
+
+    /**
+     * Disables coalescing of events, all events are handled as soon as they arrive. This is the
+     * default.
+     */
+    public void disableUpdateCoalescing() {
+        cancelPendingEvents();
+        mCoalescer = null;
+    }
+
+    /**
+     * Checks if coalescing of events is enabled.
+     *
+     * @return true if events are coalesced, false otherwise.
+     */
+    public boolean isUpdateCoalescingEnabled() {
+        return mCoalescer != null;
+    }
+
+    void dispatchManeuverEvent() {
+        if (mCoalescer == null) {
+            handleManeuverEvent();
+        } else {
+            mPendingManeuverEvent = true;
+            mCoalescer.request();
+        }
+    }
+
+    void dispatchNewInstructionEvent() {
+        if (mCoalescer == null) {
+            handleNewInstructionEvent();
+        } else {
+            mPendingNewInstructionEvent = true;
+            mCoalescer.request();
+        }
+    }
+
+    void dispatchPositionUpdate() {
+        if (mCoalescer == null) {
+            handlePositionUpdate();
+        } else {
+            mPendingPositionUpdate = true;
+            mCoalescer.request();
+        }
+    }
+
+    void dispatchRerouteEnd(FTCRRoute ftcrRoute) {
+        // The maneuvers need to be indexed again, cached data of unchanged maneuvers is carried over.
+        mManeuverIndexStale = true;
+        handleRerouteEnd(ftcrRoute);
+    }
+
+    private void flushPendingEvents() {
+        final boolean maneuverEvent = mPendingManeuverEvent;
+        final boolean newInstructionEvent = mPendingNewInstructionEvent;
+        final boolean positionUpdate = mPendingPositionUpdate;
+        mPendingManeuverEvent = false;
+        mPendingNewInstructionEvent = false;
+        mPendingPositionUpdate = false;
+        if (maneuverEvent) {
+            handleManeuverEvent();
+        }
+        if (newInstructionEvent) {
+            handleNewInstructionEvent();
+        }
+        if (positionUpdate) {
+            handlePositionUpdate();
+        }
+    }
+
+    private void cancelPendingEvents() {
+        if (mCoalescer != null) {
+            mCoalescer.cancel();
+        }
+        mPendingManeuverEvent = false;
+        mPendingNewInstructionEvent = false;
+        mPendingPositionUpdate = false;
     }
 
     /**
@@ -262,6 +364,33 @@ public class BaseGuidancePresenter {
         this.mRoute = route;
     }
 
+    /**
+     * Gets the index of the maneuvers of the route used for guidance. The index is built on first
+     * use and rebuilt when the route is set or rerouting ends. When rebuilding, the cached street
+     * names of maneuvers the new route shares with the previous one are carried over, see
+     * {@link RouteManeuverIndex#RouteManeuverIndex(FTCRRoute, RouteManeuverIndex)}.
+     * <p>This method can be called from any thread, e.g. while computing data on an executor. The
+     * index is only rebuilt by one thread at a time.</p>
+     *
+     * @return a {@link RouteManeuverIndex} of the current route.
+     */
+    public @NonNull RouteManeuverIndex getManeuverIndex() {
+        RouteManeuverIndex index = mManeuverIndex;
+        if (index != null && !mManeuverIndexStale && index.getRoute() == mRoute) {
+            return index;
+        }
+        synchronized (mManeuverIndexLock) {
+            index = mManeuverIndex;
+            final FTCRRoute route = mRoute;
+            if (index == null || mManeuverIndexStale || index.getRoute() != route) {
+                mManeuverIndexStale = false;
+                index = new RouteManeuverIndex(route, index);
+                mManeuverIndex = index;
+            }
+            return index;
+        }
+    }
+
     /**
      * Gets estimated arrival date.
      *
@@ -269,8 +398,16 @@ public class BaseGuidancePresenter {
      */
     public @NonNull
     Date getEta() {
-        return new Date(System.currentTimeMillis()
-                + mNavigationManager.getRemainingTime(FTCRRoute.WHOLE_ROUTE) * 1000);
+        return new Date(getEtaMillis());
+    }
+
+    /**
+     * Gets estimated arrival time, like {@link #getEta()} but without creating a {@link Date}.
+     *
+     * @return arrival time in milliseconds since January 1, 1970 UTC.
+     */
+    protected long getEtaMillis() {
+        return System.currentTimeMillis() + mNavigationManager.getRemainingTime(FTCRRoute.WHOLE_ROUTE) * 1000;
     }
 
     /**
@@ -288,7 +425,17 @@ public class BaseGuidancePresenter {
      * @return time to arrive in seconds.
      */
     public Integer getTimeToArrival() {
-        return Integer.valueOf((int) mNavigationManager.getRemainingTime(FTCRRoute.WHOLE_ROUTE));
+        return Integer.valueOf(getTimeToArrivalSeconds());
+    }
+
+    /**
+     * Gets time to arrive at the destination, like {@link #getTimeToArrival()} but without boxing the
+     * result.
+     *
+     * @return time to arrive in seconds.
+     */
+    protected int getTimeToArrivalSeconds() {
+        return (int) mNavigationManager.getRemainingTime(FTCRRoute.WHOLE_ROUTE);
     }
 
 
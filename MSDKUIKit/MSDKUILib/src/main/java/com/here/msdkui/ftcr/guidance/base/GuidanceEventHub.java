@@ -0,0 +1,298 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.ftcr.guidance.base;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.here.android.mpa.common.GeoPosition;
+import com.here.android.mpa.common.PositioningManager;
+import com.here.android.mpa.ftcr.FTCRLaneInformation;
+import com.here.android.mpa.ftcr.FTCRManeuver;
+import com.here.android.mpa.ftcr.FTCRNavigationManager;
+import com.here.android.mpa.ftcr.FTCRRoute;
+import com.here.android.mpa.ftcr.FTCRRouter;
+import com.here.android.mpa.routing.RoutingError;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shares a single {@link FTCRNavigationManager} listener and a single {@link PositioningManager}
+ * listener between all attached {@link BaseGuidancePresenter}s and fans the events out to them.
+ * <p>The listeners are registered when the first presenter attaches and removed when the last one
+ * detaches. Attaching an already attached presenter has no effect. Presenters are held weakly, so a
+ * presenter which is never detached can still be garbage collected. Collected presenters are
+ * dropped on the next event, when none is left the listeners are removed as well.</p>
+ */
+final class GuidanceEventHub {
+
+    private static final List<GuidanceEventHub> HUBS = new ArrayList<>();
+    private static final PresenterReference[] EMPTY = new PresenterReference[0];
+
+    private final FTCRNavigationManager mNavigationManager;
+    private final PositioningManager mPositioningManager;
+
+    private PresenterReference[] mPresenters = EMPTY;
+    private boolean mListening;
+
+    private final FTCRNavigationManager.FTCRNavigationManagerListener mNavigationListener =
+            new FTCRNavigationManager.FTCRNavigationManagerListener() {
+                @Override
+                public void onCurrentManeuverChanged(@Nullable FTCRManeuver ftcrManeuver,
+                                                     @Nullable FTCRManeuver ftcrManeuver1) {
+                    dispatch(presenter -> {
+                        presenter.dispatchManeuverEvent();
+                        presenter.dispatchNewInstructionEvent();
+                    });
+                }
+
+                @Override
+                public void onStopoverReached(int i) {
+
+                }
+
+                @Override
+                public void onDestinationReached() {
+                }
+
+                @Override
+                public void onRerouteBegin() {
+                    dispatch(BaseGuidancePresenter::handleRerouteBegin);
+                }
+
+                @Override
+                public void onRerouteEnd(@Nullable FTCRRoute ftcrRoute,
+                                         @NonNull FTCRRouter.ErrorResponse errorResponse) {
+                    dispatch(presenter -> {
+                        if (errorResponse.getErrorCode() == RoutingError.NONE) {
+                            presenter.dispatchRerouteEnd(ftcrRoute);
+                        } else {
+                            presenter.handleRerouteFailed(errorResponse);
+                        }
+                    });
+                }
+
+                @Override
+                public void onLaneInformation(@NonNull List<FTCRLaneInformation> list) {
+
+                }
+            };
+
+    /*
+      Listener for {@link PositioningManager.PositionListener}.
+     */
+    private final PositioningManager.OnPositionChangedListener mPositionListener =
+            new PositioningManager.OnPositionChangedListener() {
+                @Override
+                public void onPositionUpdated(PositioningManager.LocationMethod locationMethod,
+                                              @Nullable GeoPosition geoPosition, boolean b) {
+                    dispatch(BaseGuidancePresenter::dispatchPositionUpdate);
+                }
+
+                @Override
+                public void onPositionFixChanged(PositioningManager.LocationMethod locationMethod,
+                                                 PositioningManager.LocationStatus locationStatus) {
+
+                }
+            };
+
+    private GuidanceEventHub(FTCRNavigationManager navigationManager,
+                             PositioningManager positioningManager) {
+        mNavigationManager = navigationManager;
+        mPositioningManager = positioningManager;
+    }
+
+    /**
+     * Attaches a presenter to the events of the given managers.
+     *
+     * @param navigationManager the {@link FTCRNavigationManager} to listen to.
+     * @param positioningManager the {@link PositioningManager} to listen to.
+     * @param presenter the presenter to notify.
+     */
+    static void attach(@NonNull FTCRNavigationManager navigationManager,
+                       @NonNull PositioningManager positioningManager,
+                       @NonNull BaseGuidancePresenter presenter) {
+        synchronized (HUBS) {
+            final GuidanceEventHub hub = obtain(navigationManager, positioningManager);
+            if (!contains(hub.mPresenters, presenter)) {
+                hub.mPresenters = add(hub.mPresenters, presenter);
+                if (!hub.mListening) {
+                    navigationManager.addNavigationListener(hub.mNavigationListener);
+                    positioningManager.addListener(new WeakReference<>(hub.mPositionListener));
+                    hub.mListening = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Detaches a presenter from the events of the given managers.
+     *
+     * @param navigationManager the {@link FTCRNavigationManager} to stop listening to.
+     * @param positioningManager the {@link PositioningManager} to stop listening to.
+     * @param presenter the presenter to detach.
+     */
+    static void detach(@NonNull FTCRNavigationManager navigationManager,
+                       @NonNull PositioningManager positioningManager,
+                       @NonNull BaseGuidancePresenter presenter) {
+        synchronized (HUBS) {
+            final GuidanceEventHub hub = find(navigationManager, positioningManager);
+            if (hub != null) {
+                hub.mPresenters = remove(hub.mPresenters, presenter);
+                if (hub.mPresenters.length == 0 && hub.mListening) {
+                    navigationManager.removeNavigationListener(hub.mNavigationListener);
+                    positioningManager.removeListener(hub.mPositionListener);
+                    hub.mListening = false;
+                }
+                releaseIfUnused(hub);
+            }
+        }
+    }
+
+    private static GuidanceEventHub find(FTCRNavigationManager navigationManager,
+                                         PositioningManager positioningManager) {
+        for (final GuidanceEventHub hub : HUBS) {
+            if (hub.mNavigationManager == navigationManager
+                    && hub.mPositioningManager == positioningManager) {
+                return hub;
+            }
+        }
+        return null;
+    }
+
+    private static GuidanceEventHub obtain(FTCRNavigationManager navigationManager,
+                                           PositioningManager positioningManager) {
+        GuidanceEventHub hub = find(navigationManager, positioningManager);
+        if (hub == null) {
+            hub = new GuidanceEventHub(navigationManager, positioningManager);
+            HUBS.add(hub);
+        }
+        return hub;
+    }
+
+    /**
+     * Calls the event on all presenters which were not collected yet. If collected presenters are
+     * found, they are dropped and the listeners are unregistered when no presenter is left, so a hub
+     * of presenters which were never detached does not keep receiving events.
+     */
+    private void dispatch(Event event) {
+        boolean collected = false;
+        for (final PresenterReference reference : mPresenters) {
+            final BaseGuidancePresenter presenter = reference.get();
+            if (presenter == null) {
+                collected = true;
+                continue;
+            }
+            event.dispatch(presenter);
+        }
+        if (collected) {
+            pruneCollected();
+        }
+    }
+
+    private void pruneCollected() {
+        synchronized (HUBS) {
+            mPresenters = remove(mPresenters, null);
+            if (mPresenters.length == 0 && mListening) {
+                mNavigationManager.removeNavigationListener(mNavigationListener);
+                mPositioningManager.removeListener(mPositionListener);
+                mListening = false;
+            }
+            releaseIfUnused(this);
+        }
+    }
+
+    private static void releaseIfUnused(GuidanceEventHub hub) {
+        if (!hub.mListening) {
+            HUBS.remove(hub);
+        }
+    }
+
+    /**
+     * Checks whether the presenter is part of the given array. Presenters are compared by identity.
+     */
+    private static boolean contains(PresenterReference[] presenters, BaseGuidancePresenter presenter) {
+        for (final PresenterReference item : presenters) {
+            if (item.get() == presenter) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a copy of the given array with the presenter appended and without collected
+     * presenters. The array which is currently dispatched is never modified, so presenters may
+     * attach or detach while handling an event.
+     */
+    private static PresenterReference[] add(PresenterReference[] presenters, BaseGuidancePresenter presenter) {
+        final PresenterReference[] result = remove(presenters, null);
+        final PresenterReference[] added = new PresenterReference[result.length + 1];
+        System.arraycopy(result, 0, added, 0, result.length);
+        added[result.length] = new PresenterReference(presenter);
+        return added;
+    }
+
+    /**
+     * Returns a copy of the given array without the presenter and without collected presenters.
+     */
+    private static PresenterReference[] remove(PresenterReference[] presenters, BaseGuidancePresenter presenter) {
+        int count = 0;
+        for (final PresenterReference item : presenters) {
+            final BaseGuidancePresenter referent = item.get();
+            if (referent != null && referent != presenter) {
+                count++;
+            }
+        }
+        if (count == presenters.length) {
+            return presenters;
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+        final PresenterReference[] result = new PresenterReference[count];
+        int index = 0;
+        for (final PresenterReference item : presenters) {
+            final BaseGuidancePresenter referent = item.get();
+            if (referent != null && referent != presenter) {
+                result[index++] = item;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * An event dispatched to an attached presenter.
+     */
+    private interface Event {
+
+        void dispatch(BaseGuidancePresenter presenter);
+    }
+
+    /**
+     * A weak reference to an attached presenter. Presenters are held weakly, so a presenter which
+     * is never paused can still be garbage collected, like listeners held by the SDK managers.
+     */
+    private static final class PresenterReference extends WeakReference<BaseGuidancePresenter> {
+
+        PresenterReference(BaseGuidancePresenter presenter) {
+            super(presenter);
+        }
+    }
+}
@@ -30,7 +30,6 @@ import androidx.annotation.RequiresApi;
 import com.here.android.mpa.ftcr.FTCRManeuver;
 import com.here.msdkui.R;
 import com.here.msdkui.common.BaseView;
-import com.here.msdkui.common.DistanceFormatterUtil;
 import com.here.msdkui.common.ThemeUtil;
 import com.nokia.maps.restrouting.Maneuver;
 
@@ -257,6 +256,23 @@ public class ManeuverItemView extends BaseView {
      * @throws IllegalArgumentException if pos is out of range.
      */
     public void setManeuver(final List<FTCRManeuver> maneuvers, final int pos) {
+        setManeuver(maneuvers, pos, maneuvers == null ? null : new ManeuverResources(getContext(), maneuvers));
+    }
+
+    /**
+     * Sets the {@link Maneuver} to be shown in this item. The maneuver is taken from the provided maneuver list
+     * at the specified position.
+     *
+     * @param maneuvers
+     *         a list of {@link Maneuver Maneuver} elements that describe the instructions for a route.
+     * @param pos
+     *         the index of the maneuver element from the given list that should be shown in this item.
+     * @param maneuverResources
+     *         the {@link ManeuverResources} of the maneuver list. Sharing one instance between all items of
+     *         a list resolves the texts of each maneuver only once.
+     * @throws IllegalArgumentException if pos is out of range.
+     */
+    public void setManeuver(final List<FTCRManeuver> maneuvers, final int pos, final ManeuverResources maneuverResources) {
         if (maneuvers == null) {
             throw new IllegalArgumentException(
                     getContext().getString(R.string.msdkui_exception_maneuvres_null));
@@ -267,38 +283,55 @@ public class ManeuverItemView extends BaseView {
                     getContext().getString(R.string.msdkui_exception_maneuver_pos_invalid));
         }
 
-        final ManeuverResources maneuverResources = new ManeuverResources(getContext(), maneuvers);
-        mManeuver = maneuvers.get(pos);
+        setManeuver(ManeuverRowModel.create(maneuvers, pos, maneuverResources, getDistanceFormatter()));
+    }
+
+    /**
+     * Sets the {@link FTCRManeuver} to be shown in this item from its resolved {@link ManeuverRowModel}.
+     * <p>Binding from a row model does no resource lookups, {@link ManeuverList} uses this method to
+     * bind its rows.</p>
+     *
+     * @param rowModel
+     *         the {@link ManeuverRowModel} of the maneuver.
+     */
+    public void setManeuver(final ManeuverRowModel rowModel) {
+        mManeuver = rowModel.getManeuver();
 
         final ImageView icon = (ImageView) mSections.get(Section.ICON);
-        final int id = maneuverResources.getManeuverIconId(pos);
-        if (id == 0) {
-            icon.setVisibility(View.GONE);
-        } else {
+        final int id = rowModel.getIconId();
+        if (rowModel.isIconVisible()) {
             icon.setImageResource(id);
+        } else {
+            icon.setVisibility(View.GONE);
         }
         icon.setTag(id);
 
         final TextView instructionView = (TextView) mSections.get(Section.INSTRUCTIONS);
-        instructionView.setText(maneuverResources.getManeuverInstruction(pos));
+        instructionView.setText(rowModel.getInstruction());
 
         final TextView addressView = (TextView) mSections.get(Section.ADDRESS);
-        addressView.setText(maneuverResources.getRoadToDisplay(pos));
+        addressView.setText(rowModel.getRoadToDisplay());
 
-        final TextView distanceView = (TextView) mSections.get(Section.DISTANCE);
-        final int distance = maneuverResources.getDistanceFromNext(maneuvers, pos);
-        if (distance == 0) {
-            distanceView.setVisibility(GONE);
-        } else {
-            distanceView.setVisibility(VISIBLE);
-            distanceView.setText(DistanceFormatterUtil.format(getContext(), distance, mUnitSystem));
-        }
+        setManeuverDistance(rowModel);
 
         if (getVisibility() == INVISIBLE) {
             setVisibility(View.VISIBLE);
         }
     }
 
+    /**
+     * Updates only the distance of the shown maneuver, e.g. after the unit system changed.
+     */
+    void setManeuverDistance(final ManeuverRowModel rowModel) {
+        final TextView distanceView = (TextView) mSections.get(Section.DISTANCE);
+        if (rowModel.isDistanceVisible()) {
+            distanceView.setVisibility(VISIBLE);
+            distanceView.setText(rowModel.getDistance());
+        } else {
+            distanceView.setVisibility(GONE);
+        }
+    }
+
     /**
      * Describes all available sections that the {@link ManeuverItemView} can show.
      */
@@ -20,25 +20,52 @@ import android.content.Context;
 import android.view.View;
 import android.view.ViewGroup;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 
 import com.here.android.mpa.ftcr.FTCRManeuver;
 import com.here.msdkui.R;
+import com.here.msdkui.common.ComputePipeline;
+import com.here.msdkui.common.DistanceFormatter;
 import com.here.msdkui.common.measurements.UnitSystem;
+import com.here.msdkui.ftcr.guidance.GuidanceManeuverUtil;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
- * A {@link RecyclerView.Adapter} to bind a view item of the list to a
+ * A {@link androidx.recyclerview.widget.RecyclerView.Adapter} to bind a view item of the list to a
  * {@link ManeuverItemView}.
+ * <p>Rows are bound from {@link ManeuverRowModel}s. When the maneuvers or the unit system change,
+ * the new row models are compared with the current ones using {@link DiffUtil}, so only rows which
+ * changed are bound again and item animations keep working. Rows of which only the distance changed
+ * are updated with the {@link #PAYLOAD_DISTANCE} payload. Item ids are stable. By default, the row
+ * models and the difference are computed on the calling thread, see
+ * {@link #setComputeExecutor(Executor)}.</p>
  */
 public class ManeuverListAdapter extends RecyclerView.Adapter<ManeuverListAdapter.ViewHolder> {
 
-    private final List<FTCRManeuver> mManeuverList;
+    /**
+     * Payload of a row of which only the distance changed, e.g. after the unit system changed.
+     */
+    public static final Object PAYLOAD_DISTANCE = new Object();
+
+    private List<FTCRManeuver> mManeuverList;
     private UnitSystem mUnitSystem = UnitSystem.METRIC;
+    private ManeuverRowModel[] mRowModels;
+    private long[] mItemIds;
+    private long mNextItemId;
+    private DistanceFormatter mDistanceFormatter;
+    private ComputePipeline mComputePipeline;
+    private Context mContext;
+    private boolean mDispatchingUpdate;
 
     /**
-     * Constructs a new instance using a list of maneuvers.
+     * Constructs a new instance using a list of maneuvers. The adapter shows the given list, but
+     * never modifies it, see {@link #setManeuvers(List)}.
      *
      * @param maneuverList
      *         a list of maneuvers.
@@ -46,17 +73,91 @@ public class ManeuverListAdapter extends RecyclerView.Adapter<ManeuverListAdapte
     public ManeuverListAdapter(final List<FTCRManeuver> maneuverList) {
         super();
         mManeuverList = maneuverList;
+        setHasStableIds(true);
+        // Row models are outdated as soon as the list is changed from outside of this adapter.
+        registerAdapterDataObserver(new RecyclerView.AdapterDataObserver() {
+            @Override
+            public void onChanged() {
+                invalidateRows();
+            }
+
+            @Override
+            public void onItemRangeChanged(int positionStart, int itemCount) {
+                invalidateRows();
+            }
+
+            @Override
+            public void onItemRangeInserted(int positionStart, int itemCount) {
+                invalidateRows();
+            }
+
+            @Override
+            public void onItemRangeRemoved(int positionStart, int itemCount) {
+                invalidateRows();
+            }
+
+            @Override
+            public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+                invalidateRows();
+            }
+        });
+    }
+
+    /**
+     * Sets the executor used to compute row models off the main thread. When set, the row models
+     * of new maneuvers and their difference to the current rows are computed on the executor and the
+     * list is updated on the main thread. Updates overtaken by a newer update are dropped. By
+     * default, no executor is set and everything is computed on the calling thread.
+     *
+     * @param executor
+     *         the {@link Executor} to compute row models on or null to compute on the calling thread.
+     */
+    public void setComputeExecutor(@Nullable Executor executor) {
+        cancelUpdate();
+        mComputePipeline = executor == null ? null : new ComputePipeline(executor);
+    }
+
+    /**
+     * Gets the executor used to compute row models.
+     *
+     * @return the {@link Executor} or null if row models are computed on the calling thread.
+     */
+    public @Nullable Executor getComputeExecutor() {
+        return mComputePipeline == null ? null : mComputePipeline.getExecutor();
+    }
+
+    /**
+     * Replaces the maneuvers shown by this adapter, for example after rerouting.
+     * <p>Rows of maneuvers which are part of both lists keep their item id and are only bound again
+     * if their content changed. The row models of the maneuvers at the end of the new list which are
+     * equal to the ones at the end of the current list are carried over. If an executor is set, the
+     * maneuvers are replaced as soon as the new rows were computed.</p>
+     * <p>The adapter shows a copy of the given list afterwards, the list passed to the constructor
+     * is not modified.</p>
+     *
+     * @param maneuvers
+     *         the new list of maneuvers.
+     */
+    public void setManeuvers(final List<FTCRManeuver> maneuvers) {
+        final List<FTCRManeuver> copy = new ArrayList<>(maneuvers);
+        update(copy, copy, mUnitSystem);
     }
 
     /**
-     * Sets unit system of this adapter.
+     * Sets unit system of this adapter. Only the row models are computed again, the maneuvers stay
+     * the same.
      *
      * @param unitSystem
      *         unit system {@link UnitSystem}.
      */
     public void setUnitSystem(UnitSystem unitSystem) {
         mUnitSystem = unitSystem;
-        notifyDataSetChanged();
+        if (mContext == null) {
+            notifyDataSetChanged();
+        } else {
+            // the computation works on a snapshot, the shown list itself is kept
+            update(mManeuverList, new ArrayList<>(mManeuverList), unitSystem);
+        }
     }
 
     /**
@@ -68,6 +169,18 @@ public class ManeuverListAdapter extends RecyclerView.Adapter<ManeuverListAdapte
         return mUnitSystem;
     }
 
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        mContext = recyclerView.getContext();
+    }
+
+    @Override
+    public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onDetachedFromRecyclerView(recyclerView);
+        mContext = null;
+    }
+
     @Override
     public ViewHolder onCreateViewHolder(final ViewGroup parent, final int viewType) {
         return new ViewHolder(getRowView(parent.getContext()));
@@ -93,10 +206,219 @@ public class ManeuverListAdapter extends RecyclerView.Adapter<ManeuverListAdapte
         final FTCRManeuver maneuver = mManeuverList.get(position);
         if (maneuver != null && holder.itemView instanceof ManeuverItemView) {
             ((ManeuverItemView) holder.itemView).setUnitSystem(mUnitSystem);
-            ((ManeuverItemView) holder.itemView).setManeuver(mManeuverList, position);
+            ((ManeuverItemView) holder.itemView).setManeuver(getRowModel(holder.itemView.getContext(), position));
         }
     }
 
+    @Override
+    public void onBindViewHolder(final ViewHolder holder, final int position, final List<Object> payloads) {
+        if (payloads.isEmpty() || !isDistancePayload(payloads) || mManeuverList.get(position) == null ||
+                !(holder.itemView instanceof ManeuverItemView)) {
+            super.onBindViewHolder(holder, position, payloads);
+            return;
+        }
+        ((ManeuverItemView) holder.itemView).setUnitSystem(mUnitSystem);
+        ((ManeuverItemView) holder.itemView).setManeuverDistance(
+                getRowModel(holder.itemView.getContext(), position));
+    }
+
+    @Override
+    public long getItemId(final int position) {
+        if (mItemIds == null || mItemIds.length != mManeuverList.size()) {
+            mItemIds = new long[mManeuverList.size()];
+            for (int i = 0; i < mItemIds.length; i++) {
+                mItemIds[i] = mNextItemId++;
+            }
+        }
+        return mItemIds[position];
+    }
+
+    private static boolean isDistancePayload(final List<Object> payloads) {
+        for (final Object payload : payloads) {
+            if (payload != PAYLOAD_DISTANCE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private ManeuverRowModel getRowModel(final Context context, final int position) {
+        if (mRowModels == null || mRowModels.length != mManeuverList.size() || mRowModels[position] == null) {
+            prepareRowModels(context);
+        }
+        return mRowModels[position];
+    }
+
+    /**
+     * Creates the row models of all maneuvers which don't have one yet. This is done on the first
+     * bind after the list was changed from outside of this adapter, updates done with
+     * {@link #setManeuvers(List)} and {@link #setUnitSystem(UnitSystem)} create all rows at once.
+     *
+     * @param context
+     *         the required context.
+     */
+    void prepareRowModels(final Context context) {
+        prepareRowModels(context, mUnitSystem);
+    }
+
+    /**
+     * Creates the missing row models with distances in the given unit system.
+     */
+    private void prepareRowModels(final Context context, final UnitSystem unitSystem) {
+        final DistanceFormatter formatter = DistanceFormatter.obtain(mDistanceFormatter, context, unitSystem);
+        if (formatter != mDistanceFormatter) {
+            // the locale or unit system changed, all distances are formatted again
+            mDistanceFormatter = formatter;
+            mRowModels = null;
+        }
+        final int size = mManeuverList.size();
+        if (mRowModels == null || mRowModels.length != size) {
+            mRowModels = new ManeuverRowModel[size];
+        }
+        ManeuverResources resources = null;
+        for (int i = 0; i < size; i++) {
+            if (mRowModels[i] == null && mManeuverList.get(i) != null) {
+                if (resources == null) {
+                    resources = new ManeuverResources(context, mManeuverList);
+                }
+                mRowModels[i] = ManeuverRowModel.create(mManeuverList, i, resources, formatter);
+            }
+        }
+    }
+
+    /**
+     * Computes the rows of the given maneuvers and dispatches their difference to the current rows.
+     * Without a context, i.e. before the adapter is attached, the rows are created on the first bind.
+     *
+     * @param shown
+     *         the list to show once the rows are computed.
+     * @param maneuvers
+     *         the content of the list to show, which is not changed while the rows are computed.
+     */
+    private void update(final List<FTCRManeuver> shown, final List<FTCRManeuver> maneuvers,
+            final UnitSystem unitSystem) {
+        final Context context = mContext;
+        if (context == null) {
+            cancelUpdate();
+            mManeuverList = shown;
+            notifyDataSetChanged();
+            return;
+        }
+        // the current rows stay in the unit system they are displayed in, only the new rows use the new one
+        prepareRowModels(context, mDistanceFormatter == null ? unitSystem : mDistanceFormatter.getUnitSystem());
+        final List<FTCRManeuver> oldManeuvers = new ArrayList<>(mManeuverList);
+        final ManeuverRowModel[] oldRows = mRowModels.clone();
+        final DistanceFormatter oldFormatter = mDistanceFormatter;
+        if (mComputePipeline == null) {
+            final DistanceFormatter formatter = DistanceFormatter.obtain(oldFormatter, context, unitSystem);
+            applyUpdate(computeUpdate(context, oldManeuvers, oldRows, shown, maneuvers, formatter,
+                    formatter == oldFormatter));
+            return;
+        }
+        // formatters are not thread safe, the computation gets its own one
+        final DistanceFormatter formatter = new DistanceFormatter(context, unitSystem);
+        final boolean sameFormat = unitSystem == oldFormatter.getUnitSystem() &&
+                formatter.getLocale().equals(oldFormatter.getLocale());
+        mComputePipeline.submit(() -> computeUpdate(context, oldManeuvers, oldRows, shown, maneuvers, formatter,
+                sameFormat), this::applyUpdate);
+    }
+
+    /**
+     * Creates the rows of the new maneuvers and their difference to the old rows. Rows of the
+     * unchanged end of the list are carried over if the distances are formatted the same way.
+     */
+    private static RowUpdate computeUpdate(final Context context, final List<FTCRManeuver> oldManeuvers,
+            final ManeuverRowModel[] oldRows, final List<FTCRManeuver> shown, final List<FTCRManeuver> maneuvers,
+            final DistanceFormatter formatter, final boolean sameFormat) {
+        final ManeuverRowModel[] rows = sameFormat ?
+                carryOver(oldRows, maneuvers.size(), getEqualSuffixLength(oldManeuvers, maneuvers)) :
+                new ManeuverRowModel[maneuvers.size()];
+        ManeuverResources resources = null;
+        for (int i = 0; i < rows.length; i++) {
+            if (rows[i] == null && maneuvers.get(i) != null) {
+                if (resources == null) {
+                    resources = new ManeuverResources(context, maneuvers);
+                }
+                rows[i] = ManeuverRowModel.create(maneuvers, i, resources, formatter);
+            }
+        }
+        final DiffUtil.DiffResult diff = DiffUtil.calculateDiff(new RowDiffCallback(oldRows, rows), false);
+        return new RowUpdate(shown, rows, formatter, diff);
+    }
+
+    /**
+     * Replaces the maneuvers and rows on the main thread. Rows which are part of both lists keep
+     * their item id.
+     */
+    private void applyUpdate(final RowUpdate update) {
+        final long[] itemIds = new long[update.mRows.length];
+        for (int i = 0; i < itemIds.length; i++) {
+            final int oldPosition = update.mDiff.convertNewPositionToOld(i);
+            itemIds[i] = oldPosition == DiffUtil.DiffResult.NO_POSITION ? mNextItemId++ : getItemId(oldPosition);
+        }
+        mManeuverList = update.mManeuvers;
+        mRowModels = update.mRows;
+        mItemIds = itemIds;
+        mDistanceFormatter = update.mFormatter;
+        mDispatchingUpdate = true;
+        try {
+            update.mDiff.dispatchUpdatesTo(this);
+        } finally {
+            mDispatchingUpdate = false;
+        }
+    }
+
+    private void invalidateRows() {
+        if (!mDispatchingUpdate) {
+            // a pending update is based on outdated rows
+            cancelUpdate();
+            mRowModels = null;
+            mItemIds = null;
+        }
+    }
+
+    private void cancelUpdate() {
+        if (mComputePipeline != null) {
+            mComputePipeline.cancel();
+        }
+    }
+
+    /**
+     * Gets the number of maneuvers at the end of both lists which are equal. The first maneuver is
+     * displayed differently, so it is never part of the equal suffix.
+     */
+    private static int getEqualSuffixLength(final List<FTCRManeuver> oldManeuvers, final List<FTCRManeuver> maneuvers) {
+        final int oldSize = oldManeuvers.size();
+        final int newSize = maneuvers.size();
+        final int maxSuffix = Math.min(oldSize, newSize) - 1;
+        int suffix = 0;
+        while (suffix < maxSuffix && isSameManeuver(oldManeuvers.get(oldSize - 1 - suffix),
+                maneuvers.get(newSize - 1 - suffix))) {
+            suffix++;
+        }
+        return suffix;
+    }
+
+    /**
+     * Takes over the row models of the last maneuvers. The rows only depend on a maneuver and its
+     * following maneuvers, except for the first row of the list.
+     */
+    private static ManeuverRowModel[] carryOver(final ManeuverRowModel[] rowModels, final int newSize,
+            final int suffixLength) {
+        final ManeuverRowModel[] carried = new ManeuverRowModel[newSize];
+        final int offset = rowModels.length - newSize;
+        for (int i = Math.max(newSize - suffixLength, 1); i < newSize; i++) {
+            if (i + offset > 0) {
+                carried[i] = rowModels[i + offset];
+            }
+        }
+        return carried;
+    }
+
+    private static boolean isSameManeuver(final FTCRManeuver maneuverA, final FTCRManeuver maneuverB) {
+        return maneuverA == maneuverB || GuidanceManeuverUtil.maneuversEqual(maneuverA, maneuverB);
+    }
+
     @Override
     public int getItemCount() {
         return mManeuverList.size();
@@ -108,7 +430,7 @@ public class ManeuverListAdapter extends RecyclerView.Adapter<ManeuverListAdapte
     public class ViewHolder extends RecyclerView.ViewHolder {
 
         /**
-         * Constructs a new {@link RecyclerView.ViewHolder}.
+         * Constructs a new {@link androidx.recyclerview.widget.RecyclerView.ViewHolder}.
          *
          * @param view
          *         a view to be hold.
@@ -117,4 +439,76 @@ public class ManeuverListAdapter extends RecyclerView.Adapter<ManeuverListAdapte
             super(view);
         }
     }
+
+    /**
+     * The result of an update computation.
+     */
+    private static final class RowUpdate {
+
+        private final List<FTCRManeuver> mManeuvers;
+        private final ManeuverRowModel[] mRows;
+        private final DistanceFormatter mFormatter;
+        private final DiffUtil.DiffResult mDiff;
+
+        RowUpdate(final List<FTCRManeuver> maneuvers, final ManeuverRowModel[] rows, final DistanceFormatter formatter,
+                final DiffUtil.DiffResult diff) {
+            mManeuvers = maneuvers;
+            mRows = rows;
+            mFormatter = formatter;
+            mDiff = diff;
+        }
+    }
+
+    /**
+     * Compares row models. Rows are the same item if they show the same maneuver.
+     */
+    private static final class RowDiffCallback extends DiffUtil.Callback {
+
+        private final ManeuverRowModel[] mOldRows;
+        private final ManeuverRowModel[] mNewRows;
+
+        RowDiffCallback(final ManeuverRowModel[] oldRows, final ManeuverRowModel[] newRows) {
+            mOldRows = oldRows;
+            mNewRows = newRows;
+        }
+
+        @Override
+        public int getOldListSize() {
+            return mOldRows.length;
+        }
+
+        @Override
+        public int getNewListSize() {
+            return mNewRows.length;
+        }
+
+        @Override
+        public boolean areItemsTheSame(final int oldItemPosition, final int newItemPosition) {
+            final ManeuverRowModel oldRow = mOldRows[oldItemPosition];
+            final ManeuverRowModel newRow = mNewRows[newItemPosition];
+            if (oldRow == null || newRow == null) {
+                return oldRow == newRow;
+            }
+            // the first row is displayed differently
+            return (oldItemPosition == 0) == (newItemPosition == 0) &&
+                    isSameManeuver(oldRow.getManeuver(), newRow.getManeuver());
+        }
+
+        @Override
+        public boolean areContentsTheSame(final int oldItemPosition, final int newItemPosition) {
+            final ManeuverRowModel oldRow = mOldRows[oldItemPosition];
+            final ManeuverRowModel newRow = mNewRows[newItemPosition];
+            return oldRow == newRow || oldRow != null && newRow != null && oldRow.hasSameContent(newRow);
+        }
+
+        @Override
+        public Object getChangePayload(final int oldItemPosition, final int newItemPosition) {
+            final ManeuverRowModel oldRow = mOldRows[oldItemPosition];
+            final ManeuverRowModel newRow = mNewRows[newItemPosition];
+            if (oldRow != null && newRow != null && oldRow.hasSameContentExceptDistance(newRow)) {
+                return PAYLOAD_DISTANCE;
+            }
+            return null;
+        }
+    }
 }
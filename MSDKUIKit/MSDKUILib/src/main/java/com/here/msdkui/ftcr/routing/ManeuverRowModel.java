@@ -0,0 +1,152 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.ftcr.routing;
+
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.here.android.mpa.ftcr.FTCRManeuver;
+import com.here.msdkui.common.DistanceFormatter;
+
+import java.util.List;
+
+/**
+ * The resolved content of one row of a {@link ManeuverList}.
+ * <p>A row model holds everything {@link ManeuverItemView} displays for a maneuver: the icon, the
+ * instruction, the road to display and the formatted distance to the next maneuver. The models of a
+ * list are created once per route and unit system, so binding a row does no resource lookups.
+ * Instances are immutable.</p>
+ */
+public final class ManeuverRowModel {
+
+    private final FTCRManeuver mManeuver;
+    private final int mIconId;
+    private final String mInstruction;
+    private final String mRoadToDisplay;
+    private final String mDistance;
+
+    private ManeuverRowModel(FTCRManeuver maneuver, int iconId, String instruction, String roadToDisplay,
+            String distance) {
+        mManeuver = maneuver;
+        mIconId = iconId;
+        mInstruction = instruction;
+        mRoadToDisplay = roadToDisplay;
+        mDistance = distance;
+    }
+
+    /**
+     * Creates the row model for the maneuver at the given index of a maneuver list.
+     *
+     * @param maneuvers
+     *         the maneuver list.
+     * @param index
+     *         the index of the maneuver.
+     * @param maneuverResources
+     *         the {@link ManeuverResources} of the maneuver list.
+     * @param distanceFormatter
+     *         the {@link DistanceFormatter} used to format the distance to the next maneuver.
+     *
+     * @return a new {@link ManeuverRowModel}.
+     */
+    public static @NonNull ManeuverRowModel create(@NonNull List<FTCRManeuver> maneuvers, int index,
+            @NonNull ManeuverResources maneuverResources, @NonNull DistanceFormatter distanceFormatter) {
+        final int distance = maneuverResources.getDistanceFromNext(maneuvers, index);
+        return new ManeuverRowModel(maneuvers.get(index), maneuverResources.getManeuverIconId(index),
+                maneuverResources.getManeuverInstruction(index), maneuverResources.getRoadToDisplay(index),
+                distance == 0 ? null : distanceFormatter.format(distance));
+    }
+
+    /**
+     * Gets the maneuver of this row.
+     *
+     * @return the {@link FTCRManeuver}.
+     */
+    public FTCRManeuver getManeuver() {
+        return mManeuver;
+    }
+
+    /**
+     * Gets the icon of the maneuver.
+     *
+     * @return the drawable resource id or 0 if the maneuver has no icon.
+     */
+    public int getIconId() {
+        return mIconId;
+    }
+
+    /**
+     * Checks if the maneuver has an icon.
+     *
+     * @return true if there is an icon, false otherwise.
+     */
+    public boolean isIconVisible() {
+        return mIconId != 0;
+    }
+
+    /**
+     * Gets the instruction of the maneuver.
+     *
+     * @return the instruction.
+     */
+    public String getInstruction() {
+        return mInstruction;
+    }
+
+    /**
+     * Gets the road to display for the maneuver, see {@link ManeuverResources#getRoadToDisplay(int)}.
+     *
+     * @return the road or null if none was found.
+     */
+    public String getRoadToDisplay() {
+        return mRoadToDisplay;
+    }
+
+    /**
+     * Gets the formatted distance to the next maneuver.
+     *
+     * @return the distance or null if there is no next maneuver.
+     */
+    public @Nullable String getDistance() {
+        return mDistance;
+    }
+
+    /**
+     * Checks if there is a distance to the next maneuver.
+     *
+     * @return true if there is a distance, false otherwise.
+     */
+    public boolean isDistanceVisible() {
+        return mDistance != null;
+    }
+
+    /**
+     * Checks if the other row displays the same content as this row.
+     */
+    boolean hasSameContent(@NonNull ManeuverRowModel other) {
+        return hasSameContentExceptDistance(other) && TextUtils.equals(mDistance, other.mDistance);
+    }
+
+    /**
+     * Checks if the other row displays the same content as this row, except for the distance.
+     */
+    boolean hasSameContentExceptDistance(@NonNull ManeuverRowModel other) {
+        return mIconId == other.mIconId && TextUtils.equals(mInstruction, other.mInstruction) &&
+                TextUtils.equals(mRoadToDisplay, other.mRoadToDisplay);
+    }
+}
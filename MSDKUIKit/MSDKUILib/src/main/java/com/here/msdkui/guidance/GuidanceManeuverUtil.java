@@ -21,7 +21,6 @@ import androidx.annotation.NonNull;
 import android.text.TextUtils;
 
 import com.here.android.mpa.routing.Maneuver;
-import com.here.android.mpa.routing.Route;
 import com.here.android.mpa.routing.Signpost;
 import com.here.msdkui.R;
 import com.here.msdkui.guidance.base.BaseGuidancePresenter;
@@ -141,36 +140,14 @@ public final class GuidanceManeuverUtil {
     }
 
     /**
-     * Gets the next {@link Maneuver}, if next maneuver is {@code null} it try to get the next one.
+     * Gets the {@link Maneuver} following the given one from the maneuver index of the route, or the
+     * next maneuver of the guidance if no maneuver is given.
      */
     private static Maneuver getNextManeuver(BaseGuidancePresenter baseGuidancePresenter, Maneuver lastManeuver) {
-        Maneuver nextManeuver = (lastManeuver == null) ? baseGuidancePresenter.getNextManeuver() : lastManeuver;
-        if (nextManeuver == null) {
-            final Route route = baseGuidancePresenter.getRoute();
-            if (route != null) {
-                nextManeuver = getFollowingManeuver(route, lastManeuver);
-            }
+        if (lastManeuver == null) {
+            return baseGuidancePresenter.getNextManeuver();
         }
-        return nextManeuver;
-    }
-
-    /**
-     * Gets the following {@link Maneuver} of given lastManeuver.
-     *
-     * @param route
-     *         {@link Route} to get all maneuvers.
-     * @param lastManeuver
-     *         input {@link Maneuver} to get its following maneuver.
-     */
-    private static Maneuver getFollowingManeuver(Route route, Maneuver lastManeuver) {
-        final List<Maneuver> maneuvers = route.getManeuvers();
-        if (maneuvers != null && !maneuvers.isEmpty()) {
-            final int index = getIndexOfManeuver(lastManeuver, maneuvers);
-            if (index >= 0 && index < maneuvers.size() - 1) {
-                return maneuvers.get(index + 1);
-            }
-        }
-        return null;
+        return baseGuidancePresenter.getManeuverIndex().getFollowing(lastManeuver);
     }
 
     /**
@@ -32,7 +32,6 @@ import android.widget.TextView;
 
 import com.here.msdkui.R;
 import com.here.msdkui.common.BaseView;
-import com.here.msdkui.common.DistanceFormatterUtil;
 import com.here.msdkui.common.ThemeUtil;
 
 /**
@@ -165,8 +164,7 @@ public class GuidanceManeuverView extends BaseView {
             distanceView.setVisibility(View.GONE);
         } else {
             distanceView.setVisibility(View.VISIBLE);
-            distanceView.setText(DistanceFormatterUtil.formatDistance(
-                    getContext(), maneuverData.getDistance(), mUnitSystem));
+            distanceView.setText(getDistanceFormatter().formatDistance(maneuverData.getDistance()));
         }
     }
 
@@ -22,11 +22,10 @@ import com.here.android.mpa.guidance.NavigationManager;
 import com.here.android.mpa.routing.Maneuver;
 import com.here.android.mpa.routing.Route;
 import com.here.msdkui.common.DistanceFormatterUtil;
+import com.here.msdkui.common.ListenerRegistry;
+import com.here.msdkui.common.ManeuverIconTable;
 import com.here.msdkui.guidance.base.BaseGuidancePresenter;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * A class that creates {@link GuidanceNextManeuverData} during guidance. This data can be fed into
  * {@link GuidanceNextManeuverView} to inform the user about maneuver to take after current one.
@@ -36,7 +35,8 @@ import java.util.List;
 public class GuidanceNextManeuverPresenter extends BaseGuidancePresenter {
 
     private final Context mContext;
-    private final List<GuidanceNextManeuverListener> mListener = new ArrayList<>();
+    private final RouteManeuverIndex.StreetResolver mStreetResolver;
+    private final ListenerRegistry<GuidanceNextManeuverListener> mListener = new ListenerRegistry<>();
 
     /**
      * Constructs a new instance.
@@ -51,6 +51,7 @@ public class GuidanceNextManeuverPresenter extends BaseGuidancePresenter {
     public GuidanceNextManeuverPresenter(Context context, NavigationManager navigationManager, Route route) {
         super(navigationManager, route);
         mContext = context;
+        mStreetResolver = maneuver -> GuidanceManeuverUtil.determineNextManeuverStreet(context, maneuver, this);
     }
 
     @Override
@@ -94,15 +95,14 @@ public class GuidanceNextManeuverPresenter extends BaseGuidancePresenter {
      * @return the resource id of the icon.
      */
     protected int getIcon(Maneuver maneuver) {
-        final int id = maneuver.getIcon().ordinal();
-        return mContext.getResources().getIdentifier("ic_maneuver_icon_" + id, "drawable", mContext.getPackageName());
+        return ManeuverIconTable.getIconId(maneuver.getIcon());
     }
 
     /**
      * Gets the street name for {@link Maneuver}.
      */
     private String getStreet(Maneuver maneuver) {
-        return GuidanceManeuverUtil.determineNextManeuverStreet(mContext, maneuver, this);
+        return getManeuverIndex().getStreet(maneuver, mStreetResolver);
     }
 
     /**
@@ -112,9 +112,7 @@ public class GuidanceNextManeuverPresenter extends BaseGuidancePresenter {
      *         the listener to add to the list of listeners.
      */
     public void addListener(GuidanceNextManeuverListener listener) {
-        if (listener != null && !mListener.contains(listener)) {
-            mListener.add(listener);
-        }
+        mListener.add(listener);
     }
 
     /**
@@ -131,8 +129,6 @@ public class GuidanceNextManeuverPresenter extends BaseGuidancePresenter {
      * Notify on {@link GuidanceNextManeuverData} changes.
      */
     private void notifyDataChanged(GuidanceNextManeuverData data) {
-        for (final GuidanceNextManeuverListener listener : mListener) {
-            listener.onDataChanged(data);
-        }
+        mListener.dispatch(GuidanceNextManeuverListener::onDataChanged, data);
     }
 }
@@ -31,7 +31,6 @@ import android.widget.TextView;
 
 import com.here.msdkui.R;
 import com.here.msdkui.common.BaseView;
-import com.here.msdkui.common.DistanceFormatterUtil;
 import com.here.msdkui.common.ThemeUtil;
 
 /**
@@ -121,8 +120,7 @@ public class GuidanceNextManeuverView extends BaseView {
             maneuverDistance.setVisibility(View.GONE);
         } else {
             maneuverDistance.setVisibility(View.VISIBLE);
-            maneuverDistance.setText(DistanceFormatterUtil.format(
-                    getContext(), nextManeuverData.getDistance(), mUnitSystem));
+            maneuverDistance.setText(getDistanceFormatter().format(nextManeuverData.getDistance()));
         }
 
         final TextView streetName = findViewById(R.id.afterNextManeuverStreetName);
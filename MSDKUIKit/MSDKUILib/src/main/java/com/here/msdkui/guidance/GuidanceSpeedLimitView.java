@@ -120,8 +120,8 @@ public class GuidanceSpeedLimitView extends BaseView {
             final TextView speedLimit = findViewById(R.id.speed_limit);
             setVisibility(VISIBLE);
             if (data.getCurrentSpeedLimit() != null) {
-                speedLimit.setText(String.valueOf(SpeedFormatterUtil.format(
-                        data.getCurrentSpeedLimit(), mUnitSystem)));
+                speedLimit.setText(SpeedFormatterUtil.formatToString(
+                        data.getCurrentSpeedLimit(), mUnitSystem));
                 speedLimit.setVisibility(VISIBLE);
             } else {
                 speedLimit.setVisibility(GONE);
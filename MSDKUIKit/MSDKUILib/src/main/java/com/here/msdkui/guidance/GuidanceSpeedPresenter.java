@@ -23,11 +23,11 @@ import com.here.android.mpa.common.GeoPosition;
 import com.here.android.mpa.common.PositioningManager;
 import com.here.android.mpa.common.RoadElement;
 import com.here.android.mpa.guidance.NavigationManager;
+import com.here.msdkui.common.ListenerRegistry;
+import com.here.msdkui.common.SpeedFormatterUtil;
+import com.here.msdkui.common.measurements.UnitSystem;
 import com.here.msdkui.guidance.base.BaseGuidancePresenter;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * This class creates {@link GuidanceSpeedData} instances during guidance and notifies it's
  * listeners about that.
@@ -36,8 +36,11 @@ public class GuidanceSpeedPresenter extends BaseGuidancePresenter {
 
     @NonNull
     private final PositioningManager mPositioningManager;
-    private final List<GuidanceSpeedListener> mListener = new ArrayList<>();
+    private final ListenerRegistry<GuidanceSpeedListener> mListener = new ListenerRegistry<>();
     private float mPreviousSpeedLimit = -1.0f;
+    private UnitSystem mUnitSystem;
+    private GuidanceSpeedData mLastData;
+    private boolean mHasLastData;
 
     /**
      * Constructs a new instance using instances of {@link NavigationManager} and {@link PositioningManager}.
@@ -89,20 +92,66 @@ public class GuidanceSpeedPresenter extends BaseGuidancePresenter {
         final double speed = geoPosition != null && geoPosition.isValid() && geoPosition.getSpeed() != GeoPosition.UNKNOWN ?
                 geoPosition.getSpeed() : -1;
         if (speed >= 0) {
-            final GuidanceSpeedData data = new GuidanceSpeedData(speed, (double) speedLimit);
-            notifyDataChanged(data);
-        } else {
+            final GuidanceSpeedData last = mLastData;
+            if (mHasLastData && last != null && isSameDisplayedSpeed(last, speed, speedLimit)) {
+                return;
+            }
+            mLastData = new GuidanceSpeedData(speed, (double) speedLimit);
+            mHasLastData = true;
+            notifyDataChanged(mLastData);
+        } else if (!mHasLastData || mLastData != null) {
+            mLastData = null;
+            mHasLastData = true;
             notifyDataChanged(null);
         }
     }
 
+    /**
+     * Checks if the given speed and speed limit are displayed the same way as the last data. The
+     * speeding state is compared as well, since views highlight it.
+     */
+    private boolean isSameDisplayedSpeed(GuidanceSpeedData last, double speed, float speedLimit) {
+        final double lastSpeed = last.getCurrentSpeed();
+        final double lastSpeedLimit = last.getCurrentSpeedLimit();
+        if (last.isSpeeding() != (speed > speedLimit && speedLimit > 0)) {
+            return false;
+        }
+        if (mUnitSystem == null) {
+            return Double.compare(lastSpeed, speed) == 0 && Double.compare(lastSpeedLimit, speedLimit) == 0;
+        }
+        return SpeedFormatterUtil.format(lastSpeed, mUnitSystem) == SpeedFormatterUtil.format(speed, mUnitSystem) &&
+                (lastSpeedLimit > 0) == (speedLimit > 0) &&
+                SpeedFormatterUtil.format(lastSpeedLimit, mUnitSystem) ==
+                        SpeedFormatterUtil.format(speedLimit, mUnitSystem);
+    }
+
+    /**
+     * Sets the unit system used to display the speed values of the emitted {@link GuidanceSpeedData}.
+     * When set, updates are only emitted if the displayed speed or speed limit changes. By default,
+     * no unit system is set and every change of the values is emitted.
+     *
+     * @param unitSystem
+     *         the {@link UnitSystem} of the view showing the data or null to compare exact values.
+     */
+    public void setUnitSystem(@Nullable UnitSystem unitSystem) {
+        mUnitSystem = unitSystem;
+        mHasLastData = false;
+    }
+
+    /**
+     * Gets the unit system used to compare the speed values of the emitted {@link GuidanceSpeedData}.
+     *
+     * @return the {@link UnitSystem} or null if exact values are compared.
+     */
+    public @Nullable UnitSystem getUnitSystem() {
+        return mUnitSystem;
+    }
+
     /**
      * Notify on {@link GuidanceSpeedData} changes.
      */
     private void notifyDataChanged(@Nullable GuidanceSpeedData data) {
-        for (final GuidanceSpeedListener listener : mListener) {
-            listener.onDataChanged(data);
-        }
+        mListener.dispatch(GuidanceSpeedListener::onDataChanged, data);
     }
 
     /**
@@ -112,8 +161,9 @@ public class GuidanceSpeedPresenter extends BaseGuidancePresenter {
      *         the listener to add to the list of listeners.
      */
     public void addListener(GuidanceSpeedListener listener) {
-        if (listener != null && !mListener.contains(listener)) {
-            mListener.add(listener);
+        if (mListener.add(listener)) {
+            // Make sure the new listener receives the next update.
+            mHasLastData = false;
         }
     }
 
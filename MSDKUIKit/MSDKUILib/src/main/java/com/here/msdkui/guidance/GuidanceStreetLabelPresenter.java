@@ -22,12 +22,10 @@ import com.here.android.mpa.guidance.NavigationManager;
 import com.here.android.mpa.routing.Maneuver;
 import com.here.android.mpa.routing.Route;
 import com.here.msdkui.R;
+import com.here.msdkui.common.ListenerRegistry;
 import com.here.msdkui.common.ThemeUtil;
 import com.here.msdkui.guidance.base.BaseGuidancePresenter;
 
-import java.util.ArrayList;
-import java.util.List;
-
 /**
  * Class that creates {@link GuidanceStreetLabelData} objects on maneuver update and feds them into
  * registered listeners (e.g. {@link GuidanceStreetLabelView}.
@@ -36,7 +34,7 @@ public class GuidanceStreetLabelPresenter extends BaseGuidancePresenter {
 
     private final Context mContext;
 
-    private final List<GuidanceStreetLabelListener> mListener = new ArrayList<>();
+    private final ListenerRegistry<GuidanceStreetLabelListener> mListener = new ListenerRegistry<>();
 
     /**
      * Constructs a new instance using a {@link NavigationManager} instance and
@@ -91,8 +89,7 @@ public class GuidanceStreetLabelPresenter extends BaseGuidancePresenter {
      *         the listener to add to the list of listeners.
      */
     public void addListener(GuidanceStreetLabelListener listener) {
-        if (listener != null && !mListener.contains(listener)) {
-            mListener.add(listener);
+        if (mListener.add(listener)) {
             listener.onDataChanged(new GuidanceStreetLabelData(mContext.getString(R.string.msdkui_userposition_search),
                     ThemeUtil.getColor(mContext, R.attr.colorForegroundSecondary)));
         }
@@ -112,8 +109,6 @@ public class GuidanceStreetLabelPresenter extends BaseGuidancePresenter {
      * Notify on {@link GuidanceStreetLabelData} changes.
      */
     private void notifyDataChanged(GuidanceStreetLabelData data) {
-        for (final GuidanceStreetLabelListener listener : mListener) {
-            listener.onDataChanged(data);
-        }
+        mListener.dispatch(GuidanceStreetLabelListener::onDataChanged, data);
     }
 }
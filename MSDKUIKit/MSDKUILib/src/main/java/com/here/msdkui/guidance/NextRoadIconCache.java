@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.guidance;
+
+import android.graphics.Bitmap;
+import android.os.Build;
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.here.android.mpa.common.GeoCoordinate;
+import com.here.android.mpa.common.Image;
+import com.here.android.mpa.routing.Maneuver;
+
+/**
+ * A size bounded LRU cache for scaled next road icons of {@link Maneuver}s.
+ * <p>Icons are keyed by the maneuver, which is identified by its location and action like in
+ * {@link GuidanceManeuverUtil#maneuversEqual(Maneuver, Maneuver)}, and the target size. While the
+ * same maneuver is active, its icon is only scaled once. The cache is thread safe and can be shared
+ * between several presenters.</p>
+ * <p>Evicted bitmaps are not recycled, since views may still show them.</p>
+ */
+public final class NextRoadIconCache {
+
+    /**
+     * Default maximum size of the cache in bytes.
+     */
+    public static final int DEFAULT_MAX_SIZE_BYTES = 512 * 1024;
+
+    private final LruCache<Key, Bitmap> mCache;
+    private volatile boolean mUseHardwareBitmaps;
+
+    /**
+     * Constructs a new instance with a maximum size of {@link #DEFAULT_MAX_SIZE_BYTES}.
+     */
+    public NextRoadIconCache() {
+        this(DEFAULT_MAX_SIZE_BYTES);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param maxSizeBytes
+     *         the maximum size of all cached bitmaps in bytes.
+     */
+    public NextRoadIconCache(int maxSizeBytes) {
+        mCache = new LruCache<Key, Bitmap>(maxSizeBytes) {
+            @Override
+            protected int sizeOf(Key key, Bitmap value) {
+                return value.getAllocationByteCount();
+            }
+        };
+    }
+
+    /**
+     * Sets whether cached bitmaps should be stored as {@link Bitmap.Config#HARDWARE} bitmaps. Such
+     * bitmaps are only kept in graphics memory, which reduces the heap usage. Only supported on
+     * Android O and above, ignored otherwise. Defaults to false.
+     *
+     * @param useHardwareBitmaps
+     *         true to store hardware bitmaps, false otherwise.
+     */
+    public void setUseHardwareBitmaps(boolean useHardwareBitmaps) {
+        mUseHardwareBitmaps = useHardwareBitmaps;
+    }
+
+    /**
+     * Checks if cached bitmaps are stored as {@link Bitmap.Config#HARDWARE} bitmaps.
+     *
+     * @return true if hardware bitmaps are used, false otherwise.
+     */
+    public boolean isUsingHardwareBitmaps() {
+        return mUseHardwareBitmaps && Build.VERSION.SDK_INT >= Build.VERSION_CODES.O;
+    }
+
+    /**
+     * Gets the next road icon of the given maneuver scaled to the given size. The icon is scaled
+     * only if it is not cached yet.
+     *
+     * @param maneuver
+     *         the {@link Maneuver} the image belongs to.
+     * @param image
+     *         the next road {@link Image} of the maneuver.
+     * @param width
+     *         the target width in pixels.
+     * @param height
+     *         the target height in pixels.
+     *
+     * @return the scaled {@link Bitmap} or null if the image could not be scaled.
+     */
+    public @Nullable Bitmap get(@NonNull Maneuver maneuver, @NonNull Image image, int width, int height) {
+        final Key key = new Key(maneuver.getCoordinate(), maneuver.getAction(), width, height);
+        Bitmap bitmap = mCache.get(key);
+        if (bitmap == null) {
+            bitmap = image.getBitmap(width, height);
+            if (bitmap == null) {
+                return null;
+            }
+            if (mUseHardwareBitmaps && Build.VERSION.SDK_INT >= Build.VERSION_CODES.O &&
+                    bitmap.getConfig() != Bitmap.Config.HARDWARE) {
+                final Bitmap hardwareBitmap = bitmap.copy(Bitmap.Config.HARDWARE, false);
+                if (hardwareBitmap != null) {
+                    bitmap = hardwareBitmap;
+                }
+            }
+            mCache.put(key, bitmap);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Gets the size of all cached bitmaps.
+     *
+     * @return size in bytes.
+     */
+    public int size() {
+        return mCache.size();
+    }
+
+    /**
+     * Removes all cached bitmaps.
+     */
+    public void clear() {
+        mCache.evictAll();
+    }
+
+    /**
+     * Identifies a scaled icon of a maneuver.
+     */
+    private static final class Key {
+
+        private final GeoCoordinate mCoordinate;
+        private final Maneuver.Action mAction;
+        private final int mWidth;
+        private final int mHeight;
+
+        Key(GeoCoordinate coordinate, Maneuver.Action action, int width, int height) {
+            mCoordinate = coordinate;
+            mAction = action;
+            mWidth = width;
+            mHeight = height;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return mWidth == other.mWidth && mHeight == other.mHeight && mAction == other.mAction &&
+                    (mCoordinate == null ? other.mCoordinate == null : mCoordinate.equals(other.mCoordinate));
+        }
+
+        @Override
+        public int hashCode() {
+            int result = mCoordinate == null ? 0 : mCoordinate.hashCode();
+            result = 31 * result + (mAction == null ? 0 : mAction.hashCode());
+            result = 31 * result + mWidth;
+            result = 31 * result + mHeight;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.guidance;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.here.android.mpa.common.GeoCoordinate;
+import com.here.android.mpa.routing.Maneuver;
+import com.here.android.mpa.routing.Route;
+
+import com.here.msdkui.common.MsdkUiResources;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An index of the maneuvers of a {@link Route}.
+ * <p>The maneuvers are read from the route once. Finding the position of a maneuver takes constant
+ * time, maneuvers are compared based on location and action like in
+ * {@link GuidanceManeuverUtil#maneuversEqual(Maneuver, Maneuver)}.</p>
+ * <p>The index also holds a table of the street names to display for each maneuver, which are
+ * resolved once per maneuver on first use. Street names depend on the locale, so the table is
+ * dropped when the default locale changes or {@link MsdkUiResources#invalidate()} is called.</p>
+ */
+public final class RouteManeuverIndex {
+
+    /**
+     * Resolves the street name to display for a maneuver.
+     */
+    public interface StreetResolver {
+
+        /**
+         * Resolves the street name to display for the given maneuver.
+         *
+         * @param maneuver
+         *         the maneuver to resolve the street name for.
+         *
+         * @return the street name or null if there is none.
+         */
+        @Nullable
+        String resolve(@NonNull Maneuver maneuver);
+    }
+
+    private static final Maneuver[] EMPTY = new Maneuver[0];
+
+    private final Route mRoute;
+    private final Maneuver[] mManeuvers;
+    private final Key[] mKeys;
+    private final Map<Key, Integer> mPositions;
+    private final String[] mStreets;
+    private final boolean[] mResolvedStreets;
+    private Locale mStreetsLocale;
+    private int mStreetsGeneration;
+
+    private static volatile int sStreetsGeneration;
+
+    static {
+        MsdkUiResources.addInvalidationListener(RouteManeuverIndex::invalidateStreets);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param route
+     *         the {@link Route} to index, may be null.
+     */
+    public RouteManeuverIndex(@Nullable Route route) {
+        this(route, null);
+    }
+
+    /**
+     * Constructs a new instance for a route which replaces the route of a previous index, for
+     * example after rerouting. Maneuvers of the common suffix of both routes are matched by location
+     * and action, their resolved street names are taken over from the previous index. Only the
+     * street names of the diverging part of the new route need to be resolved again.
+     *
+     * @param route
+     *         the {@link Route} to index, may be null.
+     * @param previous
+     *         the index of the replaced route or null.
+     */
+    public RouteManeuverIndex(@Nullable Route route, @Nullable RouteManeuverIndex previous) {
+        mRoute = route;
+        final List<Maneuver> maneuvers = route == null ? null : route.getManeuvers();
+        mManeuvers = maneuvers == null ? EMPTY : maneuvers.toArray(new Maneuver[0]);
+        mKeys = new Key[mManeuvers.length];
+        mPositions = new HashMap<>(mManeuvers.length * 2);
+        for (int i = 0; i < mManeuvers.length; i++) {
+            final Key key = new Key(mManeuvers[i]);
+            mKeys[i] = key;
+            // The first maneuver wins, like in a linear search.
+            if (!mPositions.containsKey(key)) {
+                mPositions.put(key, i);
+            }
+        }
+        mStreets = new String[mManeuvers.length];
+        mResolvedStreets = new boolean[mManeuvers.length];
+        mStreetsLocale = Locale.getDefault();
+        mStreetsGeneration = sStreetsGeneration;
+        if (previous != null) {
+            carryOver(previous);
+        }
+    }
+
+    /**
+     * Takes over the resolved street names of the common suffix of the previous and this route.
+     * Street names only depend on the maneuver itself and its following maneuvers, so they stay
+     * valid as long as all following maneuvers are unchanged.
+     */
+    private void carryOver(RouteManeuverIndex previous) {
+        final int suffix = getCommonSuffixLength(previous);
+        final int offset = previous.mManeuvers.length - mManeuvers.length;
+        synchronized (previous.mStreets) {
+            // street names resolved for another locale are dropped on next use
+            mStreetsLocale = previous.mStreetsLocale;
+            mStreetsGeneration = previous.mStreetsGeneration;
+            for (int i = mManeuvers.length - suffix; i < mManeuvers.length; i++) {
+                mStreets[i] = previous.mStreets[i + offset];
+                mResolvedStreets[i] = previous.mResolvedStreets[i + offset];
+            }
+        }
+    }
+
+    /**
+     * Gets the number of maneuvers at the end of both routes which are equal.
+     *
+     * @param other
+     *         the index of the route to compare with.
+     *
+     * @return the length of the common suffix.
+     */
+    public int getCommonSuffixLength(@NonNull RouteManeuverIndex other) {
+        int length = 0;
+        int i = mKeys.length - 1;
+        int j = other.mKeys.length - 1;
+        while (i >= 0 && j >= 0 && mKeys[i].equals(other.mKeys[j])) {
+            length++;
+            i--;
+            j--;
+        }
+        return length;
+    }
+
+    /**
+     * Gets the indexed route.
+     *
+     * @return the {@link Route} or null.
+     */
+    public @Nullable Route getRoute() {
+        return mRoute;
+    }
+
+    /**
+     * Gets the number of maneuvers.
+     *
+     * @return the number of maneuvers.
+     */
+    public int size() {
+        return mManeuvers.length;
+    }
+
+    /**
+     * Gets the maneuver at the given position.
+     *
+     * @param index
+     *         the position of the maneuver.
+     *
+     * @return the {@link Maneuver} or null if the position is out of range.
+     */
+    public @Nullable Maneuver get(int index) {
+        return index >= 0 && index < mManeuvers.length ? mManeuvers[index] : null;
+    }
+
+    /**
+     * Gets the position of the given maneuver.
+     *
+     * @param maneuver
+     *         the maneuver to find.
+     *
+     * @return the position of the maneuver or -1 if the maneuver is not part of the route.
+     */
+    public int indexOf(@Nullable Maneuver maneuver) {
+        if (maneuver == null) {
+            return -1;
+        }
+        final Integer index = mPositions.get(new Key(maneuver));
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Gets the maneuver following the given maneuver.
+     *
+     * @param maneuver
+     *         the maneuver to get the following maneuver for.
+     *
+     * @return the following {@link Maneuver} or null if there is none.
+     */
+    public @Nullable Maneuver getFollowing(@Nullable Maneuver maneuver) {
+        final int index = indexOf(maneuver);
+        return index < 0 ? null : get(index + 1);
+    }
+
+    /**
+     * Gets the maneuver preceding the given maneuver.
+     *
+     * @param maneuver
+     *         the maneuver to get the preceding maneuver for.
+     *
+     * @return the preceding {@link Maneuver} or null if there is none.
+     */
+    public @Nullable Maneuver getPrevious(@Nullable Maneuver maneuver) {
+        final int index = indexOf(maneuver);
+        return index < 0 ? null : get(index - 1);
+    }
+
+    /**
+     * Gets the street name to display for the given maneuver. The street name of a maneuver of the
+     * route is resolved only once, later calls read it from the table. Street names of maneuvers not
+     * being part of the route are resolved on every call.
+     * <p>All callers must pass resolvers which give the same result for a maneuver.</p>
+     *
+     * @param maneuver
+     *         the maneuver to get the street name for.
+     * @param resolver
+     *         the {@link StreetResolver} to use if the street name is not resolved yet.
+     *
+     * @return the street name or null if there is none.
+     */
+    public @Nullable String getStreet(@NonNull Maneuver maneuver, @NonNull StreetResolver resolver) {
+        final int index = indexOf(maneuver);
+        if (index < 0) {
+            return resolver.resolve(maneuver);
+        }
+        final Locale locale;
+        final int generation;
+        synchronized (mStreets) {
+            validateStreets();
+            if (mResolvedStreets[index]) {
+                return mStreets[index];
+            }
+            locale = mStreetsLocale;
+            generation = mStreetsGeneration;
+        }
+        final String street = resolver.resolve(maneuver);
+        synchronized (mStreets) {
+            validateStreets();
+            // don't store a street name resolved for a previous locale
+            if (mStreetsGeneration == generation && mStreetsLocale.equals(locale)) {
+                mStreets[index] = street;
+                mResolvedStreets[index] = true;
+            }
+        }
+        return street;
+    }
+
+    /**
+     * Resolves the street names of all maneuvers which are not resolved yet. Call this method on a
+     * background thread to avoid resolving street names while guidance is running.
+     *
+     * @param resolver
+     *         the {@link StreetResolver} to use.
+     */
+    public void resolveStreets(@NonNull StreetResolver resolver) {
+        for (final Maneuver maneuver : mManeuvers) {
+            getStreet(maneuver, resolver);
+        }
+    }
+
+    /**
+     * Drops the resolved street names of all indexes, they are resolved again on next use.
+     */
+    private static void invalidateStreets() {
+        synchronized (RouteManeuverIndex.class) {
+            sStreetsGeneration++;
+        }
+    }
+
+    /**
+     * Drops the resolved street names if they were resolved for another locale or before the last
+     * invalidation. Must be called while holding the lock of {@link #mStreets}.
+     */
+    private void validateStreets() {
+        final Locale locale = Locale.getDefault();
+        final int generation = sStreetsGeneration;
+        if (mStreetsGeneration != generation || !mStreetsLocale.equals(locale)) {
+            Arrays.fill(mStreets, null);
+            Arrays.fill(mResolvedStreets, false);
+            mStreetsLocale = locale;
+            mStreetsGeneration = generation;
+        }
+    }
+
+    /**
+     * Identifies a maneuver by its location and action.
+     */
+    private static final class Key {
+
+        private final GeoCoordinate mCoordinate;
+        private final Maneuver.Action mAction;
+
+        Key(@NonNull Maneuver maneuver) {
+            mCoordinate = maneuver.getCoordinate();
+            mAction = maneuver.getAction();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return mAction == other.mAction &&
+                    (mCoordinate == null ? other.mCoordinate == null : mCoordinate.equals(other.mCoordinate));
+        }
+
+        @Override
+        public int hashCode() {
+            final int result = mCoordinate == null ? 0 : mCoordinate.hashCode();
+            return 31 * result + (mAction == null ? 0 : mAction.hashCode());
+        }
+    }
+}
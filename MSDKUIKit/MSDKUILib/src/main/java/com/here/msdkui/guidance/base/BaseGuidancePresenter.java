@@ -19,7 +19,6 @@ package com.here.msdkui.guidance.base;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
-import com.here.android.mpa.common.GeoPosition;
 import com.here.android.mpa.common.PositioningManager;
 import com.here.android.mpa.guidance.NavigationManager;
 import com.here.android.mpa.routing.Maneuver;
@@ -27,9 +26,11 @@ import com.here.android.mpa.routing.Route;
 import com.here.android.mpa.routing.RouteResult;
 import com.here.android.mpa.routing.RouteTta;
 import com.here.android.mpa.routing.RoutingError;
-
-import java.lang.ref.WeakReference;
+import com.here.msdkui.common.ComputePipeline;
+import com.here.msdkui.common.UpdateCoalescer;
+import com.here.msdkui.guidance.RouteManeuverIndex;
 import java.util.Date;
+import java.util.concurrent.Executor;
 
 /**
  * Base class for guidance presenters.
@@ -40,72 +41,17 @@ public class BaseGuidancePresenter {
 
     private final NavigationManager mNavigationManager;
 
-    /**
-     * Listener for {@link com.here.android.mpa.guidance.NavigationManager.ManeuverEventListener}.
-     */
-    private final NavigationManager.ManeuverEventListener mManeuverEventListener =
-            new NavigationManager.ManeuverEventListener() {
-                @Override
-                public void onManeuverEvent() {
-                    handleManeuverEvent();
-                }
-            };
-    /**
-     * Listener for {@link com.here.android.mpa.guidance.NavigationManager.NewInstructionEventListener}.
-     */
-    private final NavigationManager.NewInstructionEventListener mNewInstructionEventListener =
-            new NavigationManager.NewInstructionEventListener() {
-                @Override
-                public void onNewInstructionEvent() {
-                    handleNewInstructionEvent();
-                }
-            };
-    /**
-     * Listener for {@link com.here.android.mpa.guidance.NavigationManager.PositionListener}.
-     */
-    private final NavigationManager.PositionListener mPositionListener =
-            new NavigationManager.PositionListener() {
-                @Override
-                public void onPositionUpdated(final GeoPosition loc) {
-                    handlePositionUpdate();
-                }
-            };
+    private volatile Route mRoute;
 
-    /**
-     * Listener for {@link com.here.android.mpa.guidance.NavigationManager.GpsSignalListener}.
-     */
-    private final NavigationManager.GpsSignalListener mGpsSignalListener =
-            new NavigationManager.GpsSignalListener() {
-                @Override public void onGpsLost() {
-                    handleGpsLost();
-                }
+    private UpdateCoalescer mCoalescer;
+    private boolean mPendingManeuverEvent;
+    private boolean mPendingNewInstructionEvent;
+    private boolean mPendingPositionUpdate;
 
-                @Override public void onGpsRestored() {
-                    handleGpsRestore();
-                }
-            };
-
-    /**
-     * Listener for {@link com.here.android.mpa.guidance.NavigationManager.RerouteListener}.
-     */
-    private final NavigationManager.RerouteListener mRerouteListener =
-            new NavigationManager.RerouteListener() {
-                @Override public void onRerouteBegin() {
-                    handleRerouteBegin();
-                }
-
-                @Override public void onRerouteEnd(RouteResult routeResult, RoutingError error) {
-                    if (error == RoutingError.NONE) {
-                        handleRerouteEnd(routeResult);
-                    } else {
-                        handleRerouteFailed(error);
-                    }
-                }
-            };
-
-    private NavigationManager.SpeedWarningListener mSpeedWarningListener;
-
-    private Route mRoute;
+    private ComputePipeline mComputePipeline;
+    private volatile RouteManeuverIndex mManeuverIndex;
+    private volatile boolean mManeuverIndexStale;
+    private final Object mManeuverIndexLock = new Object();
 
     /**
      * Constructs a new instance using a {@link NavigationManager} instance and
@@ -123,55 +69,183 @@ public class BaseGuidancePresenter {
 
     /**
      * Resumes presenter to start listening to navigation events.
+     * <p>All presenters share one set of {@link NavigationManager} listeners, calling this method
+     * on an already resumed presenter has no effect.</p>
      */
     public void resume() {
-        mNavigationManager.addManeuverEventListener(new WeakReference<>(mManeuverEventListener));
-        mNavigationManager.addNewInstructionEventListener(new WeakReference<>(mNewInstructionEventListener));
-        mNavigationManager.addPositionListener(new WeakReference<>(mPositionListener));
-        mNavigationManager.addGpsSignalListener(new WeakReference<>(mGpsSignalListener));
-        mNavigationManager.addRerouteListener(new WeakReference<>(mRerouteListener));
+        GuidanceEventHub.attach(mNavigationManager, this);
     }
 
     /**
      * Pauses presenter to stop listening to navigation events.
      */
     public void pause() {
-        mNavigationManager.removeManeuverEventListener(mManeuverEventListener);
-        mNavigationManager.removeNewInstructionEventListener(mNewInstructionEventListener);
-        mNavigationManager.removePositionListener(mPositionListener);
-        mNavigationManager.removeGpsSignalListener(mGpsSignalListener);
-        mNavigationManager.removeRerouteListener(mRerouteListener);
+        GuidanceEventHub.detach(mNavigationManager, this);
+        cancelPendingEvents();
+        cancelComputation();
+    }
+
+    /**
+     * Sets the executor used to compute presenter data off the main thread. When set, the data is
+     * computed on the executor and listeners are notified on the main thread. Results overtaken
+     * by a newer event are dropped. By default, no executor is set and data is computed on the
+     * thread delivering the navigation events.
+     *
+     * @param executor
+     *         the {@link Executor} to compute data on or null to compute on the calling thread.
+     */
+    public void setComputeExecutor(@Nullable Executor executor) {
+        cancelComputation();
+        mComputePipeline = executor == null ? null : new ComputePipeline(executor);
+    }
+
+    /**
+     * Gets the executor used to compute presenter data.
+     *
+     * @return the {@link Executor} or null if data is computed on the calling thread.
+     */
+    public @Nullable Executor getComputeExecutor() {
+        return mComputePipeline == null ? null : mComputePipeline.getExecutor();
+    }
+
+    /**
+     * Runs a computation and delivers its result. If an executor was set with
+     * {@link #setComputeExecutor(Executor)}, the computation runs on it and the result is
+     * delivered on the main thread, unless a newer computation was submitted or
+     * {@link #cancelComputation()} was called in the meantime. Otherwise both run on the calling
+     * thread.
+     *
+     * @param computation
+     *         the computation to run.
+     * @param delivery
+     *         receiver of the result.
+     * @param <T>
+     *         type of the result.
+     */
+    protected <T> void compute(@NonNull ComputePipeline.Computation<T> computation,
+            @NonNull ComputePipeline.Delivery<T> delivery) {
+        if (mComputePipeline == null) {
+            delivery.deliver(computation.compute());
+        } else {
+            mComputePipeline.submit(computation, delivery);
+        }
+    }
+
+    /**
+     * Drops all computations started with {@link #compute(ComputePipeline.Computation,
+     * ComputePipeline.Delivery)} which did not deliver yet.
+     */
+    protected void cancelComputation() {
+        if (mComputePipeline != null) {
+            mComputePipeline.cancel();
+        }
     }
 
     /**
      * Enable listening to speed limit warnings.
      */
     protected final void enableSpeedWarnings() {
-        if (mSpeedWarningListener == null) {
-            mSpeedWarningListener = new NavigationManager.SpeedWarningListener() {
-                @Override
-                public void onSpeedExceeded(String roadName, float speedLimit) {
-                    super.onSpeedExceeded(roadName, speedLimit);
-                    handleSpeedExceeded(speedLimit);
-                }
-
-                @Override
-                public void onSpeedExceededEnd(String roadName, float speedLimit) {
-                    super.onSpeedExceededEnd(roadName, speedLimit);
-                    handleSpeedExceededEnd(speedLimit);
-                }
-            };
-        }
-        mNavigationManager.addSpeedWarningListener(new WeakReference<>(mSpeedWarningListener));
+        GuidanceEventHub.attachSpeedWarnings(mNavigationManager, this);
     }
 
     /**
      * Called to de-register speed warnings listener.
      */
     protected final void disableSpeedWarnings() {
-        if (mSpeedWarningListener != null) {
-            mNavigationManager.removeSpeedWarningListener(mSpeedWarningListener);
+        GuidanceEventHub.detachSpeedWarnings(mNavigationManager, this);
+    }
+
+    /**
+     * Enables coalescing of maneuver, new instruction and position events. Events arriving in a
+     * burst are collapsed, so the matching {@code handle} methods run at most once per display
+     * frame or per given interval. Since the presenters read the navigation state when handling
+     * an event, the latest state is always delivered.
+     *
+     * @param intervalMillis
+     *         minimum time between two updates in milliseconds or {@link UpdateCoalescer#PER_FRAME}
+     *         to align the updates with the display frames.
+     */
+    public void enableUpdateCoalescing(long intervalMillis) {
+        cancelPendingEvents();
+        mCoalescer = new UpdateCoalescer(this::flushPendingEvents, intervalMillis);
+    }
+
+    /**
+     * Disables coalescing of events, all events are handled as soon as they arrive. This is the
+     * default.
+     */
+    public void disableUpdateCoalescing() {
+        cancelPendingEvents();
+        mCoalescer = null;
+    }
+
+    /**
+     * Checks if coalescing of events is enabled.
+     *
+     * @return true if events are coalesced, false otherwise.
+     */
+    public boolean isUpdateCoalescingEnabled() {
+        return mCoalescer != null;
+    }
+
+    void dispatchManeuverEvent() {
+        if (mCoalescer == null) {
+            handleManeuverEvent();
+        } else {
+            mPendingManeuverEvent = true;
+            mCoalescer.request();
+        }
+    }
+
+    void dispatchNewInstructionEvent() {
+        if (mCoalescer == null) {
+            handleNewInstructionEvent();
+        } else {
+            mPendingNewInstructionEvent = true;
+            mCoalescer.request();
+        }
+    }
+
+    void dispatchPositionUpdate() {
+        if (mCoalescer == null) {
+            handlePositionUpdate();
+        } else {
+            mPendingPositionUpdate = true;
+            mCoalescer.request();
+        }
+    }
+
+    void dispatchRerouteEnd(RouteResult routeResult) {
+        // The maneuvers need to be indexed again, cached data of unchanged maneuvers is carried over.
+        mManeuverIndexStale = true;
+        handleRerouteEnd(routeResult);
+    }
+
+    private void flushPendingEvents() {
+        final boolean maneuverEvent = mPendingManeuverEvent;
+        final boolean newInstructionEvent = mPendingNewInstructionEvent;
+        final boolean positionUpdate = mPendingPositionUpdate;
+        mPendingManeuverEvent = false;
+        mPendingNewInstructionEvent = false;
+        mPendingPositionUpdate = false;
+        if (maneuverEvent) {
+            handleManeuverEvent();
+        }
+        if (newInstructionEvent) {
+            handleNewInstructionEvent();
+        }
+        if (positionUpdate) {
+            handlePositionUpdate();
+        }
+    }
+
+    private void cancelPendingEvents() {
+        if (mCoalescer != null) {
+            mCoalescer.cancel();
         }
+        mPendingManeuverEvent = false;
+        mPendingNewInstructionEvent = false;
+        mPendingPositionUpdate = false;
     }
 
     /**
@@ -304,6 +378,33 @@ public class BaseGuidancePresenter {
         this.mRoute = route;
     }
 
+    /**
+     * Gets the index of the maneuvers of the route used for guidance. The index is built on first
+     * use and rebuilt when the route is set or rerouting ends. When rebuilding, the cached street
+     * names of maneuvers the new route shares with the previous one are carried over, see
+     * {@link RouteManeuverIndex#RouteManeuverIndex(Route, RouteManeuverIndex)}.
+     * <p>This method can be called from any thread, e.g. while computing data on an executor. The
+     * index is only rebuilt by one thread at a time.</p>
+     *
+     * @return a {@link RouteManeuverIndex} of the current route.
+     */
+    public @NonNull RouteManeuverIndex getManeuverIndex() {
+        RouteManeuverIndex index = mManeuverIndex;
+        if (index != null && !mManeuverIndexStale && index.getRoute() == mRoute) {
+            return index;
+        }
+        synchronized (mManeuverIndexLock) {
+            index = mManeuverIndex;
+            final Route route = mRoute;
+            if (index == null || mManeuverIndexStale || index.getRoute() != route) {
+                mManeuverIndexStale = false;
+                index = new RouteManeuverIndex(route, index);
+                mManeuverIndex = index;
+            }
+            return index;
+        }
+    }
+
     /**
      * Gets estimated arrival date.
      *
@@ -334,4 +435,15 @@ public class BaseGuidancePresenter {
         }
         return null;
     }
+
+    /**
+     * Gets time to arrive at the destination, like {@link #getTimeToArrival()} but without boxing the
+     * result.
+     *
+     * @return time to arrive in seconds or -1 if time couldn't be retrieved.
+     */
+    protected int getTimeToArrivalSeconds() {
+        final RouteTta routeTta = mNavigationManager.getTta(Route.TrafficPenaltyMode.OPTIMAL, false);
+        return routeTta == null ? -1 : routeTta.getDuration();
+    }
 }
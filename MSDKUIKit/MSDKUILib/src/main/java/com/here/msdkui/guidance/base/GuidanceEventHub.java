@@ -0,0 +1,376 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.guidance.base;
+
+import androidx.annotation.NonNull;
+
+import com.here.android.mpa.common.GeoPosition;
+import com.here.android.mpa.guidance.NavigationManager;
+import com.here.android.mpa.routing.RouteResult;
+import com.here.android.mpa.routing.RoutingError;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shares a single set of {@link NavigationManager} listeners between all attached
+ * {@link BaseGuidancePresenter}s and fans the events out to them.
+ * <p>The listeners are registered when the first presenter attaches and removed when the last one
+ * detaches. Attaching an already attached presenter has no effect. Presenters are held weakly, so a
+ * presenter which is never detached can still be garbage collected. Collected presenters are
+ * dropped on the next event, when none is left the listeners are removed as well.</p>
+ */
+final class GuidanceEventHub {
+
+    private static final List<GuidanceEventHub> HUBS = new ArrayList<>();
+    private static final PresenterReference[] EMPTY = new PresenterReference[0];
+
+    private final NavigationManager mNavigationManager;
+
+    private PresenterReference[] mPresenters = EMPTY;
+    private boolean mListening;
+    private PresenterReference[] mSpeedWarningPresenters = EMPTY;
+    private boolean mListeningToSpeedWarnings;
+
+    /**
+     * Listener for {@link com.here.android.mpa.guidance.NavigationManager.ManeuverEventListener}.
+     */
+    private final NavigationManager.ManeuverEventListener mManeuverEventListener =
+            new NavigationManager.ManeuverEventListener() {
+                @Override
+                public void onManeuverEvent() {
+                    dispatch(mPresenters, BaseGuidancePresenter::dispatchManeuverEvent);
+                }
+            };
+
+    /**
+     * Listener for {@link com.here.android.mpa.guidance.NavigationManager.NewInstructionEventListener}.
+     */
+    private final NavigationManager.NewInstructionEventListener mNewInstructionEventListener =
+            new NavigationManager.NewInstructionEventListener() {
+                @Override
+                public void onNewInstructionEvent() {
+                    dispatch(mPresenters, BaseGuidancePresenter::dispatchNewInstructionEvent);
+                }
+            };
+
+    /**
+     * Listener for {@link com.here.android.mpa.guidance.NavigationManager.PositionListener}.
+     */
+    private final NavigationManager.PositionListener mPositionListener =
+            new NavigationManager.PositionListener() {
+                @Override
+                public void onPositionUpdated(final GeoPosition loc) {
+                    dispatch(mPresenters, BaseGuidancePresenter::dispatchPositionUpdate);
+                }
+            };
+
+    /**
+     * Listener for {@link com.here.android.mpa.guidance.NavigationManager.GpsSignalListener}.
+     */
+    private final NavigationManager.GpsSignalListener mGpsSignalListener =
+            new NavigationManager.GpsSignalListener() {
+                @Override public void onGpsLost() {
+                    dispatch(mPresenters, BaseGuidancePresenter::handleGpsLost);
+                }
+
+                @Override public void onGpsRestored() {
+                    dispatch(mPresenters, BaseGuidancePresenter::handleGpsRestore);
+                }
+            };
+
+    /**
+     * Listener for {@link com.here.android.mpa.guidance.NavigationManager.RerouteListener}.
+     */
+    private final NavigationManager.RerouteListener mRerouteListener =
+            new NavigationManager.RerouteListener() {
+                @Override public void onRerouteBegin() {
+                    dispatch(mPresenters, BaseGuidancePresenter::handleRerouteBegin);
+                }
+
+                @Override public void onRerouteEnd(RouteResult routeResult, RoutingError error) {
+                    dispatch(mPresenters, presenter -> {
+                        if (error == RoutingError.NONE) {
+                            presenter.dispatchRerouteEnd(routeResult);
+                        } else {
+                            presenter.handleRerouteFailed(error);
+                        }
+                    });
+                }
+            };
+
+    /**
+     * Listener for {@link com.here.android.mpa.guidance.NavigationManager.SpeedWarningListener}.
+     */
+    private final NavigationManager.SpeedWarningListener mSpeedWarningListener =
+            new NavigationManager.SpeedWarningListener() {
+                @Override
+                public void onSpeedExceeded(String roadName, float speedLimit) {
+                    super.onSpeedExceeded(roadName, speedLimit);
+                    dispatch(mSpeedWarningPresenters, presenter -> presenter.handleSpeedExceeded(speedLimit));
+                }
+
+                @Override
+                public void onSpeedExceededEnd(String roadName, float speedLimit) {
+                    super.onSpeedExceededEnd(roadName, speedLimit);
+                    dispatch(mSpeedWarningPresenters, presenter -> presenter.handleSpeedExceededEnd(speedLimit));
+                }
+            };
+
+    private GuidanceEventHub(NavigationManager navigationManager) {
+        mNavigationManager = navigationManager;
+    }
+
+    /**
+     * Attaches a presenter to the navigation events of the given {@link NavigationManager}.
+     *
+     * @param navigationManager
+     *         the {@link NavigationManager} to listen to.
+     * @param presenter
+     *         the presenter to notify.
+     */
+    static void attach(@NonNull NavigationManager navigationManager,
+            @NonNull BaseGuidancePresenter presenter) {
+        synchronized (HUBS) {
+            final GuidanceEventHub hub = obtain(navigationManager);
+            if (!contains(hub.mPresenters, presenter)) {
+                hub.mPresenters = add(hub.mPresenters, presenter);
+                if (!hub.mListening) {
+                    hub.registerNavigationListeners();
+                    hub.mListening = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Detaches a presenter from the navigation events of the given {@link NavigationManager}.
+     *
+     * @param navigationManager
+     *         the {@link NavigationManager} to stop listening to.
+     * @param presenter
+     *         the presenter to detach.
+     */
+    static void detach(@NonNull NavigationManager navigationManager,
+            @NonNull BaseGuidancePresenter presenter) {
+        synchronized (HUBS) {
+            final GuidanceEventHub hub = find(navigationManager);
+            if (hub != null) {
+                hub.mPresenters = remove(hub.mPresenters, presenter);
+                if (hub.mPresenters.length == 0 && hub.mListening) {
+                    hub.unregisterNavigationListeners();
+                    hub.mListening = false;
+                }
+                releaseIfUnused(hub);
+            }
+        }
+    }
+
+    /**
+     * Attaches a presenter to the speed warning events of the given {@link NavigationManager}.
+     *
+     * @param navigationManager
+     *         the {@link NavigationManager} to listen to.
+     * @param presenter
+     *         the presenter to notify.
+     */
+    static void attachSpeedWarnings(@NonNull NavigationManager navigationManager,
+            @NonNull BaseGuidancePresenter presenter) {
+        synchronized (HUBS) {
+            final GuidanceEventHub hub = obtain(navigationManager);
+            if (!contains(hub.mSpeedWarningPresenters, presenter)) {
+                hub.mSpeedWarningPresenters = add(hub.mSpeedWarningPresenters, presenter);
+                if (!hub.mListeningToSpeedWarnings) {
+                    navigationManager.addSpeedWarningListener(new WeakReference<>(hub.mSpeedWarningListener));
+                    hub.mListeningToSpeedWarnings = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Detaches a presenter from the speed warning events of the given {@link NavigationManager}.
+     *
+     * @param navigationManager
+     *         the {@link NavigationManager} to stop listening to.
+     * @param presenter
+     *         the presenter to detach.
+     */
+    static void detachSpeedWarnings(@NonNull NavigationManager navigationManager,
+            @NonNull BaseGuidancePresenter presenter) {
+        synchronized (HUBS) {
+            final GuidanceEventHub hub = find(navigationManager);
+            if (hub != null) {
+                hub.mSpeedWarningPresenters = remove(hub.mSpeedWarningPresenters, presenter);
+                if (hub.mSpeedWarningPresenters.length == 0 && hub.mListeningToSpeedWarnings) {
+                    navigationManager.removeSpeedWarningListener(hub.mSpeedWarningListener);
+                    hub.mListeningToSpeedWarnings = false;
+                }
+                releaseIfUnused(hub);
+            }
+        }
+    }
+
+    private static GuidanceEventHub find(NavigationManager navigationManager) {
+        for (final GuidanceEventHub hub : HUBS) {
+            if (hub.mNavigationManager == navigationManager) {
+                return hub;
+            }
+        }
+        return null;
+    }
+
+    private static GuidanceEventHub obtain(NavigationManager navigationManager) {
+        GuidanceEventHub hub = find(navigationManager);
+        if (hub == null) {
+            hub = new GuidanceEventHub(navigationManager);
+            HUBS.add(hub);
+        }
+        return hub;
+    }
+
+    private static void releaseIfUnused(GuidanceEventHub hub) {
+        if (!hub.mListening && !hub.mListeningToSpeedWarnings) {
+            HUBS.remove(hub);
+        }
+    }
+
+    /**
+     * Calls the event on all given presenters which were not collected yet. If collected presenters
+     * are found, they are dropped and the listeners are unregistered when no presenter is left, so
+     * a hub of presenters which were never detached does not keep receiving events.
+     */
+    private void dispatch(PresenterReference[] presenters, Event event) {
+        boolean collected = false;
+        for (final PresenterReference reference : presenters) {
+            final BaseGuidancePresenter presenter = reference.get();
+            if (presenter == null) {
+                collected = true;
+                continue;
+            }
+            event.dispatch(presenter);
+        }
+        if (collected) {
+            pruneCollected();
+        }
+    }
+
+    private void pruneCollected() {
+        synchronized (HUBS) {
+            mPresenters = remove(mPresenters, null);
+            if (mPresenters.length == 0 && mListening) {
+                unregisterNavigationListeners();
+                mListening = false;
+            }
+            mSpeedWarningPresenters = remove(mSpeedWarningPresenters, null);
+            if (mSpeedWarningPresenters.length == 0 && mListeningToSpeedWarnings) {
+                mNavigationManager.removeSpeedWarningListener(mSpeedWarningListener);
+                mListeningToSpeedWarnings = false;
+            }
+            releaseIfUnused(this);
+        }
+    }
+
+    private void registerNavigationListeners() {
+        mNavigationManager.addManeuverEventListener(new WeakReference<>(mManeuverEventListener));
+        mNavigationManager.addNewInstructionEventListener(new WeakReference<>(mNewInstructionEventListener));
+        mNavigationManager.addPositionListener(new WeakReference<>(mPositionListener));
+        mNavigationManager.addGpsSignalListener(new WeakReference<>(mGpsSignalListener));
+        mNavigationManager.addRerouteListener(new WeakReference<>(mRerouteListener));
+    }
+
+    private void unregisterNavigationListeners() {
+        mNavigationManager.removeManeuverEventListener(mManeuverEventListener);
+        mNavigationManager.removeNewInstructionEventListener(mNewInstructionEventListener);
+        mNavigationManager.removePositionListener(mPositionListener);
+        mNavigationManager.removeGpsSignalListener(mGpsSignalListener);
+        mNavigationManager.removeRerouteListener(mRerouteListener);
+    }
+
+    /**
+     * Checks whether the presenter is part of the given array. Presenters are compared by identity.
+     */
+    private static boolean contains(PresenterReference[] presenters, BaseGuidancePresenter presenter) {
+        for (final PresenterReference item : presenters) {
+            if (item.get() == presenter) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a copy of the given array with the presenter appended and without collected
+     * presenters. The array which is currently dispatched is never modified, so presenters may
+     * attach or detach while handling an event.
+     */
+    private static PresenterReference[] add(PresenterReference[] presenters, BaseGuidancePresenter presenter) {
+        final PresenterReference[] result = remove(presenters, null);
+        final PresenterReference[] added = new PresenterReference[result.length + 1];
+        System.arraycopy(result, 0, added, 0, result.length);
+        added[result.length] = new PresenterReference(presenter);
+        return added;
+    }
+
+    /**
+     * Returns a copy of the given array without the presenter and without collected presenters.
+     */
+    private static PresenterReference[] remove(PresenterReference[] presenters, BaseGuidancePresenter presenter) {
+        int count = 0;
+        for (final PresenterReference item : presenters) {
+            final BaseGuidancePresenter referent = item.get();
+            if (referent != null && referent != presenter) {
+                count++;
+            }
+        }
+        if (count == presenters.length) {
+            return presenters;
+        }
+        if (count == 0) {
+            return EMPTY;
+        }
+        final PresenterReference[] result = new PresenterReference[count];
+        int index = 0;
+        for (final PresenterReference item : presenters) {
+            final BaseGuidancePresenter referent = item.get();
+            if (referent != null && referent != presenter) {
+                result[index++] = item;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * An event dispatched to an attached presenter.
+     */
+    private interface Event {
+
+        void dispatch(BaseGuidancePresenter presenter);
+    }
+
+    /**
+     * A weak reference to an attached presenter. Presenters are held weakly, so a presenter which
+     * is never paused can still be garbage collected, like listeners held by the SDK managers.
+     */
+    private static final class PresenterReference extends WeakReference<BaseGuidancePresenter> {
+
+        PresenterReference(BaseGuidancePresenter presenter) {
+            super(presenter);
+        }
+    }
+}
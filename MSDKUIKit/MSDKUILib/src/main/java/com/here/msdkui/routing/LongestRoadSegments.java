@@ -0,0 +1,244 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.routing;
+
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.here.android.mpa.common.RoadElement;
+import com.here.android.mpa.routing.Route;
+import com.here.android.mpa.routing.RouteElement;
+import com.here.android.mpa.routing.RouteElements;
+import com.here.msdkui.common.ExecutorUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * Finds the longest road segment of a {@link Route}, i.e. the name of the longest sequence of
+ * consecutive road elements with the same route or road name.
+ * <p>The route elements are visited in a single pass and the name of each element is fetched once.
+ * Results are kept per route in a weak-keyed cache, so binding the same route again costs a lookup.
+ * Routes with at least {@link #PARALLEL_THRESHOLD} elements are split into ranges which are scanned
+ * on the executor set with {@link #setExecutor(Executor)}, segments crossing a range boundary are
+ * merged.</p>
+ */
+public final class LongestRoadSegments {
+
+    /**
+     * Minimum number of route elements for which ranges are scanned on the executor.
+     */
+    public static final int PARALLEL_THRESHOLD = 8192;
+
+    private static final Map<Route, String> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+    private static volatile Executor sExecutor;
+
+    private LongestRoadSegments() {
+    }
+
+    /**
+     * Sets the executor used to scan the ranges of long routes, e.g. a thread pool. Ranges which did
+     * not start on the executor when they are needed are scanned on the calling thread, so any
+     * executor can be used. By default, no executor is set and all routes are scanned on the calling
+     * thread.
+     *
+     * @param executor
+     *         the {@link Executor} to scan ranges on or null to scan on the calling thread.
+     */
+    public static void setExecutor(@Nullable Executor executor) {
+        sExecutor = executor;
+    }
+
+    /**
+     * Gets the longest road segment of a route. The result is cached as long as the route is
+     * referenced.
+     *
+     * @param route
+     *         a {@link Route} instance.
+     *
+     * @return the route or road name of the longest segment or an empty string if the route
+     *         contains no {@link RoadElement}.
+     */
+    public static String get(@NonNull Route route) {
+        String result = CACHE.get(route);
+        if (result == null) {
+            final RouteElements routeElements = route.getRouteElements();
+            if (routeElements == null) {
+                return "";
+            }
+            result = compute(routeElements.getElements(), sExecutor, PARALLEL_THRESHOLD);
+            if (result != null) {
+                CACHE.put(route, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the longest road segment of the given route elements without using the cache.
+     *
+     * @param elements
+     *         the route elements.
+     *
+     * @return the route or road name of the longest segment or an empty string if there is no
+     *         element.
+     */
+    public static String compute(@NonNull List<RouteElement> elements) {
+        return compute(elements, null, PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Gets the longest road segment of the given route elements, splitting them into ranges of the
+     * given size if an executor is given and there are at least as many elements.
+     */
+    static String compute(List<RouteElement> elements, @Nullable Executor executor, int rangeSize) {
+        final int size = elements.size();
+        if (executor == null || size < rangeSize) {
+            return scan(elements, 0, size).getLongest();
+        }
+        final List<Callable<Segments>> tasks = new ArrayList<>((size + rangeSize - 1) / rangeSize);
+        for (int from = 0; from < size; from += rangeSize) {
+            final int start = from;
+            final int end = Math.min(size, from + rangeSize);
+            tasks.add(() -> scan(elements, start, end));
+        }
+        Segments segments = null;
+        for (final Segments range : ExecutorUtil.invokeAll(executor, tasks)) {
+            segments = segments == null ? range : segments.append(range);
+        }
+        return segments.getLongest();
+    }
+
+    /**
+     * Scans the elements in the given range in a single pass.
+     */
+    private static Segments scan(List<RouteElement> elements, int from, int to) {
+        final Segments segments = new Segments();
+        for (int i = from; i < to; i++) {
+            final RoadElement road = elements.get(i).getRoadElement();
+            segments.add(getRouteOrRoadName(road), road.getGeometryLength());
+        }
+        return segments;
+    }
+
+    private static String getRouteOrRoadName(final RoadElement road) {
+        final String routeName = road.getRouteName();
+        return TextUtils.isEmpty(routeName) ? road.getRoadName() : routeName;
+    }
+
+    /**
+     * The segments of a range of route elements. Only the first and the last segment can continue
+     * in a neighbouring range, so of the segments in between only the longest one is kept. If
+     * segments have the same length, the earlier one wins.
+     */
+    private static final class Segments {
+
+        // number of segments, only 0, 1, 2 and more than 2 are distinguished
+        private int mCount;
+        private String mFirstName;
+        private double mFirstLength;
+        private String mInnerName;
+        private double mInnerLength;
+        private String mLastName;
+        private double mLastLength;
+
+        /**
+         * Adds an element after the last element of this range.
+         */
+        void add(String name, double length) {
+            if (mCount > 0 && TextUtils.equals(name, mLastName)) {
+                extendLast(length);
+            } else {
+                addSegment(name, length);
+            }
+        }
+
+        /**
+         * Appends the segments of the following range, merging the last segment of this range and
+         * the first segment of the other range if they have the same name.
+         */
+        Segments append(Segments next) {
+            if (mCount == 0) {
+                return next;
+            }
+            if (next.mCount == 0) {
+                return this;
+            }
+            add(next.mFirstName, next.mFirstLength);
+            if (next.mCount > 2) {
+                addSegment(next.mInnerName, next.mInnerLength);
+            }
+            if (next.mCount > 1) {
+                addSegment(next.mLastName, next.mLastLength);
+            }
+            return this;
+        }
+
+        private void extendLast(double length) {
+            mLastLength += length;
+            if (mCount == 1) {
+                mFirstLength = mLastLength;
+            }
+        }
+
+        /**
+         * Adds a segment after the last segment, the last segment becomes an inner segment unless
+         * it is the first one.
+         */
+        private void addSegment(String name, double length) {
+            if (mCount == 0) {
+                mFirstName = name;
+                mFirstLength = length;
+            } else if (mCount == 2 || mCount > 2 && mLastLength > mInnerLength) {
+                mInnerName = mLastName;
+                mInnerLength = mLastLength;
+            }
+            mLastName = name;
+            mLastLength = length;
+            if (mCount < 3) {
+                mCount++;
+            }
+        }
+
+        /**
+         * Gets the name of the longest segment in this range.
+         */
+        String getLongest() {
+            String longest = "";
+            double longestLength = 0;
+            if (mCount > 0 && mFirstLength > longestLength) {
+                longest = mFirstName;
+                longestLength = mFirstLength;
+            }
+            if (mCount > 2 && mInnerLength > longestLength) {
+                longest = mInnerName;
+                longestLength = mInnerLength;
+            }
+            if (mCount > 1 && mLastLength > longestLength) {
+                longest = mLastName;
+            }
+            return longest;
+        }
+    }
+}
@@ -19,6 +19,8 @@ package com.here.msdkui.routing;
 import android.content.Context;
 import android.util.AttributeSet;
 
+import androidx.annotation.Nullable;
+
 import com.here.android.mpa.routing.Maneuver;
 import com.here.android.mpa.routing.Route;
 import com.here.msdkui.R;
@@ -27,6 +29,7 @@ import com.here.msdkui.common.measurements.UnitSystem;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * A custom {@code RecyclerView} that displays a list of maneuvers.
@@ -115,6 +118,9 @@ public class ManeuverList extends CustomRecyclerView {
 
     /**
      * Sets a new {@link Route} to be associated with this list.
+     * <p>The content of all rows is resolved once per route and unit system, see
+     * {@link ManeuverRowModel}. Only rows which changed compared to the last route are bound
+     * again.</p>
      *
      * @param route the new {@link Route} to use, replacing the old one.
      * @throws IllegalArgumentException if route is null or if no maneuvers have been set for the route.
@@ -128,8 +134,26 @@ public class ManeuverList extends CustomRecyclerView {
         if (maneuvers == null) {
             throw new IllegalArgumentException(getContext().getString(R.string.msdkui_no_maneuver_found));
         }
-        mManeuverList.clear();
-        mManeuverList.addAll(maneuvers);
-        mAdapter.notifyDataSetChanged();
+        mAdapter.setManeuvers(maneuvers);
+    }
+
+    /**
+     * Sets the executor used to compute the rows of this list off the main thread, see
+     * {@link ManeuverListAdapter#setComputeExecutor(Executor)}.
+     *
+     * @param executor
+     *         the {@link Executor} to compute rows on or null to compute on the calling thread.
+     */
+    public void setComputeExecutor(@Nullable Executor executor) {
+        mAdapter.setComputeExecutor(executor);
+    }
+
+    /**
+     * Gets the executor used to compute the rows of this list.
+     *
+     * @return the {@link Executor} or null if rows are computed on the calling thread.
+     */
+    public @Nullable Executor getComputeExecutor() {
+        return mAdapter.getComputeExecutor();
     }
 }
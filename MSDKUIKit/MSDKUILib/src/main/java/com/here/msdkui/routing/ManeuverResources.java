@@ -25,6 +25,8 @@ import com.here.android.mpa.routing.Maneuver.Icon;
 import com.here.android.mpa.routing.Maneuver.Turn;
 import com.here.android.mpa.routing.Signpost;
 import com.here.msdkui.R;
+import com.here.msdkui.common.ManeuverIconTable;
+import com.here.msdkui.common.MsdkUiResources;
 
 import java.util.List;
 import java.util.Map;
@@ -39,6 +41,8 @@ public class ManeuverResources {
     private static final Map<Enum, Integer> RESOURCE_MAP = new ConcurrentHashMap<>();
     private final Context mContext;
     private final List<Maneuver> mManeuverList;
+    private String[] mRoadsToDisplay;
+    private boolean[] mResolvedRoads;
 
     @SuppressWarnings("PMD.NcssCount") // There is no purpose to break this constuctor into smaller functions.
     /**
@@ -153,11 +157,57 @@ public class ManeuverResources {
 
     /**
      * Gets the road name for a {@link Maneuver} at the given indes.
+     * <p>The road name of each index is resolved once and kept in a table, so the maneuver list
+     * must not be changed while this instance is in use.</p>
      *
      * @param index the index of the maneuver to use.
      * @return the road name.
      */
     public String getRoadToDisplay(final int index) {
+        if (mManeuverList == null || index < 0 || index >= mManeuverList.size()) {
+            return resolveRoadToDisplay(index);
+        }
+        if (mRoadsToDisplay == null || mRoadsToDisplay.length != mManeuverList.size()) {
+            mRoadsToDisplay = new String[mManeuverList.size()];
+            mResolvedRoads = new boolean[mManeuverList.size()];
+        }
+        if (!mResolvedRoads[index]) {
+            mRoadsToDisplay[index] = resolveRoadToDisplay(index);
+            mResolvedRoads[index] = true;
+        }
+        return mRoadsToDisplay[index];
+    }
+
+    /**
+     * Creates a new instance for the changed maneuver list of this instance, which takes over the
+     * resolved road names of the last maneuvers. Road names only depend on a maneuver and its
+     * following maneuvers, except for the first maneuver of the list.
+     *
+     * @param suffixLength the number of maneuvers at the end of the list which did not change.
+     * @return a new instance for the same maneuver list.
+     */
+    ManeuverResources carryOver(final int suffixLength) {
+        final ManeuverResources resources = new ManeuverResources(mContext, mManeuverList);
+        if (mRoadsToDisplay == null || mManeuverList == null) {
+            return resources;
+        }
+        final int newSize = mManeuverList.size();
+        final int offset = mRoadsToDisplay.length - newSize;
+        resources.mRoadsToDisplay = new String[newSize];
+        resources.mResolvedRoads = new boolean[newSize];
+        for (int i = Math.max(newSize - suffixLength, 1); i < newSize; i++) {
+            if (i + offset > 0) {
+                resources.mRoadsToDisplay[i] = mRoadsToDisplay[i + offset];
+                resources.mResolvedRoads[i] = mResolvedRoads[i + offset];
+            }
+        }
+        return resources;
+    }
+
+    /**
+     * Resolves the road name for a {@link Maneuver} at the given index.
+     */
+    private String resolveRoadToDisplay(final int index) {
         final String exitDir = getExitDirections(getManeuverAt(index));
         if (exitDir != null) {
             return mContext.getString(R.string.msdkui_maneuver_exit_directions_towards, getRoadName(index), exitDir);
@@ -185,7 +235,7 @@ public class ManeuverResources {
             final String text = label.getText();
             if (!TextUtils.isEmpty(text)) {
                 exitDirectionsText = exitDirectionsText == null ? text :
-                        mContext.getString(R.string.msdkui_maneuver_road_name_divider, exitDirectionsText, text);
+                        MsdkUiResources.get(mContext).formatRoadName(exitDirectionsText, text);
             }
         }
         return exitDirectionsText;
@@ -248,7 +298,7 @@ public class ManeuverResources {
         } else if (TextUtils.isEmpty(roadName)) {
             return roadNumber;
         } else {
-            return mContext.getString(R.string.msdkui_maneuver_road_name_divider, roadNumber, roadName);
+            return MsdkUiResources.get(mContext).formatRoadName(roadNumber, roadName);
         }
     }
 
@@ -271,26 +321,14 @@ public class ManeuverResources {
         if (icon == null || icon == Icon.PASS_STATION) {
             return 0; // No id in this case.
         }
-
-        final String resourceName = "ic_maneuver_icon_" + icon.ordinal();
-        return mContext.getResources()
-                .getIdentifier(resourceName, "drawable", mContext.getPackageName());
+        return ManeuverIconTable.getIconId(icon);
     }
 
     /**
      * Gets Localized orientation.
      */
     private String getLocalizedOrientation(final Context context, final int angleInDegrees) {
-        final int[] ids = {R.string.msdkui_maneuver_orientation_north, R.string.msdkui_maneuver_orientation_north_east, R.string
-                .msdkui_maneuver_orientation_east, R.string.msdkui_maneuver_orientation_south_east, R.string
-                .msdkui_maneuver_orientation_south, R.string.msdkui_maneuver_orientation_south_west, R.string
-                .msdkui_maneuver_orientation_west, R.string.msdkui_maneuver_orientation_north_west};
-        final int index = ((angleInDegrees + 45 / 2) % 360) / 45;
-        // Normally, this should never happen.
-        if (index < 0 || index >= ids.length) {
-            return String.valueOf(angleInDegrees);
-        }
-        return context.getString(ids[index]);
+        return MsdkUiResources.get(context).getOrientation(angleInDegrees);
     }
 
     /**
@@ -26,15 +26,12 @@ import androidx.appcompat.content.res.AppCompatResources;
 import android.text.Spannable;
 import android.text.SpannableString;
 import android.text.SpannableStringBuilder;
-import android.text.TextUtils;
 import android.text.format.DateUtils;
 import android.text.style.ForegroundColorSpan;
 import android.text.style.ImageSpan;
 
 import com.here.android.mpa.common.RoadElement;
 import com.here.android.mpa.routing.Route;
-import com.here.android.mpa.routing.RouteElement;
-import com.here.android.mpa.routing.RouteElements;
 import com.here.android.mpa.routing.RouteOptions;
 import com.here.msdkui.R;
 import com.here.msdkui.common.DateFormatterUtil;
@@ -75,41 +72,7 @@ public final class RouteDescriptionHandler {
      *         contains no {@link RoadElement}.
      */
     public String getLongestRoadSegments() {
-
-        String longestSegment = "";
-
-        final RouteElements routeElements = mRoute.getRouteElements();
-        if (routeElements == null) {
-            return longestSegment;
-        }
-
-        final List<RouteElement> routeElementList = routeElements.getElements();
-        final List<RoadElement> roadElementList = new ArrayList<>(routeElementList.size());
-        for (final RouteElement routeElement : routeElementList) {
-            roadElementList.add(routeElement.getRoadElement());
-        }
-
-        double segmentLength = 0;
-        int i = 0;
-        while (i < roadElementList.size()) {
-            final RoadElement road = roadElementList.get(i);
-
-            final String name = getRouteOrRoadName(road);
-            double length = road.getGeometryLength();
-
-            while (i < roadElementList.size() - 1 && name.equals(getRouteOrRoadName(roadElementList.get(i + 1)))) {
-                length += roadElementList.get(i + 1)
-                        .getGeometryLength();
-                i++;
-            }
-
-            if (length > segmentLength) {
-                longestSegment = name;
-                segmentLength = length;
-            }
-            i++;
-        }
-        return longestSegment;
+        return LongestRoadSegments.get(mRoute);
     }
 
     /**
@@ -282,10 +245,6 @@ public final class RouteDescriptionHandler {
         return id;
     }
 
-    private String getRouteOrRoadName(final RoadElement road) {
-        return TextUtils.isEmpty(road.getRouteName()) ? road.getRoadName() : road.getRouteName();
-    }
-
     private long getTta(final boolean isTraffic) {
         if (isTraffic) {
             return mRoute.getTtaIncludingTraffic(WHOLE_ROUTE)
@@ -279,10 +279,27 @@ public class RouteDescriptionItem extends BaseView {
         if (route == null) {
             throw new IllegalArgumentException(getContext().getString(R.string.msdkui_exception_route_null));
         }
-        mRoute = route;
+        setRouteSummary(RouteSummary.create(getContext(), route, mUnitSystem));
+    }
+
+    /**
+     * Sets the new {@link Route} to be associated with this item from its precomputed
+     * {@link RouteSummary}. Binding a summary does not call into the route, except for the
+     * {@link SectionBar} if the route changed. The details are shown in the unit system of the
+     * summary.
+     *
+     * @param summary
+     *         the {@link RouteSummary} of the new route.
+     */
+    public void setRouteSummary(final RouteSummary summary) {
+        if (summary == null) {
+            throw new IllegalArgumentException(getContext().getString(R.string.msdkui_exception_route_null));
+        }
+        final boolean routeChanged = mRoute != summary.getRoute();
+        mRoute = summary.getRoute();
 
         final ImageView icon = (ImageView) mSections.get(Section.TYPE_ICON);
-        final Integer id = RouteUtil.getIcon(mRoute);
+        final int id = summary.getIconId();
         if (id == 0) {
             icon.setVisibility(GONE);
         } else {
@@ -290,29 +307,28 @@ public class RouteDescriptionItem extends BaseView {
             icon.setColorFilter(ThemeUtil.getColor(getContext(), R.attr.colorForeground), PorterDuff.Mode.SRC_ATOP);
         }
 
-        final Spannable totalTime = RouteUtil.getTimeToArrive(getContext(), mRoute, isTrafficEnabled());
+        final Spannable totalTime = summary.getTimeToArrive(isTrafficEnabled());
         ((TextView) mSections.get(Section.TIME)).setText(totalTime);
         ((TextView) mSections.get(Section.TIME)).setContentDescription(
                 getContext().getString(R.string.msdkui_duration) + " " + totalTime);
 
-        if (isTrafficEnabled() && !isBikeOrPedestrian()) {
+        if (isTrafficEnabled() && !summary.isBikeOrPedestrian()) {
             ((TextView) mSections.get(Section.TRAFFIC_WARNING)).setVisibility(View.VISIBLE);
-            final Spannable delayText = RouteUtil.getTrafficDelayed(getContext(), mRoute);
-            ((TextView) mSections.get(Section.TRAFFIC_WARNING)).setText(delayText);
-            ((TextView) mSections.get(Section.TRAFFIC_WARNING)).setContentDescription(delayText.toString().replace(
-                    getContext().getString(R.string.msdkui_incl),
-                    getContext().getString(R.string.msdkui_including)));
+            ((TextView) mSections.get(Section.TRAFFIC_WARNING)).setText(summary.getTrafficDelay());
+            ((TextView) mSections.get(Section.TRAFFIC_WARNING)).setContentDescription(
+                    summary.getTrafficDelayDescription());
 
         } else {
             ((TextView) mSections.get(Section.TRAFFIC_WARNING)).setVisibility(GONE);
         }
 
-        ((TextView) mSections.get(Section.DETAILS)).setText(
-                RouteUtil.getDetails(getContext(), mRoute, mUnitSystem));
-        ((SectionBar) mSections.get(Section.SECTION_BAR))
-                .bind(RouteUtil.getSectionBar(getContext(), mRoute), mSectionBarScaling);
+        ((TextView) mSections.get(Section.DETAILS)).setText(summary.getDetails());
+        if (routeChanged) {
+            ((SectionBar) mSections.get(Section.SECTION_BAR))
+                    .bind(RouteUtil.getSectionBar(getContext(), mRoute), mSectionBarScaling);
+        }
 
-        final String arrivalTime = RouteUtil.getArrivalTime(getContext(), mRoute, isTrafficEnabled());
+        final String arrivalTime = summary.getArrivalTime(getContext(), isTrafficEnabled());
         ((TextView) mSections.get(Section.ARRIVAL_TIME)).setText(arrivalTime);
         ((TextView) mSections.get(Section.ARRIVAL_TIME)).setContentDescription(
                 getContext().getString(R.string.msdkui_arrive_at) +
@@ -320,6 +336,20 @@ public class RouteDescriptionItem extends BaseView {
         setVisibility(VISIBLE);
     }
 
+    /**
+     * Hides this item while the summary of the given route is computed. A recycled row keeps the size
+     * of its previous summary, a new row has no texts yet and may change its height when the summary
+     * is bound.
+     */
+    void showPlaceholder(final Route route) {
+        if (mRoute != route) {
+            mRoute = route;
+            ((SectionBar) mSections.get(Section.SECTION_BAR))
+                    .bind(RouteUtil.getSectionBar(getContext(), mRoute), mSectionBarScaling);
+        }
+        setVisibility(INVISIBLE);
+    }
+
     /**
      * Gets the scaling factor of {@link SectionBar}.
      * @return the scaling factor. Default is 1.
@@ -334,11 +364,12 @@ public class RouteDescriptionItem extends BaseView {
      * @param sectionBarScaling the scaling factor.
      */
     public void setSectionBarScaling(final float sectionBarScaling) {
-        if (Float.compare(mSectionBarScaling, sectionBarScaling) != 0 && mRoute != null) {
+        final boolean changed = Float.compare(mSectionBarScaling, sectionBarScaling) != 0;
+        mSectionBarScaling = sectionBarScaling;
+        if (changed && mRoute != null) {
             ((SectionBar) mSections.get(Section.SECTION_BAR))
                     .bind(RouteUtil.getSectionBar(getContext(), mRoute), mSectionBarScaling);
         }
-        mSectionBarScaling = sectionBarScaling;
     }
 
     /**
@@ -20,14 +20,16 @@ import android.content.Context;
 import android.content.res.TypedArray;
 import android.util.AttributeSet;
 
+import androidx.annotation.Nullable;
+
 import com.here.android.mpa.routing.Route;
 import com.here.android.mpa.routing.RouteResult;
 import com.here.msdkui.R;
 import com.here.msdkui.common.measurements.UnitSystem;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * A view that shows a list of {@link RouteDescriptionItem} elements.
@@ -187,7 +189,10 @@ public class RouteDescriptionList extends CustomRecyclerView {
 
     /**
      * Sets a list of {@link Route} elements to the list. The given list will be used to create the rows of
-     * this list.
+     * this list. The routes are sorted according to {@link #getSortType()} and {@link #getSortOrder()}, the
+     * given list is not modified. Only rows which changed are bound again. If an executor is set with
+     * {@link #setComputeExecutor(Executor)}, {@link #getRoutes()} returns the new routes as soon as they
+     * were sorted.
      *
      * @param routes the list of {@link Route} elements to set.
      * @throws IllegalArgumentException when the list is null.
@@ -196,10 +201,45 @@ public class RouteDescriptionList extends CustomRecyclerView {
         if (routes == null) {
             throw new IllegalArgumentException(getContext().getString(R.string.msdkui_exception_routes_null));
         }
-        sort(routes);
-        mRouteList.clear();
-        mRouteList.addAll(routes);
-        mAdapter.notifyDataSetChanged();
+        mAdapter.setRoutes(routes, new RouteSorter(mSortType, mSortOrder));
+    }
+
+    /**
+     * Adds a {@link Route} to the list, so routes can be shown as soon as each one was calculated.
+     * The route is inserted at its position according to {@link #getSortType()} and
+     * {@link #getSortOrder()}, after routes with the same travel time or length, and only the new row
+     * is inserted. The routes of this list must have been sorted with the current sort type and sort
+     * order.
+     *
+     * @param route the {@link Route} to add.
+     * @throws IllegalArgumentException when the route is null.
+     */
+    public void addRoute(final Route route) {
+        if (route == null) {
+            throw new IllegalArgumentException(getContext().getString(R.string.msdkui_exception_route_null));
+        }
+        mAdapter.addRoute(route, new RouteSorter(mSortType, mSortOrder));
+    }
+
+    /**
+     * Sets the executor used to sort and compare the routes of this list and to create their
+     * {@link RouteSummary} off the main thread, see
+     * {@link RouteDescriptionListAdapter#setComputeExecutor(Executor)}.
+     *
+     * @param executor
+     *         the {@link Executor} to compute updates on or null to compute on the calling thread.
+     */
+    public void setComputeExecutor(@Nullable Executor executor) {
+        mAdapter.setComputeExecutor(executor);
+    }
+
+    /**
+     * Gets the executor used to sort and compare the routes of this list.
+     *
+     * @return the {@link Executor} or null if updates are computed on the calling thread.
+     */
+    public @Nullable Executor getComputeExecutor() {
+        return mAdapter.getComputeExecutor();
     }
 
     /**
@@ -241,43 +281,6 @@ public class RouteDescriptionList extends CustomRecyclerView {
         mAdapter.setTrafficEnabled(isTraffic);
     }
 
-    private void sort(final List<Route> routes) {
-        switch (mSortType) {
-            case DISTANCE:
-                sortByDistance(routes);
-                break;
-            case TOTAL_TIME:
-                sortByTime(routes);
-                break;
-            default:
-                break;
-        }
-    }
-
-    private void sortByDistance(final List<Route> routes) {
-        Collections.sort(routes, (final Route route1, final Route route2) -> {
-            if (mSortOrder == SortOrder.DESCENDING) {
-                return route2.getLength() - route1.getLength();
-            } else {
-                return route1.getLength() - route2.getLength();
-            }
-        });
-    }
-
-    private void sortByTime(final List<Route> routes) {
-        Collections.sort(routes, (final Route route1, final Route route2) -> {
-            final int tta1 = route1.getTtaIncludingTraffic(Route.WHOLE_ROUTE)
-                    .getDuration();
-            final int tta2 = route2.getTtaIncludingTraffic(Route.WHOLE_ROUTE)
-                    .getDuration();
-            if (getSortOrder() == SortOrder.DESCENDING) {
-                return tta2 - tta1;
-            } else {
-                return tta1 - tta2;
-            }
-        });
-    }
-
     /**
      * An enum describing the sort types that are available for this list.
      */
@@ -17,25 +17,71 @@
 package com.here.msdkui.routing;
 
 import android.content.Context;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.RecyclerView;
 import android.view.View;
 import android.view.ViewGroup;
 
 import com.here.android.mpa.routing.Route;
+import com.here.msdkui.common.ComputePipeline;
 import com.here.msdkui.common.measurements.UnitSystem;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * An adapter class that acts as a bridge between a list of {@link Route} elements and the corresponding
  * view holder items constructed as an instance of {@link RouteDescriptionItem}.
+ * <p>Routes set with {@link #setRoutes(List)} are compared with the current routes using
+ * {@link DiffUtil}, so only rows which changed are bound again and item animations keep working. Unit
+ * system and traffic changes update the rows with the {@link #PAYLOAD_UNIT_SYSTEM} and
+ * {@link #PAYLOAD_TRAFFIC} payloads. Item ids are stable. By default, sorting, scaling and the
+ * difference are computed on the calling thread, see {@link #setComputeExecutor(Executor)}.</p>
+ * <p>Rows are bound from a {@link RouteSummary} per route, which is created once per route and
+ * unit system. If an executor is set, the summaries of new routes are created on the executor
+ * together with the update and rows without a summary are shown as placeholders until it is
+ * ready.</p>
  */
 public class RouteDescriptionListAdapter extends RecyclerView.Adapter<RouteDescriptionListAdapter.ViewHolder> {
 
+    /**
+     * Payload of rows of which only the unit system changed.
+     */
+    public static final Object PAYLOAD_UNIT_SYSTEM = new Object();
+
+    /**
+     * Payload of rows of which only the traffic setting changed.
+     */
+    public static final Object PAYLOAD_TRAFFIC = new Object();
+
+    /**
+     * Payload of rows of which only the section bar scaling changed.
+     */
+    public static final Object PAYLOAD_SCALING = new Object();
+
+    /**
+     * Payload of rows of which the {@link RouteSummary} was created on the executor.
+     */
+    public static final Object PAYLOAD_SUMMARY = new Object();
+
     private final List<Route> mRouteList;
-    private final RouteBarScaler mRouteBarScaler;
+    private final Map<Route, RouteSummary> mSummaries = new IdentityHashMap<>();
+    private RouteBarScaler mRouteBarScaler;
     private boolean mTrafficEnabled;
     private UnitSystem mUnitSystem = UnitSystem.METRIC;
+    private long[] mItemIds;
+    private long mNextItemId;
+    private ComputePipeline mComputePipeline;
+    private ComputePipeline mSummaryPipeline;
+    private boolean mSummariesRequested;
+    private Context mContext;
+    private List<Route> mPendingRoutes;
+    private boolean mDispatchingUpdate;
 
     /**
      * Constructs a new instance using a list of {@link Route} elements.
@@ -46,9 +92,291 @@ public class RouteDescriptionListAdapter extends RecyclerView.Adapter<RouteDescr
         super();
         mRouteList = routeList;
         mRouteBarScaler = new RouteBarScaler();
+        setHasStableIds(true);
         registerAdapterDataObserver(new DataObserver());
     }
 
+    /**
+     * Sets the executor used to update the routes off the main thread. When set, the routes passed
+     * to {@link #setRoutes(List)} are sorted and compared with the current routes on the executor and
+     * the list is updated on the main thread. The {@link RouteSummary} of each new route is created
+     * on the executor as well, in parallel for all routes. Updates overtaken by a newer update are
+     * dropped. By default, no executor is set and everything is computed on the calling thread.
+     *
+     * @param executor
+     *         the {@link Executor} to compute updates on or null to compute on the calling thread.
+     */
+    public void setComputeExecutor(@Nullable Executor executor) {
+        cancelUpdate();
+        cancelSummaries();
+        mComputePipeline = executor == null ? null : new ComputePipeline(executor);
+        mSummaryPipeline = executor == null ? null : new ComputePipeline(executor);
+    }
+
+    /**
+     * Gets the executor used to update the routes.
+     *
+     * @return the {@link Executor} or null if updates are computed on the calling thread.
+     */
+    public @Nullable Executor getComputeExecutor() {
+        return mComputePipeline == null ? null : mComputePipeline.getExecutor();
+    }
+
+    /**
+     * Replaces the routes shown by this adapter. Rows of routes which are part of both lists keep
+     * their item id and are only bound again if their section bar scaling changed. If an executor
+     * is set, the routes are replaced as soon as the update was computed.
+     *
+     * @param routes
+     *         the new list of routes.
+     */
+    public void setRoutes(final List<Route> routes) {
+        setRoutes(routes, null);
+    }
+
+    /**
+     * Replaces the routes shown by this adapter, see {@link #setRoutes(List)}.
+     *
+     * @param routes
+     *         the new list of routes.
+     * @param sorter
+     *         the order of the routes or null to keep the given order.
+     */
+    void setRoutes(final List<Route> routes, @Nullable final RouteSorter sorter) {
+        final List<Route> newRoutes = new ArrayList<>(routes);
+        final List<Route> oldRoutes = new ArrayList<>(mRouteList);
+        final float[] oldScalings = new float[oldRoutes.size()];
+        for (int i = 0; i < oldScalings.length; i++) {
+            oldScalings[i] = mRouteBarScaler.getScaling(oldRoutes.get(i));
+        }
+        if (mComputePipeline == null) {
+            // summaries are created when the rows are bound
+            applyUpdate(computeUpdate(oldRoutes, oldScalings, newRoutes, sorter));
+            return;
+        }
+        mPendingRoutes = new ArrayList<>(routes);
+        final Context context = mContext;
+        final UnitSystem unitSystem = mUnitSystem;
+        final Map<Route, RouteSummary> oldSummaries = new IdentityHashMap<>(mSummaries);
+        final Executor executor = mComputePipeline.getExecutor();
+        mComputePipeline.submit(() -> {
+            final RouteUpdate update = computeUpdate(oldRoutes, oldScalings, newRoutes, sorter);
+            if (context != null) {
+                final List<RouteSummary> previous = new ArrayList<>(update.mRoutes.size());
+                for (final Route route : update.mRoutes) {
+                    previous.add(oldSummaries.get(route));
+                }
+                update.mSummaries = RouteSummary.createAll(context, update.mRoutes, previous, unitSystem, executor);
+            }
+            return update;
+        }, this::applyUpdate);
+    }
+
+    /**
+     * Adds a route to the end of the routes shown by this adapter. Only the new row is inserted, rows
+     * of which the section bar scaling changed are bound again.
+     *
+     * @param route
+     *         the route to add.
+     */
+    public void addRoute(final Route route) {
+        addRoute(route, null);
+    }
+
+    /**
+     * Adds a route at its sorted position, see {@link #addRoute(Route)}. The current routes must be
+     * sorted in the same order. If an update is being computed, the route is added to its routes.
+     *
+     * @param route
+     *         the route to add.
+     * @param sorter
+     *         the order of the routes or null to add the route to the end.
+     */
+    void addRoute(final Route route, @Nullable final RouteSorter sorter) {
+        if (mPendingRoutes != null) {
+            final List<Route> routes = new ArrayList<>(mPendingRoutes);
+            routes.add(route);
+            setRoutes(routes, sorter);
+            return;
+        }
+        final int size = mRouteList.size();
+        final int position = sorter == null ? size : sorter.getInsertionPosition(mRouteList, route);
+        final long[] itemIds = new long[size + 1];
+        final float[] oldScalings = new float[size + 1];
+        for (int i = 0; i < size; i++) {
+            final int newPosition = i < position ? i : i + 1;
+            itemIds[newPosition] = getItemId(i);
+            oldScalings[newPosition] = mRouteBarScaler.getScaling(mRouteList.get(i));
+        }
+        itemIds[position] = mNextItemId++;
+        mRouteList.add(position, route);
+        mItemIds = itemIds;
+        // summaries being created do not include the new route
+        cancelSummaries();
+        final RouteBarScaler scaler = new RouteBarScaler();
+        scaler.scaleRoutes(mRouteList);
+        mRouteBarScaler = scaler;
+        mDispatchingUpdate = true;
+        try {
+            notifyItemInserted(position);
+            for (int i = 0; i <= size; i++) {
+                if (i != position && Float.compare(oldScalings[i], scaler.getScaling(mRouteList.get(i))) != 0) {
+                    notifyItemChanged(i, PAYLOAD_SCALING);
+                }
+            }
+        } finally {
+            mDispatchingUpdate = false;
+        }
+    }
+
+    /**
+     * Sorts and scales the new routes and computes their difference to the old routes.
+     */
+    private static RouteUpdate computeUpdate(final List<Route> oldRoutes, final float[] oldScalings,
+            final List<Route> routes, final RouteSorter sorter) {
+        if (sorter != null) {
+            sorter.sort(routes);
+        }
+        final RouteBarScaler scaler = new RouteBarScaler();
+        scaler.scaleRoutes(routes);
+        final float[] scalings = new float[routes.size()];
+        for (int i = 0; i < scalings.length; i++) {
+            scalings[i] = scaler.getScaling(routes.get(i));
+        }
+        final DiffUtil.DiffResult diff = DiffUtil.calculateDiff(new DiffUtil.Callback() {
+            @Override
+            public int getOldListSize() {
+                return oldRoutes.size();
+            }
+
+            @Override
+            public int getNewListSize() {
+                return routes.size();
+            }
+
+            @Override
+            public boolean areItemsTheSame(final int oldItemPosition, final int newItemPosition) {
+                return oldRoutes.get(oldItemPosition) == routes.get(newItemPosition);
+            }
+
+            @Override
+            public boolean areContentsTheSame(final int oldItemPosition, final int newItemPosition) {
+                return Float.compare(oldScalings[oldItemPosition], scalings[newItemPosition]) == 0;
+            }
+
+            @Override
+            public Object getChangePayload(final int oldItemPosition, final int newItemPosition) {
+                return PAYLOAD_SCALING;
+            }
+        }, false);
+        return new RouteUpdate(routes, scaler, diff);
+    }
+
+    /**
+     * Replaces the routes on the main thread. Rows which are part of both lists keep their item id.
+     */
+    private void applyUpdate(final RouteUpdate update) {
+        mPendingRoutes = null;
+        final long[] itemIds = new long[update.mRoutes.size()];
+        for (int i = 0; i < itemIds.length; i++) {
+            final int oldPosition = update.mDiff.convertNewPositionToOld(i);
+            itemIds[i] = oldPosition == DiffUtil.DiffResult.NO_POSITION ? mNextItemId++ : getItemId(oldPosition);
+        }
+        mRouteList.clear();
+        mRouteList.addAll(update.mRoutes);
+        mRouteBarScaler = update.mScaler;
+        mItemIds = itemIds;
+        if (update.mSummaries != null) {
+            mSummaries.clear();
+            for (final RouteSummary summary : update.mSummaries) {
+                mSummaries.put(summary.getRoute(), summary);
+            }
+        } else {
+            mSummaries.keySet().retainAll(mRouteList);
+        }
+        mSummariesRequested = false;
+        mDispatchingUpdate = true;
+        try {
+            update.mDiff.dispatchUpdatesTo(this);
+        } finally {
+            mDispatchingUpdate = false;
+        }
+    }
+
+    private void cancelUpdate() {
+        mPendingRoutes = null;
+        if (mComputePipeline != null) {
+            mComputePipeline.cancel();
+        }
+    }
+
+    private void cancelSummaries() {
+        mSummariesRequested = false;
+        if (mSummaryPipeline != null) {
+            mSummaryPipeline.cancel();
+        }
+    }
+
+    /**
+     * Gets the summary of a route in the current unit system. Without an executor, missing summaries
+     * are created here. Otherwise they are requested from the executor and the summary of another
+     * unit system or null is returned until they are ready.
+     */
+    private RouteSummary getSummary(final Context context, final Route route) {
+        final RouteSummary summary = mSummaries.get(route);
+        if (summary != null && summary.getUnitSystem() == mUnitSystem) {
+            return summary;
+        }
+        if (mSummaryPipeline == null) {
+            final RouteSummary updated = summary == null ?
+                    RouteSummary.create(context, route, mUnitSystem) :
+                    summary.withUnitSystem(context, mUnitSystem);
+            mSummaries.put(route, updated);
+            return updated;
+        }
+        requestSummaries(context);
+        return summary;
+    }
+
+    /**
+     * Creates the summaries of all routes which have none in the current unit system on the executor.
+     */
+    private void requestSummaries(final Context context) {
+        if (mSummariesRequested) {
+            return;
+        }
+        mSummariesRequested = true;
+        final List<Route> routes = new ArrayList<>(mRouteList);
+        final List<RouteSummary> previous = new ArrayList<>(routes.size());
+        for (final Route route : routes) {
+            previous.add(mSummaries.get(route));
+        }
+        final UnitSystem unitSystem = mUnitSystem;
+        final Executor executor = mSummaryPipeline.getExecutor();
+        mSummaryPipeline.submit(() -> RouteSummary.createAll(context, routes, previous, unitSystem, executor),
+                this::applySummaries);
+    }
+
+    /**
+     * Stores the summaries created on the executor. The summaries are in the order of the routes, since
+     * changing the routes cancels the request. Only rows which showed no summary or the summary of
+     * another unit system are notified.
+     */
+    private void applySummaries(final List<RouteSummary> summaries) {
+        mSummariesRequested = false;
+        final int size = Math.min(summaries.size(), mRouteList.size());
+        for (int position = 0; position < size; position++) {
+            final RouteSummary summary = summaries.get(position);
+            if (summary.getRoute() != mRouteList.get(position)) {
+                continue;
+            }
+            final RouteSummary stored = mSummaries.put(summary.getRoute(), summary);
+            if (stored == null || stored.getUnitSystem() != summary.getUnitSystem()) {
+                notifyItemChanged(position, PAYLOAD_SUMMARY);
+            }
+        }
+    }
+
     /**
      * Sets unit system of this adapter.
      *
@@ -57,7 +385,9 @@ public class RouteDescriptionListAdapter extends RecyclerView.Adapter<RouteDescr
      */
     public void setUnitSystem(UnitSystem unitSystem) {
         mUnitSystem = unitSystem;
-        notifyDataSetChanged();
+        // summaries requested for the previous unit system are outdated
+        cancelSummaries();
+        notifyItemRangeChanged(0, getItemCount(), PAYLOAD_UNIT_SYSTEM);
     }
 
     /**
@@ -69,6 +399,18 @@ public class RouteDescriptionListAdapter extends RecyclerView.Adapter<RouteDescr
         return mUnitSystem;
     }
 
+    @Override
+    public void onAttachedToRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        mContext = recyclerView.getContext();
+    }
+
+    @Override
+    public void onDetachedFromRecyclerView(@NonNull RecyclerView recyclerView) {
+        super.onDetachedFromRecyclerView(recyclerView);
+        mContext = null;
+    }
+
     @Override
     public ViewHolder onCreateViewHolder(final ViewGroup parent, final int viewType) {
         return new ViewHolder(getRowView(parent.getContext()));
@@ -93,10 +435,17 @@ public class RouteDescriptionListAdapter extends RecyclerView.Adapter<RouteDescr
     public void onBindViewHolder(final ViewHolder holder, final int position) {
         final Route route = mRouteList.get(position);
         if (route != null && holder.itemView instanceof RouteDescriptionItem) {
-            ((RouteDescriptionItem) holder.itemView).setUnitSystem(mUnitSystem);
-            ((RouteDescriptionItem) holder.itemView).setTrafficEnabled(mTrafficEnabled);
-            ((RouteDescriptionItem) holder.itemView).setSectionBarScaling(mRouteBarScaler.getScaling(route));
-            ((RouteDescriptionItem) holder.itemView).setRoute(route);
+            // binding from a summary is cheap, so rows updated with a payload are bound the same way
+            final RouteDescriptionItem item = (RouteDescriptionItem) holder.itemView;
+            item.setUnitSystem(mUnitSystem);
+            item.setTrafficEnabled(mTrafficEnabled);
+            item.setSectionBarScaling(mRouteBarScaler.getScaling(route));
+            final RouteSummary summary = getSummary(item.getContext(), route);
+            if (summary == null) {
+                item.showPlaceholder(route);
+            } else {
+                item.setRouteSummary(summary);
+            }
         }
     }
 
@@ -105,6 +454,17 @@ public class RouteDescriptionListAdapter extends RecyclerView.Adapter<RouteDescr
         return mRouteList.size();
     }
 
+    @Override
+    public long getItemId(final int position) {
+        if (mItemIds == null || mItemIds.length != mRouteList.size()) {
+            mItemIds = new long[mRouteList.size()];
+            for (int i = 0; i < mItemIds.length; i++) {
+                mItemIds[i] = mNextItemId++;
+            }
+        }
+        return mItemIds[position];
+    }
+
     /**
      * Updates section bar scaling for all routes.
      */
@@ -130,7 +490,7 @@ public class RouteDescriptionListAdapter extends RecyclerView.Adapter<RouteDescr
      */
     public void setTrafficEnabled(final boolean isTraffic) {
         mTrafficEnabled = isTraffic;
-        notifyDataSetChanged();
+        notifyItemRangeChanged(0, getItemCount(), PAYLOAD_TRAFFIC);
     }
 
     /**
@@ -149,38 +509,71 @@ public class RouteDescriptionListAdapter extends RecyclerView.Adapter<RouteDescr
     }
 
     /**
-     * The data observer for this adapter.
+     * The result of an update computation.
+     */
+    private static final class RouteUpdate {
+
+        private final List<Route> mRoutes;
+        private final RouteBarScaler mScaler;
+        private final DiffUtil.DiffResult mDiff;
+        private List<RouteSummary> mSummaries;
+
+        RouteUpdate(final List<Route> routes, final RouteBarScaler scaler, final DiffUtil.DiffResult diff) {
+            mRoutes = routes;
+            mScaler = scaler;
+            mDiff = diff;
+        }
+    }
+
+    /**
+     * The data observer for this adapter. Updates done with {@link #setRoutes(List)} are scaled when
+     * they are computed, routes changed from outside of this adapter are scaled here.
      */
     private class DataObserver extends RecyclerView.AdapterDataObserver {
 
         @Override
         public void onChanged() {
-            updateScaling();
+            onRoutesChanged(true);
             super.onChanged();
         }
 
         @Override
         public void onItemRangeChanged(final int positionStart, final int itemCount, final Object payload) {
-            updateScaling();
+            if (payload == null) {
+                onRoutesChanged(false);
+            }
             super.onItemRangeChanged(positionStart, itemCount, payload);
         }
 
         @Override
         public void onItemRangeInserted(final int positionStart, final int itemCount) {
-            updateScaling();
+            onRoutesChanged(true);
             super.onItemRangeInserted(positionStart, itemCount);
         }
 
         @Override
         public void onItemRangeRemoved(final int positionStart, final int itemCount) {
-            updateScaling();
+            onRoutesChanged(true);
             super.onItemRangeRemoved(positionStart, itemCount);
         }
 
         @Override
         public void onItemRangeMoved(final int fromPosition, final int toPosition, final int itemCount) {
-            updateScaling();
+            onRoutesChanged(true);
             super.onItemRangeMoved(fromPosition, toPosition, itemCount);
         }
+
+        private void onRoutesChanged(final boolean structural) {
+            if (!mDispatchingUpdate) {
+                // a pending update is based on outdated routes
+                cancelUpdate();
+                cancelSummaries();
+                if (structural) {
+                    mItemIds = null;
+                    mSummaries.keySet().retainAll(mRouteList);
+                }
+                updateScaling();
+            }
+        }
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.routing;
+
+import com.here.android.mpa.routing.Route;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Sorts routes by the sort type and sort order of a {@link RouteDescriptionList}.
+ * <p>The sort key of each route, its travel time or its length, is read from the route once and the
+ * routes are ordered by their keys, so sorting does not call into the routes for every comparison.
+ * Routes with the same key keep their order.</p>
+ */
+final class RouteSorter {
+
+    private static final int INDEX_BITS = 32;
+
+    private final RouteDescriptionList.SortType mSortType;
+    private final boolean mDescending;
+
+    RouteSorter(final RouteDescriptionList.SortType sortType, final RouteDescriptionList.SortOrder sortOrder) {
+        mSortType = sortType;
+        mDescending = sortOrder == RouteDescriptionList.SortOrder.DESCENDING;
+    }
+
+    /**
+     * Sorts the given routes in place.
+     */
+    void sort(final List<Route> routes) {
+        final int size = routes.size();
+        // the key in the upper bits, the index in the lower bits, so equal keys keep their order
+        final long[] entries = new long[size];
+        for (int i = 0; i < size; i++) {
+            entries[i] = getSortKey(routes.get(i)) << INDEX_BITS | i;
+        }
+        Arrays.sort(entries);
+        final Route[] sorted = new Route[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = routes.get((int) entries[i]);
+        }
+        for (int i = 0; i < size; i++) {
+            routes.set(i, sorted[i]);
+        }
+    }
+
+    /**
+     * Gets the position at which the given route is inserted into the given sorted routes, after
+     * the routes with the same key.
+     */
+    int getInsertionPosition(final List<Route> routes, final Route route) {
+        final long key = getSortKey(route);
+        int low = 0;
+        int high = routes.size();
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (getSortKey(routes.get(middle)) <= key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long getSortKey(final Route route) {
+        final long key = mSortType == RouteDescriptionList.SortType.DISTANCE ?
+                route.getLength() :
+                route.getTtaIncludingTraffic(Route.WHOLE_ROUTE).getDuration();
+        return mDescending ? -key : key;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.routing;
+
+import android.content.Context;
+import android.text.Spannable;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.here.android.mpa.routing.Route;
+import com.here.android.mpa.routing.RouteOptions;
+import com.here.msdkui.R;
+import com.here.msdkui.common.ExecutorUtil;
+import com.here.msdkui.common.measurements.UnitSystem;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * The resolved content of a {@link RouteDescriptionItem}.
+ * <p>A summary holds everything a route row displays: the transport mode icon, the travel and
+ * arrival times with and without traffic, the traffic delay and the details of the route. All of
+ * them are read from the {@link Route} once, so binding a row from a summary does not call into the
+ * route again. Summaries can be created on any thread. Instances are immutable.</p>
+ * <p>The arrival times depend on the current time, so only the travel times are stored and the
+ * arrival time is formatted on every call of {@link #getArrivalTime(Context, boolean)}.</p>
+ */
+public final class RouteSummary {
+
+    private final Route mRoute;
+    private final UnitSystem mUnitSystem;
+    private final int mIconId;
+    private final boolean mBikeOrPedestrian;
+    private final Spannable mTimeToArrive;
+    private final Spannable mTimeToArriveWithTraffic;
+    private final RouteOptions mRouteOptions;
+    private final long mTta;
+    private final long mTtaWithTraffic;
+    private final Spannable mTrafficDelay;
+    private final String mTrafficDelayDescription;
+    private final Spannable mDetails;
+
+    private RouteSummary(final RouteSummary summary, final UnitSystem unitSystem, final Spannable details) {
+        mRoute = summary.mRoute;
+        mUnitSystem = unitSystem;
+        mIconId = summary.mIconId;
+        mBikeOrPedestrian = summary.mBikeOrPedestrian;
+        mTimeToArrive = summary.mTimeToArrive;
+        mTimeToArriveWithTraffic = summary.mTimeToArriveWithTraffic;
+        mRouteOptions = summary.mRouteOptions;
+        mTta = summary.mTta;
+        mTtaWithTraffic = summary.mTtaWithTraffic;
+        mTrafficDelay = summary.mTrafficDelay;
+        mTrafficDelayDescription = summary.mTrafficDelayDescription;
+        mDetails = details;
+    }
+
+    private RouteSummary(final Context context, final Route route, final UnitSystem unitSystem) {
+        mRoute = route;
+        mUnitSystem = unitSystem;
+        mIconId = RouteUtil.getIcon(route);
+        mRouteOptions = route.getRoutePlan().getRouteOptions();
+        final RouteOptions.TransportMode transportMode = mRouteOptions.getTransportMode();
+        mBikeOrPedestrian = transportMode == RouteOptions.TransportMode.BICYCLE ||
+                transportMode == RouteOptions.TransportMode.PEDESTRIAN;
+        mTimeToArrive = RouteUtil.getTimeToArrive(context, route, false);
+        mTimeToArriveWithTraffic = RouteUtil.getTimeToArrive(context, route, true);
+        mTta = RouteUtil.getTta(route, false);
+        mTtaWithTraffic = RouteUtil.getTta(route, true);
+        if (mBikeOrPedestrian) {
+            mTrafficDelay = null;
+            mTrafficDelayDescription = null;
+        } else {
+            mTrafficDelay = RouteUtil.getTrafficDelayed(context, route);
+            mTrafficDelayDescription = mTrafficDelay.toString().replace(context.getString(R.string.msdkui_incl),
+                    context.getString(R.string.msdkui_including));
+        }
+        mDetails = RouteUtil.getDetails(context, route, unitSystem);
+    }
+
+    /**
+     * Creates the summary of a route.
+     *
+     * @param context
+     *         the required {@link Context}.
+     * @param route
+     *         the {@link Route} to summarize.
+     * @param unitSystem
+     *         the {@link UnitSystem} of the route details.
+     *
+     * @return the summary.
+     */
+    public static RouteSummary create(@NonNull Context context, @NonNull Route route,
+            @NonNull UnitSystem unitSystem) {
+        return new RouteSummary(context, route, unitSystem);
+    }
+
+    /**
+     * Creates the summaries of the given routes, reusing the given previous summaries. A previous
+     * summary of another unit system only gets new details. If an executor is given, the summaries
+     * are created in parallel on the executor, summaries which did not start on the executor when
+     * they are needed are created on the calling thread.
+     *
+     * @param previous
+     *         the previous summaries of the routes with the same size as the routes, entries may be null.
+     */
+    static List<RouteSummary> createAll(final Context context, final List<Route> routes,
+            final List<RouteSummary> previous, final UnitSystem unitSystem, @Nullable final Executor executor) {
+        final int size = routes.size();
+        if (executor == null || size < 2) {
+            final List<RouteSummary> summaries = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                summaries.add(update(previous.get(i), context, routes.get(i), unitSystem));
+            }
+            return summaries;
+        }
+        final List<Callable<RouteSummary>> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final RouteSummary summary = previous.get(i);
+            final Route route = routes.get(i);
+            tasks.add(() -> update(summary, context, route, unitSystem));
+        }
+        return ExecutorUtil.invokeAll(executor, tasks);
+    }
+
+    private static RouteSummary update(@Nullable final RouteSummary previous, final Context context,
+            final Route route, final UnitSystem unitSystem) {
+        if (previous == null || previous.mRoute != route) {
+            return create(context, route, unitSystem);
+        }
+        return previous.withUnitSystem(context, unitSystem);
+    }
+
+    /**
+     * Gets the summary of the same route with the details in the given unit system.
+     *
+     * @param context
+     *         the required {@link Context}.
+     * @param unitSystem
+     *         the {@link UnitSystem} of the route details.
+     *
+     * @return this summary if the unit system is the same, otherwise a new summary.
+     */
+    public RouteSummary withUnitSystem(@NonNull Context context, @NonNull UnitSystem unitSystem) {
+        if (unitSystem == mUnitSystem) {
+            return this;
+        }
+        return new RouteSummary(this, unitSystem, RouteUtil.getDetails(context, mRoute, unitSystem));
+    }
+
+    /**
+     * Gets the summarized route.
+     *
+     * @return the {@link Route}.
+     */
+    public Route getRoute() {
+        return mRoute;
+    }
+
+    /**
+     * Gets the unit system of the route details.
+     *
+     * @return the {@link UnitSystem}.
+     */
+    public UnitSystem getUnitSystem() {
+        return mUnitSystem;
+    }
+
+    /**
+     * Gets the transport mode icon, see {@link RouteUtil#getIcon(Route)}.
+     *
+     * @return the drawable resource id or 0 if there is no icon.
+     */
+    public int getIconId() {
+        return mIconId;
+    }
+
+    /**
+     * Indicates whether the route is a bike or pedestrian route, which have no traffic delay.
+     *
+     * @return true if bike or pedestrian, false otherwise.
+     */
+    public boolean isBikeOrPedestrian() {
+        return mBikeOrPedestrian;
+    }
+
+    /**
+     * Gets the travel time, see {@link RouteUtil#getTimeToArrive(Context, Route, boolean)}.
+     *
+     * @param traffic
+     *         true if the traffic situation should be included, false otherwise.
+     *
+     * @return the travel time.
+     */
+    public Spannable getTimeToArrive(final boolean traffic) {
+        return traffic ? mTimeToArriveWithTraffic : mTimeToArrive;
+    }
+
+    /**
+     * Gets the arrival time, see {@link RouteUtil#getArrivalTime(Context, Route, boolean)}. It is
+     * formatted on every call, since it depends on the current time.
+     *
+     * @param context
+     *         the required {@link Context}.
+     * @param traffic
+     *         true if the traffic situation should be included, false otherwise.
+     *
+     * @return the arrival time.
+     */
+    public String getArrivalTime(@NonNull final Context context, final boolean traffic) {
+        return RouteUtil.getArrivalTime(context, mRouteOptions, traffic ? mTtaWithTraffic : mTta);
+    }
+
+    /**
+     * Gets the traffic delay, see {@link RouteUtil#getTrafficDelayed(Context, Route)}. The delay
+     * shows whether the route is blocked.
+     *
+     * @return the traffic delay or null for bike and pedestrian routes.
+     */
+    public @Nullable Spannable getTrafficDelay() {
+        return mTrafficDelay;
+    }
+
+    /**
+     * Gets the content description of the traffic delay.
+     *
+     * @return the description or null for bike and pedestrian routes.
+     */
+    public @Nullable String getTrafficDelayDescription() {
+        return mTrafficDelayDescription;
+    }
+
+    /**
+     * Gets the details of the route, see {@link RouteUtil#getDetails(Context, Route, UnitSystem)}.
+     *
+     * @return the length of the route and its longest road segment.
+     */
+    public Spannable getDetails() {
+        return mDetails;
+    }
+}
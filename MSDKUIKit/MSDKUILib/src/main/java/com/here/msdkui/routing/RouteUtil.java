@@ -26,15 +26,12 @@ import androidx.appcompat.content.res.AppCompatResources;
 import android.text.Spannable;
 import android.text.SpannableString;
 import android.text.SpannableStringBuilder;
-import android.text.TextUtils;
 import android.text.format.DateUtils;
 import android.text.style.ForegroundColorSpan;
 import android.text.style.ImageSpan;
 
 import com.here.android.mpa.common.RoadElement;
 import com.here.android.mpa.routing.Route;
-import com.here.android.mpa.routing.RouteElement;
-import com.here.android.mpa.routing.RouteElements;
 import com.here.android.mpa.routing.RouteOptions;
 import com.here.msdkui.R;
 import com.here.msdkui.common.DateFormatterUtil;
@@ -58,7 +55,8 @@ public final class RouteUtil {
     private RouteUtil() {}
 
     /**
-     * Gets the longest road segments of the associated {@link Route}.
+     * Gets the longest road segments of the associated {@link Route}. The result is cached per
+     * route, see {@link LongestRoadSegments}.
      *
      * @param route
      *         a {@link Route} instance.
@@ -66,41 +64,7 @@ public final class RouteUtil {
      *         contains no {@link RoadElement}.
      */
     public static String getLongestRoadSegments(final Route route) {
-
-        String longestSegment = "";
-
-        final RouteElements routeElements = route.getRouteElements();
-        if (routeElements == null) {
-            return longestSegment;
-        }
-
-        final List<RouteElement> routeElementList = routeElements.getElements();
-        final List<RoadElement> roadElementList = new ArrayList<>(routeElementList.size());
-        for (final RouteElement routeElement : routeElementList) {
-            roadElementList.add(routeElement.getRoadElement());
-        }
-
-        double segmentLength = 0;
-        int i = 0;
-        while (i < roadElementList.size()) {
-            final RoadElement road = roadElementList.get(i);
-
-            final String name = getRouteOrRoadName(road);
-            double length = road.getGeometryLength();
-
-            while (i < roadElementList.size() - 1 && name.equals(getRouteOrRoadName(roadElementList.get(i + 1)))) {
-                length += roadElementList.get(i + 1)
-                        .getGeometryLength();
-                i++;
-            }
-
-            if (length > segmentLength) {
-                longestSegment = name;
-                segmentLength = length;
-            }
-            i++;
-        }
-        return longestSegment;
+        return LongestRoadSegments.get(route);
     }
 
     /**
@@ -156,10 +120,25 @@ public final class RouteUtil {
      * @return a string containing the arrival time.
      */
     public static String getArrivalTime(final Context context, final Route route, final boolean isTraffic) {
-        final long tta = getTta(route, isTraffic);
+        return getArrivalTime(context, route.getRoutePlan().getRouteOptions(), getTta(route, isTraffic));
+    }
+
+    /**
+     * Gets the arrival time for the given travel time, based on the arrival or departure time of the
+     * given {@link RouteOptions}.
+     *
+     * @param context
+     *         the required {@link Context}.
+     * @param routeOptions
+     *         the {@link RouteOptions} of the route.
+     * @param tta
+     *         the travel time in milliseconds.
+     * @return a string containing the arrival time.
+     */
+    public static String getArrivalTime(final Context context, final RouteOptions routeOptions, final long tta) {
         final Date setArrivalOrDepartureDate = new Date();
         final Date estimatedArrival;
-        final RouteOptions.TimeType type = route.getRoutePlan().getRouteOptions().getTime(setArrivalOrDepartureDate);
+        final RouteOptions.TimeType type = routeOptions.getTime(setArrivalOrDepartureDate);
         if (type == RouteOptions.TimeType.ARRIVAL) {
             estimatedArrival = new Date(setArrivalOrDepartureDate.getTime() - tta);
         } else {
@@ -315,11 +294,7 @@ public final class RouteUtil {
                 Spannable.SPAN_EXCLUSIVE_EXCLUSIVE);
     }
 
-    private static String getRouteOrRoadName(final RoadElement road) {
-        return TextUtils.isEmpty(road.getRouteName()) ? road.getRoadName() : road.getRouteName();
-    }
-
-    private static long getTta(final Route route, final boolean isTraffic) {
+    static long getTta(final Route route, final boolean isTraffic) {
         if (isTraffic && isTrafficAvailable(route)) {
             return route.getTtaIncludingTraffic(WHOLE_ROUTE)
                     .getDuration() * DateUtils.SECOND_IN_MILLIS;
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Measures the memory a piece of code allocates on the calling thread, using
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.
+ * <p>The code is run {@link #WARM_UP_CYCLES} times first, so classes are loaded and call sites
+ * are linked before measuring. Then every cycle is measured on its own and the most bytes a single
+ * cycle allocated are reported. What reading the counter allocates itself is measured beforehand
+ * and subtracted. Tests using this class are skipped if the JVM doesn't support the counter.</p>
+ * <p>Only the calling thread is measured, mocks must not be called by the measured code, since
+ * every call of a Mockito mock allocates.</p>
+ */
+public final class AllocationMeter {
+
+    /**
+     * Number of cycles run before measuring.
+     */
+    public static final int WARM_UP_CYCLES = 1000;
+
+    /**
+     * Number of measured cycles.
+     */
+    public static final int MEASURED_CYCLES = 1000;
+
+    private static final int CALIBRATION_RUNS = 16;
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Measures the given cycle.
+     *
+     * @param cycle
+     *         the code to measure. It should not capture state changing between the cycles, use
+     *         fields or arrays for that instead.
+     *
+     * @return the most bytes allocated by a single cycle.
+     */
+    public static long measure(Runnable cycle) {
+        final com.sun.management.ThreadMXBean threads = getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < WARM_UP_CYCLES; i++) {
+            cycle.run();
+        }
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_RUNS; i++) {
+            final long before = threads.getThreadAllocatedBytes(threadId);
+            final long after = threads.getThreadAllocatedBytes(threadId);
+            overhead = Math.min(overhead, after - before);
+        }
+        long worst = 0;
+        for (int i = 0; i < MEASURED_CYCLES; i++) {
+            final long before = threads.getThreadAllocatedBytes(threadId);
+            cycle.run();
+            final long after = threads.getThreadAllocatedBytes(threadId);
+            worst = Math.max(worst, after - before - overhead);
+        }
+        return worst;
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue("allocation counter not available", bean instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue("allocation counter not supported", threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+}
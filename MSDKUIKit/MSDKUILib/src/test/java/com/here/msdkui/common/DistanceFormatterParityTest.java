@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common;
+
+import android.content.Context;
+
+import com.here.RobolectricTest;
+import com.here.msdkui.common.measurements.UnitSystem;
+
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests that {@link DistanceFormatter} produces the same output as {@link DistanceFormatterUtil}.
+ */
+public class DistanceFormatterParityTest extends RobolectricTest {
+
+    // Covers all thresholds of the metric and imperial tables, including the mile thresholds.
+    private static final long DENSE_RANGE_END = 20000;
+    private static final long SPARSE_RANGE_END = 500000;
+    private static final long SPARSE_STEP = 37;
+
+    @Test
+    public void testFormatDistanceParity() {
+        final Context context = getApplicationContext();
+        for (final UnitSystem system : UnitSystem.values()) {
+            final DistanceFormatter formatter = new DistanceFormatter(context, system);
+            for (long distance = -1; distance < SPARSE_RANGE_END; distance = next(distance)) {
+                assertThat(system + " " + distance, formatter.formatDistance(distance),
+                        is(DistanceFormatterUtil.formatDistance(context, distance, system)));
+            }
+        }
+    }
+
+    @Test
+    public void testFormatParity() {
+        final Context context = getApplicationContext();
+        for (final UnitSystem system : UnitSystem.values()) {
+            final DistanceFormatter formatter = new DistanceFormatter(context, system);
+            for (long distance = -1; distance < SPARSE_RANGE_END; distance = next(distance)) {
+                assertThat(system + " " + distance, formatter.format(distance),
+                        is(DistanceFormatterUtil.format(context, distance, system)));
+            }
+        }
+    }
+
+    @Test
+    public void testAppendToBuilder() {
+        final DistanceFormatter formatter = new DistanceFormatter(getApplicationContext(), UnitSystem.METRIC);
+        final StringBuilder builder = new StringBuilder("in ");
+        assertThat(formatter.formatDistance(1200, builder), is(sameInstance(builder)));
+        assertThat(builder.toString(), is("in 1.2 km"));
+    }
+
+    @Test
+    public void testResultsAreCached() {
+        final DistanceFormatter formatter = new DistanceFormatter(getApplicationContext(), UnitSystem.METRIC);
+        final String result = formatter.formatDistance(163);
+        assertThat(result, is("160 m"));
+        // distances in the same bucket share the string
+        assertThat(formatter.formatDistance(158), is(sameInstance(result)));
+        assertThat(formatter.format(160), is("160 m"));
+        for (long distance = 0; distance < DENSE_RANGE_END; distance++) {
+            formatter.format(distance);
+        }
+        // the cache is bounded, but still gives the same output
+        assertThat(formatter.formatDistance(163), is(result));
+    }
+
+    @Test
+    public void testObtain() {
+        final Context context = getApplicationContext();
+        final DistanceFormatter formatter = DistanceFormatter.obtain(null, context, UnitSystem.METRIC);
+        assertThat(formatter.getLocale(), is(Locale.getDefault()));
+        assertThat(DistanceFormatter.obtain(formatter, context, UnitSystem.METRIC), is(sameInstance(formatter)));
+        assertThat(DistanceFormatter.obtain(formatter, context, UnitSystem.IMPERIAL_US).getUnitSystem(),
+                is(UnitSystem.IMPERIAL_US));
+    }
+
+    private static long next(long distance) {
+        return distance < DENSE_RANGE_END ? distance + 1 : distance + SPARSE_STEP;
+    }
+}
@@ -292,4 +292,22 @@ public class DistanceFormatterTest extends RobolectricTest {
                 1933248, UnitSystem.IMPERIAL_UK);
         assertThat(formattedDistance, is("1,201 mi"));
     }
+
+    // Tests of getDisplayedDistance(long, UnitSystem)
+
+    @Test
+    public void testDisplayedDistanceMatchesFormattedDistance() {
+        for (final UnitSystem system : UnitSystem.values()) {
+            String lastString = DistanceFormatterUtil.formatDistance(getApplicationContext(), 0, system);
+            double lastDisplayed = DistanceFormatterUtil.getDisplayedDistance(0, system);
+            for (long distance = 1; distance < 40000; distance += distance < 12000 ? 1 : 7) {
+                final String string = DistanceFormatterUtil.formatDistance(getApplicationContext(), distance, system);
+                final double displayed = DistanceFormatterUtil.getDisplayedDistance(distance, system);
+                assertThat("Distance " + distance + " in " + system,
+                        Double.compare(displayed, lastDisplayed) == 0, is(string.equals(lastString)));
+                lastString = string;
+                lastDisplayed = displayed;
+            }
+        }
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common;
+
+import android.content.Context;
+
+import com.here.RobolectricTest;
+
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link EtaFormatter}.
+ */
+public class EtaFormatterTest extends RobolectricTest {
+
+    @Test
+    public void testEtaMatchesDateFormatterUtil() {
+        final Context context = getApplicationContext();
+        final EtaFormatter formatter = new EtaFormatter(context);
+        final Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.HOUR_OF_DAY, 12);
+        calendar.set(Calendar.MINUTE, 0);
+        for (int i = 0; i < 3 * 24 * 60; i += 7) {
+            final Date eta = calendar.getTime();
+            assertThat(eta.toString(), formatter.formatEta(eta), is(DateFormatterUtil.format(context, eta)));
+            calendar.add(Calendar.MINUTE, 7);
+        }
+    }
+
+    @Test
+    public void testEtaIsCachedPerMinute() {
+        final EtaFormatter formatter = new EtaFormatter(getApplicationContext());
+        final Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.HOUR_OF_DAY, 14);
+        calendar.set(Calendar.MINUTE, 30);
+        calendar.set(Calendar.SECOND, 5);
+        final String result = formatter.formatEta(calendar.getTime());
+        calendar.set(Calendar.SECOND, 55);
+        assertThat(formatter.formatEta(calendar.getTime()), is(sameInstance(result)));
+        calendar.add(Calendar.MINUTE, 1);
+        assertThat(formatter.formatEta(calendar.getTime()), is(not(result)));
+
+        EtaFormatter.invalidate();
+        calendar.add(Calendar.MINUTE, -1);
+        final String formattedAgain = formatter.formatEta(calendar.getTime());
+        assertThat(formattedAgain, is(result));
+        assertThat(formattedAgain, is(not(sameInstance(result))));
+    }
+
+    @Test
+    public void testDurationMatchesTimeFormatterUtil() {
+        final Context context = getApplicationContext();
+        final EtaFormatter formatter = new EtaFormatter(context);
+        for (long seconds = -1; seconds < TimeUnit.DAYS.toSeconds(3); seconds += 13) {
+            final long milliseconds = TimeUnit.SECONDS.toMillis(seconds);
+            assertThat(formatter.formatDuration(milliseconds), is(TimeFormatterUtil.format(context, milliseconds)));
+        }
+        assertThat(formatter.formatDuration(3600), is(TimeFormatterUtil.format(context, 3600)));
+    }
+
+    @Test
+    public void testDurationIsCachedPerDisplayedTime() {
+        final EtaFormatter formatter = new EtaFormatter(getApplicationContext());
+        final String result = formatter.formatDuration(TimeUnit.MINUTES.toMillis(12) + 1000);
+        assertThat(formatter.formatDuration(TimeUnit.MINUTES.toMillis(12) + 59000), is(sameInstance(result)));
+    }
+
+    @Test
+    public void testToday() {
+        final long now = System.currentTimeMillis();
+        assertThat(EtaFormatter.isToday(now), is(true));
+        assertThat(EtaFormatter.isToday(now + TimeUnit.DAYS.toMillis(1)), is(false));
+        assertThat(EtaFormatter.isToday(now - TimeUnit.DAYS.toMillis(1)), is(false));
+
+        // the bounds of the day follow a changed time zone once the formatters are invalidated
+        final TimeZone timeZone = TimeZone.getDefault();
+        final long todayStart = EtaFormatter.getTodayStart();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone(timeZone.getRawOffset() == 0 ? "GMT+05:00" : "GMT"));
+            EtaFormatter.invalidate();
+            assertThat(EtaFormatter.getTodayStart(), is(not(todayStart)));
+        } finally {
+            TimeZone.setDefault(timeZone);
+            EtaFormatter.invalidate();
+        }
+    }
+}
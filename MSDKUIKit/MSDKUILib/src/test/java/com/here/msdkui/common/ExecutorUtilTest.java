@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.here.msdkui.common;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link ExecutorUtil}.
+ */
+public class ExecutorUtilTest {
+
+    @Test
+    public void testResultsAreInOrder() {
+        final List<Callable<Integer>> tasks = Arrays.asList(() -> 1, () -> 2, () -> 3);
+        assertThat(ExecutorUtil.invokeAll(Runnable::run, tasks), is(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void testTasksNotStartedByTheExecutorRunOnTheCaller() {
+        final List<Runnable> queued = new ArrayList<>();
+        final List<Callable<Thread>> tasks = Arrays.asList(Thread::currentThread, Thread::currentThread);
+        final List<Thread> threads = ExecutorUtil.invokeAll(queued::add, tasks);
+        assertThat(threads, is(Arrays.asList(Thread.currentThread(), Thread.currentThread())));
+
+        // running the queued tasks later has no effect
+        for (final Runnable runnable : queued) {
+            runnable.run();
+        }
+        assertThat(queued.size(), is(2));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testFailureIsRethrown() {
+        ExecutorUtil.invokeAll(Runnable::run, Arrays.<Callable<Integer>>asList(() -> {
+            throw new IllegalArgumentException();
+        }));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ListenerRegistry}.
+ */
+public class ListenerRegistryTest {
+
+    @Test
+    public void testAddAndRemove() {
+        final ListenerRegistry<Recorder> registry = new ListenerRegistry<>();
+        final Recorder listener = new Recorder();
+        assertTrue(registry.isEmpty());
+        assertFalse(registry.add(null));
+        assertTrue(registry.add(listener));
+        assertFalse(registry.add(listener));
+        assertThat(registry.size(), is(1));
+
+        registry.dispatch(Recorder::onUpdate, "update");
+        assertThat(listener.mUpdates, is(Arrays.asList("update")));
+
+        assertTrue(registry.remove(listener));
+        assertFalse(registry.remove(listener));
+        registry.dispatch(Recorder::onUpdate, "update");
+        assertThat(listener.mUpdates.size(), is(1));
+        assertTrue(registry.isEmpty());
+    }
+
+    @Test
+    public void testRemoveDuringDispatch() {
+        final ListenerRegistry<Recorder> registry = new ListenerRegistry<>();
+        final Recorder first = new Recorder();
+        final Recorder second = new Recorder();
+        registry.add(first);
+        registry.add(second);
+
+        // the running dispatch still reaches all listeners
+        registry.dispatch((listener, argument) -> {
+            registry.remove(second);
+            listener.onUpdate(argument);
+        }, "update");
+        assertThat(first.mUpdates.size(), is(1));
+        assertThat(second.mUpdates.size(), is(1));
+
+        registry.dispatch(Recorder::onUpdate, "update");
+        assertThat(first.mUpdates.size(), is(2));
+        assertThat(second.mUpdates.size(), is(1));
+    }
+
+    @Test
+    public void testWeakListeners() {
+        final ListenerRegistry<Recorder> registry = new ListenerRegistry<>(true);
+        final Recorder listener = new Recorder();
+        assertTrue(registry.add(listener));
+        assertFalse(registry.add(listener));
+        registry.dispatch(Recorder::onUpdate, "update");
+        assertThat(listener.mUpdates.size(), is(1));
+        assertTrue(registry.remove(listener));
+        assertTrue(registry.isEmpty());
+    }
+
+    /**
+     * Listener recording all updates.
+     */
+    private static final class Recorder {
+
+        private final List<String> mUpdates = new ArrayList<>();
+
+        void onUpdate(String update) {
+            mUpdates.add(update);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common;
+
+import android.content.Context;
+
+import com.here.RobolectricTest;
+import com.here.android.mpa.routing.Maneuver;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link ManeuverIconTable}.
+ */
+public class ManeuverIconTableTest extends RobolectricTest {
+
+    @Test
+    public void testEveryIconIsCovered() {
+        final Context context = getApplicationContext();
+        assertThat(ManeuverIconTable.size(), is(Maneuver.Icon.values().length));
+        for (final Maneuver.Icon icon : Maneuver.Icon.values()) {
+            final int expected = context.getResources().getIdentifier("ic_maneuver_icon_" + icon.ordinal(),
+                    "drawable", context.getPackageName());
+            assertThat(icon.name(), ManeuverIconTable.getIconId(icon), is(expected));
+            assertThat(icon.name(), ManeuverIconTable.getIconId(icon), is(not(0)));
+        }
+    }
+
+    @Test
+    public void testUnknownIcon() {
+        assertThat(ManeuverIconTable.getIconId(null), is(0));
+        assertThat(ManeuverIconTable.getIconId(-1), is(0));
+        assertThat(ManeuverIconTable.getIconId(ManeuverIconTable.size()), is(0));
+    }
+}
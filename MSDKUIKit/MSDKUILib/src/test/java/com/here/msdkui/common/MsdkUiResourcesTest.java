@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common;
+
+import android.content.Context;
+import android.content.res.Configuration;
+
+import com.here.RobolectricTest;
+import com.here.msdkui.R;
+import com.here.msdkui.common.measurements.UnitSystem;
+
+import org.junit.Test;
+
+import java.util.Locale;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link MsdkUiResources}.
+ */
+public class MsdkUiResourcesTest extends RobolectricTest {
+
+    @Test
+    public void testResourcesAreResolved() {
+        final Context context = getApplicationContext();
+        final MsdkUiResources resources = MsdkUiResources.get(context);
+        assertThat(MsdkUiResources.get(context), is(sameInstance(resources)));
+        assertThat(resources.getValueNotAvailable(), is(context.getString(R.string.msdkui_value_not_available)));
+        assertThat(resources.formatRoadName("A1", "Main Street"),
+                is(context.getString(R.string.msdkui_maneuver_road_name_divider, "A1", "Main Street")));
+        assertThat(resources.getOrientation(0), is(context.getString(R.string.msdkui_maneuver_orientation_north)));
+        assertThat(resources.getOrientation(100), is(context.getString(R.string.msdkui_maneuver_orientation_east)));
+        assertThat(resources.getOrientation(-100), is("-100"));
+        assertThat(resources.getSmallDistanceUnit(UnitSystem.IMPERIAL_UK),
+                is(context.getString(R.string.msdkui_unit_foot)));
+        assertThat(resources.getLargeDistanceUnit(UnitSystem.METRIC),
+                is(context.getString(R.string.msdkui_unit_kilometer)));
+        assertThat(resources.getSpeedUnit(UnitSystem.IMPERIAL_US),
+                is(context.getString(R.string.msdkui_unit_miles_per_hour)));
+        assertThat(resources.getNextRoadIconMaxWidth(),
+                is(context.getResources().getDimensionPixelSize(R.dimen.next_road_image_max_width)));
+    }
+
+    @Test
+    public void testInvalidation() {
+        final Context context = getApplicationContext();
+        final MsdkUiResources resources = MsdkUiResources.get(context);
+        final int[] invalidations = new int[1];
+        final MsdkUiResources.InvalidationListener listener = () -> invalidations[0]++;
+        assertTrue(MsdkUiResources.addInvalidationListener(listener));
+
+        final Configuration configuration = new Configuration(context.getResources().getConfiguration());
+        configuration.orientation = configuration.orientation == Configuration.ORIENTATION_PORTRAIT ?
+                Configuration.ORIENTATION_LANDSCAPE : Configuration.ORIENTATION_PORTRAIT;
+        MsdkUiResources.onConfigurationChanged(configuration);
+        assertThat(invalidations[0], is(0));
+
+        configuration.setLocale(Locale.JAPAN);
+        MsdkUiResources.onConfigurationChanged(configuration);
+        assertThat(invalidations[0], is(1));
+        assertThat(MsdkUiResources.get(context), is(not(sameInstance(resources))));
+
+        MsdkUiResources.invalidate();
+        assertThat(invalidations[0], is(2));
+
+        assertTrue(MsdkUiResources.removeInvalidationListener(listener));
+        MsdkUiResources.invalidate();
+        assertThat(invalidations[0], is(2));
+    }
+
+    @Test
+    public void testSnapshotPerConfiguration() {
+        final Context context = getApplicationContext();
+        final int[] invalidations = new int[1];
+        final MsdkUiResources.InvalidationListener listener = () -> invalidations[0]++;
+        assertTrue(MsdkUiResources.addInvalidationListener(listener));
+        final MsdkUiResources resources = MsdkUiResources.get(context);
+
+        final Configuration configuration = new Configuration(context.getResources().getConfiguration());
+        configuration.setLocale(Locale.JAPAN);
+        final Context japaneseContext = context.createConfigurationContext(configuration);
+        final MsdkUiResources japaneseResources = MsdkUiResources.get(japaneseContext);
+        assertThat(japaneseResources, is(not(sameInstance(resources))));
+        assertThat(japaneseResources.getLocale(), is(Locale.JAPAN));
+
+        // switching between contexts keeps both snapshots and doesn't drop any caches
+        assertThat(MsdkUiResources.get(context), is(sameInstance(resources)));
+        assertThat(MsdkUiResources.get(japaneseContext), is(sameInstance(japaneseResources)));
+        assertThat(invalidations[0], is(0));
+
+        // other configuration changes keep the snapshot
+        configuration.orientation = configuration.orientation == Configuration.ORIENTATION_PORTRAIT ?
+                Configuration.ORIENTATION_LANDSCAPE : Configuration.ORIENTATION_PORTRAIT;
+        assertThat(MsdkUiResources.get(context.createConfigurationContext(configuration)),
+                is(sameInstance(japaneseResources)));
+        assertTrue(MsdkUiResources.removeInvalidationListener(listener));
+    }
+}
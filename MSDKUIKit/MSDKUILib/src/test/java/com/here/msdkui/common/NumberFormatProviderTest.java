@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common;
+
+import com.here.RobolectricTest;
+import com.here.msdkui.common.measurements.UnitSystem;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Tests for {@link NumberFormatProvider}.
+ */
+public class NumberFormatProviderTest extends RobolectricTest {
+
+    private final Locale mDefaultLocale = Locale.getDefault();
+
+    @After
+    public void tearDown() {
+        Locale.setDefault(mDefaultLocale);
+    }
+
+    @Test
+    public void testInstanceIsReusedPerThread() throws InterruptedException {
+        final NumberFormat format = NumberFormatProvider.get();
+        assertThat(NumberFormatProvider.get(), is(sameInstance(format)));
+
+        final AtomicReference<NumberFormat> otherFormat = new AtomicReference<>();
+        final Thread thread = new Thread(() -> otherFormat.set(NumberFormatProvider.get()));
+        thread.start();
+        thread.join();
+        assertThat(otherFormat.get(), is(not(sameInstance(format))));
+
+        NumberFormatProvider.invalidate();
+        assertThat(NumberFormatProvider.get(), is(not(sameInstance(format))));
+    }
+
+    @Test
+    public void testLocaleChangeIsTracked() {
+        Locale.setDefault(Locale.US);
+        assertThat(DistanceFormatterUtil.format(getApplicationContext(), 1200, UnitSystem.METRIC), is("1.2 km"));
+        Locale.setDefault(Locale.GERMANY);
+        assertThat(DistanceFormatterUtil.format(getApplicationContext(), 1200, UnitSystem.METRIC), is("1,2 km"));
+    }
+}
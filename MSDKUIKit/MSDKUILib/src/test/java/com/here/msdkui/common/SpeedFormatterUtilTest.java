@@ -23,6 +23,7 @@ import com.here.msdkui.common.measurements.UnitSystem;
 import org.junit.Test;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertSame;
 
 /**
  * Tests for {@link TimeFormatterUtil}.
@@ -58,4 +59,18 @@ public class SpeedFormatterUtilTest extends RobolectricTest {
                 SpeedFormatterUtil.getUnitString(getApplicationContext(), UnitSystem.IMPERIAL_US),
                 getApplicationContext().getString(R.string.msdkui_unit_miles_per_hour));
     }
+
+    @Test
+    public void testFormatToString() {
+        for (double speed = 0; speed < 150; speed += 0.25) {
+            for (final UnitSystem system : UnitSystem.values()) {
+                assertEquals(SpeedFormatterUtil.formatToString(speed, system),
+                        String.valueOf(SpeedFormatterUtil.format(speed, system)));
+            }
+        }
+        // cached strings are reused
+        assertSame(SpeedFormatterUtil.formatToString(METERS_PER_SECOND_SPEED, UnitSystem.METRIC),
+                SpeedFormatterUtil.formatToString(METERS_PER_SECOND_SPEED, UnitSystem.METRIC));
+        assertEquals(SpeedFormatterUtil.formatToString(-METERS_PER_SECOND_SPEED, UnitSystem.METRIC), "-54");
+    }
 }
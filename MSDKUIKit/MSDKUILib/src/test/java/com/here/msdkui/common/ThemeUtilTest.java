@@ -16,16 +16,22 @@
 
 package com.here.msdkui.common;
 
+import android.content.Context;
 import android.content.res.TypedArray;
 import android.graphics.Color;
 import android.graphics.drawable.ColorDrawable;
 import android.graphics.drawable.Drawable;
+import android.os.Build;
 import android.util.TypedValue;
+import android.view.ContextThemeWrapper;
+
+import androidx.core.content.ContextCompat;
 
 import com.here.RobolectricTest;
 import com.here.msdkui.R;
 
 import org.junit.Test;
+import org.robolectric.annotation.Config;
 
 import static junit.framework.Assert.assertNotSame;
 import static junit.framework.Assert.assertNull;
@@ -108,6 +114,19 @@ public class ThemeUtilTest extends RobolectricTest {
         assertNotSame(Color.CYAN, color);  // in case of error
     }
 
+    @Test
+    @Config(sdk = Build.VERSION_CODES.M)
+    public void testColorCacheFollowsTheme() {
+        final Context context = new ContextThemeWrapper(getApplicationContext(), 0);
+        ThemeUtil.getColor(context, R.attr.colorAccentLight);
+        context.getTheme().applyStyle(R.style.MSDKUIDarkTheme, true);
+        final int expected = ContextCompat.getColor(context, R.color.lui_accent_light);
+        assertThat(ThemeUtil.getColor(context, R.attr.colorAccentLight), is(expected));
+        assertThat(ThemeUtil.getColor(context, R.attr.colorAccentLight), is(expected));
+        ThemeUtil.invalidateColors();
+        assertThat(ThemeUtil.getColor(context, R.attr.colorAccentLight), is(expected));
+    }
+
     @Test
     public void testStyleId() {
         int style = ThemeUtil.getStyleId(getContextWithTheme(), R.attr.guidanceManeuverPanelSecondaryText);
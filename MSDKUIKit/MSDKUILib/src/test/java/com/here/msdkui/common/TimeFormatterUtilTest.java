@@ -93,4 +93,19 @@ public class TimeFormatterUtilTest extends RobolectricTest {
         String timeString = TimeFormatterUtil.format(getApplicationContext(), min);
         assertThat(timeString, is("1 d"));
     }
+
+    @Test
+    public void testDisplayedTimeMatchesFormattedTime() {
+        assertThat(TimeFormatterUtil.getDisplayedTime(-1), is(-1L));
+        String lastString = TimeFormatterUtil.format(getApplicationContext(), 0L);
+        long lastDisplayed = TimeFormatterUtil.getDisplayedTime(0);
+        for (long seconds = 1; seconds < 3 * DAY_IN_HOURS * 60 * MINUTE_IN_SECONDS; seconds += seconds < 7200 ? 1 : 13) {
+            final long milliseconds = seconds * SECOND_IN_MILLISECONDS - 1;
+            final String string = TimeFormatterUtil.format(getApplicationContext(), milliseconds);
+            final long displayed = TimeFormatterUtil.getDisplayedTime(milliseconds);
+            assertThat("Time " + milliseconds, displayed == lastDisplayed, is(string.equals(lastString)));
+            lastString = string;
+            lastDisplayed = displayed;
+        }
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common;
+
+import com.here.RobolectricTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.robolectric.shadows.ShadowLooper;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Tests for {@link UpdateCoalescer}.
+ */
+public class UpdateCoalescerTest extends RobolectricTest {
+
+    private int mRuns;
+
+    @Before
+    public void setUp() {
+        mRuns = 0;
+        ShadowLooper.pauseMainLooper();
+    }
+
+    @After
+    public void tearDown() {
+        ShadowLooper.unPauseMainLooper();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeIntervalException() {
+        new UpdateCoalescer(() -> mRuns++, -1);
+    }
+
+    @Test
+    public void testPerFrameRequestsAreMergedIntoNextFrame() {
+        final UpdateCoalescer coalescer = new UpdateCoalescer(() -> mRuns++, UpdateCoalescer.PER_FRAME);
+        assertThat(coalescer.getInterval(), equalTo(UpdateCoalescer.PER_FRAME));
+
+        coalescer.request();
+        coalescer.request();
+        coalescer.request();
+        assertThat(mRuns, equalTo(0));
+
+        // runs the Choreographer frame callbacks
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        assertThat(mRuns, equalTo(1));
+
+        coalescer.request();
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        assertThat(mRuns, equalTo(2));
+    }
+
+    @Test
+    public void testPerFrameCancel() {
+        final UpdateCoalescer coalescer = new UpdateCoalescer(() -> mRuns++, UpdateCoalescer.PER_FRAME);
+        coalescer.request();
+        coalescer.cancel();
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        assertThat(mRuns, equalTo(0));
+
+        coalescer.request();
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        assertThat(mRuns, equalTo(1));
+    }
+
+    @Test
+    public void testIntervalLimitsRuns() {
+        final UpdateCoalescer coalescer = new UpdateCoalescer(() -> mRuns++, 100);
+        coalescer.request();
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        assertThat(mRuns, equalTo(1));
+
+        coalescer.request();
+        coalescer.request();
+        ShadowLooper.idleMainLooper(50);
+        assertThat(mRuns, equalTo(1));
+        ShadowLooper.idleMainLooper(50);
+        assertThat(mRuns, equalTo(2));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.common.measurements;
+
+import com.here.RobolectricTest;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static junit.framework.TestCase.assertTrue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+/**
+ * Tests for {@link ConversionTable}.
+ */
+public class ConversionTableTest extends RobolectricTest {
+
+    private static final double FOOT_IN_METERS = 0.3048;
+    private static final double YARD_IN_METERS = 0.9144;
+    private static final double MILE_IN_METERS = 1609.344;
+
+    @Test
+    public void testLengthConversionsMatchBaseUnitArithmetic() {
+        for (long meters = 0; meters < 100000; meters++) {
+            assertThat(ConversionTable.convert(meters, MeasurementUnit.METER, MeasurementUnit.YARD),
+                    is(meters / YARD_IN_METERS));
+            assertThat(ConversionTable.convert(meters, MeasurementUnit.METER, MeasurementUnit.FOOT),
+                    is(meters / FOOT_IN_METERS));
+            assertThat(ConversionTable.convert(meters, MeasurementUnit.METER, MeasurementUnit.MILE),
+                    is(meters / MILE_IN_METERS));
+            assertThat(ConversionTable.convert(meters, MeasurementUnit.YARD, MeasurementUnit.MILE),
+                    is(meters * YARD_IN_METERS / MILE_IN_METERS));
+        }
+        assertThat(ConversionTable.convert(1760, MeasurementUnit.YARD, MeasurementUnit.MILE), is(1.0));
+        assertThat(ConversionTable.convert(5280, MeasurementUnit.FOOT, MeasurementUnit.MILE), is(1.0));
+    }
+
+    @Test
+    public void testSpeedConversions() {
+        assertThat(ConversionTable.convert(100, MeasurementUnit.METERS_PER_SECOND,
+                MeasurementUnit.KILOMETERS_PER_HOUR), is(360.0));
+        assertThat(ConversionTable.convert(360, MeasurementUnit.KILOMETERS_PER_HOUR,
+                MeasurementUnit.METERS_PER_SECOND), is(100.0));
+        assertThat(ConversionTable.convert(100, MeasurementUnit.MILES_PER_HOUR,
+                MeasurementUnit.METERS_PER_SECOND), is(44.704));
+    }
+
+    @Test
+    public void testIncompatibleUnits() {
+        assertTrue(Double.isNaN(ConversionTable.convert(1, MeasurementUnit.METER,
+                MeasurementUnit.METERS_PER_SECOND)));
+        assertTrue(Double.isNaN(new SpeedConverter().convertValue(1, MeasurementUnit.MILES_PER_HOUR,
+                MeasurementUnit.MILE)));
+        assertThat(ConversionTable.areCompatible(MeasurementUnit.METER, MeasurementUnit.MILE), is(true));
+        assertThat(ConversionTable.areCompatible(MeasurementUnit.METER, MeasurementUnit.MILES_PER_HOUR),
+                is(false));
+    }
+
+    @Test
+    public void testBulkConversion() {
+        final double[] values = {0, 1, 1609.344, 12345.6};
+        final double[] converted = new double[values.length];
+        ConversionTable.convert(values, converted, MeasurementUnit.METER, MeasurementUnit.MILE);
+        for (int i = 0; i < values.length; i++) {
+            assertThat(converted[i], is(ConversionTable.convert(values[i], MeasurementUnit.METER,
+                    MeasurementUnit.MILE)));
+        }
+
+        // in place
+        ConversionTable.convert(converted, converted, MeasurementUnit.MILE, MeasurementUnit.MILE);
+        assertThat(converted[2], is(1.0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBulkConversionRejectsShortOutput() {
+        ConversionTable.convert(new double[2], new double[1], MeasurementUnit.METER, MeasurementUnit.MILE);
+    }
+
+    @Test
+    public void testConvertersAreShared() {
+        assertThat(MeasurementUnit.METER.getConverter(), is(sameInstance(MeasurementUnit.MILE.getConverter())));
+        assertThat(MeasurementUnit.MILES_PER_HOUR.getConverter(),
+                is(sameInstance(MeasurementUnit.METERS_PER_SECOND.getConverter())));
+    }
+
+    @Test
+    public void testRoundMatchesDecimalRounding() {
+        final double[] values = {0, 1.005, 2.5, -2.5, -0.001, 0.125, 223.69362920544023, 1234.5678, 1e12 + 0.5};
+        for (final double value : values) {
+            for (int places = 0; places < 12; places++) {
+                final double expected = new BigDecimal(String.valueOf(value))
+                        .setScale(places, RoundingMode.HALF_UP).doubleValue();
+                assertThat(value + " " + places, Converter.round(value, places), is(expected));
+            }
+        }
+    }
+}
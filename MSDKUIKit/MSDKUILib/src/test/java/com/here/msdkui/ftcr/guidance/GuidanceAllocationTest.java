@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.ftcr.guidance;
+
+import com.here.AllocationMeter;
+import com.here.RobolectricTest;
+import com.here.android.mpa.common.GeoCoordinate;
+import com.here.android.mpa.common.GeoPosition;
+import com.here.android.mpa.common.PositioningManager;
+import com.here.android.mpa.common.RoadElement;
+import com.here.android.mpa.ftcr.FTCRManeuver;
+import com.here.android.mpa.ftcr.FTCRNavigationManager;
+import com.here.msdkui.common.measurements.UnitSystem;
+import com.here.shadows.ShadowFTCRManeuver;
+import com.here.shadows.ShadowFTCRNavigationManager;
+import com.here.shadows.ShadowGeoPosition;
+import com.here.shadows.ShadowPositioningManager;
+import com.here.shadows.ShadowRoadElement;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadow.api.Shadow;
+
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Guards that position updates which change nothing visible don't allocate once FTCR guidance is
+ * in steady state, see {@link com.here.msdkui.guidance.GuidanceAllocationTest}. Position updates
+ * are delivered by the {@link PositioningManager}.
+ */
+@Config(instrumentedPackages = "com.here.android.mpa",
+        shadows = {ShadowFTCRNavigationManager.class, ShadowPositioningManager.class, ShadowFTCRManeuver.class,
+                ShadowGeoPosition.class, ShadowRoadElement.class})
+public class GuidanceAllocationTest extends RobolectricTest {
+
+    /**
+     * Bytes a single position update may allocate in steady state.
+     */
+    private static final long STEADY_STATE_BUDGET = 0;
+
+    // All distances are displayed as 1.2 km.
+    private static final long[] DISTANCES = {1231, 1234, 1240};
+
+    private FTCRNavigationManager mNavigationManager;
+    private ShadowFTCRNavigationManager mNavigation;
+    private PositioningManager mPositioningManager;
+    private ShadowPositioningManager mPositioning;
+    private int mCycle;
+    private int mNotifications;
+
+    @Before
+    public void setUp() {
+        mNavigationManager = Shadow.newInstanceOf(FTCRNavigationManager.class);
+        mNavigation = Shadow.extract(mNavigationManager);
+        mPositioningManager = Shadow.newInstanceOf(PositioningManager.class);
+        mPositioning = Shadow.extract(mPositioningManager);
+    }
+
+    @Test
+    public void testManeuverUpdateDoesNotAllocate() {
+        // The SDK returns a new instance for the same maneuver on every call.
+        final GeoCoordinate position = mock(GeoCoordinate.class);
+        final FTCRManeuver[] instances = new FTCRManeuver[2];
+        for (int i = 0; i < instances.length; i++) {
+            instances[i] = Shadow.newInstanceOf(FTCRManeuver.class);
+            final ShadowFTCRManeuver shadowManeuver = Shadow.extract(instances[i]);
+            shadowManeuver.setPosition(position);
+            shadowManeuver.setAction(FTCRManeuver.Action.RIGHT_ROUNDABOUT_EXIT_2);
+            shadowManeuver.setNextRoadNames(Collections.singletonList("Invalidenstraße"));
+        }
+        mNavigation.setCurrentManeuver(instances);
+        mNavigation.setDistanceToCurrentManeuver(DISTANCES[0]);
+
+        final GuidanceManeuverView view = new GuidanceManeuverView(getContextWithTheme());
+        final GuidanceManeuverPresenter presenter =
+                new GuidanceManeuverPresenter(getApplicationContext(), mNavigationManager, mPositioningManager, null);
+        presenter.setUnitSystem(UnitSystem.METRIC);
+        presenter.addListener(new GuidanceManeuverListener() {
+            @Override
+            public void onDataChanged(GuidanceManeuverData data) {
+                mNotifications++;
+                if (data == null) {
+                    view.setViewState(GuidanceManeuverView.State.NO_DATA);
+                } else {
+                    view.setManeuverData(data);
+                }
+            }
+
+            @Override
+            public void onDestinationReached() {
+            }
+        });
+        presenter.resume();
+        mPositioning.updatePosition();
+        assertThat(view.getViewState().getData(), is(notNullValue()));
+
+        final long allocated = AllocationMeter.measure(() -> {
+            mNavigation.setDistanceToCurrentManeuver(DISTANCES[mCycle++ % DISTANCES.length]);
+            mPositioning.updatePosition();
+        });
+        presenter.pause();
+        assertThat(mNotifications, is(1));
+        assertThat("bytes allocated by a maneuver update", allocated, lessThanOrEqualTo(STEADY_STATE_BUDGET));
+    }
+
+    @Test
+    public void testSpeedUpdateDoesNotAllocate() {
+        final RoadElement roadElement = Shadow.newInstanceOf(RoadElement.class);
+        final ShadowRoadElement shadowRoadElement = Shadow.extract(roadElement);
+        // 80 km/h
+        shadowRoadElement.setSpeedLimit(22.22f);
+        final GeoPosition position = Shadow.newInstanceOf(GeoPosition.class);
+        final ShadowGeoPosition shadowPosition = Shadow.extract(position);
+        mPositioning.setRoadElement(roadElement);
+        mPositioning.setPosition(position);
+        // All speeds are displayed as 50 km/h.
+        final double[] speeds = {13.88, 13.9, 13.92};
+        shadowPosition.setSpeed(speeds[0]);
+
+        final GuidanceSpeedView view = new GuidanceSpeedView(getContextWithTheme());
+        final GuidanceSpeedPresenter presenter = new GuidanceSpeedPresenter(mNavigationManager, mPositioningManager);
+        presenter.setUnitSystem(UnitSystem.METRIC);
+        presenter.addListener(data -> {
+            mNotifications++;
+            view.setCurrentSpeedData(data);
+        });
+        presenter.resume();
+        mPositioning.updatePosition();
+        assertThat(view.getCurrentSpeedData().isValid(), is(true));
+
+        final long allocated = AllocationMeter.measure(() -> {
+            shadowPosition.setSpeed(speeds[mCycle++ % speeds.length]);
+            mPositioning.updatePosition();
+        });
+        presenter.pause();
+        assertThat(mNotifications, is(1));
+        assertThat("bytes allocated by a speed update", allocated, lessThanOrEqualTo(STEADY_STATE_BUDGET));
+    }
+
+    @Test
+    public void testEstimatedArrivalUpdateDoesNotAllocate() {
+        // 10 minutes
+        mNavigation.setRemainingTime(600);
+        mNavigation.setRemainingDistance(DISTANCES[0]);
+
+        final GuidanceEstimatedArrivalView view = new GuidanceEstimatedArrivalView(getContextWithTheme());
+        final GuidanceEstimatedArrivalViewPresenter presenter =
+                new GuidanceEstimatedArrivalViewPresenter(mNavigationManager, mPositioningManager);
+        presenter.setUnitSystem(UnitSystem.METRIC);
+        presenter.addListener(data -> {
+            mNotifications++;
+            view.setEstimatedArrivalData(data);
+        });
+        presenter.resume();
+        mPositioning.updatePosition();
+        assertThat(view.getEstimatedArrivalData(), is(notNullValue()));
+
+        // The arrival time is computed from the clock, a measurement overlapping the start of a new
+        // minute sees a visible change and is repeated.
+        long allocated;
+        int notifications;
+        do {
+            notifications = mNotifications;
+            allocated = AllocationMeter.measure(() -> {
+                mNavigation.setRemainingDistance(DISTANCES[mCycle++ % DISTANCES.length]);
+                mPositioning.updatePosition();
+            });
+        } while (mNotifications != notifications);
+        presenter.pause();
+        assertThat("bytes allocated by an arrival update", allocated, lessThanOrEqualTo(STEADY_STATE_BUDGET));
+    }
+}
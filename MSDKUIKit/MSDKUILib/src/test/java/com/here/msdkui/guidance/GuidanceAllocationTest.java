@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.guidance;
+
+import com.here.AllocationMeter;
+import com.here.RobolectricTest;
+import com.here.android.mpa.common.GeoCoordinate;
+import com.here.android.mpa.common.GeoPosition;
+import com.here.android.mpa.common.PositioningManager;
+import com.here.android.mpa.common.RoadElement;
+import com.here.android.mpa.guidance.NavigationManager;
+import com.here.android.mpa.routing.Maneuver;
+import com.here.android.mpa.routing.RouteTta;
+import com.here.msdkui.common.measurements.UnitSystem;
+import com.here.shadows.ShadowGeoPosition;
+import com.here.shadows.ShadowManeuver;
+import com.here.shadows.ShadowNavigationManager;
+import com.here.shadows.ShadowPositioningManager;
+import com.here.shadows.ShadowRoadElement;
+import com.here.shadows.ShadowRouteTta;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadow.api.Shadow;
+
+import java.util.Date;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Guards that position updates which change nothing visible don't allocate once guidance is in
+ * steady state. Each measured cycle runs a position update through the shared navigation listener,
+ * the presenter and its listener forwarding to the view. The HERE SDK objects are faked by
+ * Robolectric shadows, since calling a mock allocates itself.
+ */
+@Config(instrumentedPackages = "com.here.android.mpa",
+        shadows = {ShadowNavigationManager.class, ShadowPositioningManager.class, ShadowManeuver.class,
+                ShadowGeoPosition.class, ShadowRoadElement.class, ShadowRouteTta.class})
+public class GuidanceAllocationTest extends RobolectricTest {
+
+    /**
+     * Bytes a single position update may allocate in steady state.
+     */
+    private static final long STEADY_STATE_BUDGET = 0;
+
+    // All distances are displayed as 1.2 km.
+    private static final long[] DISTANCES = {1231, 1234, 1240};
+
+    private NavigationManager mNavigationManager;
+    private ShadowNavigationManager mNavigation;
+    private int mCycle;
+    private int mNotifications;
+
+    @Before
+    public void setUp() {
+        mNavigationManager = Shadow.newInstanceOf(NavigationManager.class);
+        mNavigation = Shadow.extract(mNavigationManager);
+    }
+
+    @Test
+    public void testManeuverUpdateDoesNotAllocate() {
+        // The SDK returns a new instance for the same maneuver on every call.
+        final GeoCoordinate coordinate = mock(GeoCoordinate.class);
+        final Maneuver[] instances = new Maneuver[2];
+        for (int i = 0; i < instances.length; i++) {
+            instances[i] = Shadow.newInstanceOf(Maneuver.class);
+            final ShadowManeuver shadowManeuver = Shadow.extract(instances[i]);
+            shadowManeuver.setCoordinate(coordinate);
+            shadowManeuver.setAction(Maneuver.Action.JUNCTION);
+            shadowManeuver.setIcon(Maneuver.Icon.HEAVY_LEFT);
+            shadowManeuver.setNextRoadName("Invalidenstraße");
+        }
+        mNavigation.setNextManeuver(instances);
+        mNavigation.setNextManeuverDistance(DISTANCES[0]);
+
+        final GuidanceManeuverView view = new GuidanceManeuverView(getContextWithTheme());
+        final GuidanceManeuverPresenter presenter =
+                new GuidanceManeuverPresenter(getApplicationContext(), mNavigationManager, null);
+        presenter.setUnitSystem(UnitSystem.METRIC);
+        presenter.addListener(new GuidanceManeuverListener() {
+            @Override
+            public void onDataChanged(GuidanceManeuverData data) {
+                mNotifications++;
+                if (data == null) {
+                    view.setViewState(GuidanceManeuverView.State.NO_DATA);
+                } else {
+                    view.setManeuverData(data);
+                }
+            }
+
+            @Override
+            public void onDestinationReached() {
+            }
+        });
+        presenter.resume();
+        mNavigation.updatePosition();
+        assertThat(view.getViewState().getData(), is(notNullValue()));
+
+        final long allocated = AllocationMeter.measure(() -> {
+            mNavigation.setNextManeuverDistance(DISTANCES[mCycle++ % DISTANCES.length]);
+            mNavigation.updatePosition();
+        });
+        presenter.pause();
+        assertThat(mNotifications, is(1));
+        assertThat("bytes allocated by a maneuver update", allocated, lessThanOrEqualTo(STEADY_STATE_BUDGET));
+    }
+
+    @Test
+    public void testSpeedUpdateDoesNotAllocate() {
+        final RoadElement roadElement = Shadow.newInstanceOf(RoadElement.class);
+        final ShadowRoadElement shadowRoadElement = Shadow.extract(roadElement);
+        // 80 km/h
+        shadowRoadElement.setSpeedLimit(22.22f);
+        final GeoPosition position = Shadow.newInstanceOf(GeoPosition.class);
+        final ShadowGeoPosition shadowPosition = Shadow.extract(position);
+        final PositioningManager positioningManager = Shadow.newInstanceOf(PositioningManager.class);
+        final ShadowPositioningManager positioning = Shadow.extract(positioningManager);
+        positioning.setRoadElement(roadElement);
+        positioning.setPosition(position);
+        // All speeds are displayed as 50 km/h.
+        final double[] speeds = {13.88, 13.9, 13.92};
+        shadowPosition.setSpeed(speeds[0]);
+
+        final GuidanceSpeedView view = new GuidanceSpeedView(getContextWithTheme());
+        final GuidanceSpeedPresenter presenter = new GuidanceSpeedPresenter(mNavigationManager, positioningManager);
+        presenter.setUnitSystem(UnitSystem.METRIC);
+        presenter.addListener(data -> {
+            mNotifications++;
+            view.setCurrentSpeedData(data);
+        });
+        presenter.resume();
+        mNavigation.updatePosition();
+        assertThat(view.getCurrentSpeedData().isValid(), is(true));
+
+        final long allocated = AllocationMeter.measure(() -> {
+            shadowPosition.setSpeed(speeds[mCycle++ % speeds.length]);
+            mNavigation.updatePosition();
+        });
+        presenter.pause();
+        assertThat(mNotifications, is(1));
+        assertThat("bytes allocated by a speed update", allocated, lessThanOrEqualTo(STEADY_STATE_BUDGET));
+    }
+
+    @Test
+    public void testEstimatedArrivalUpdateDoesNotAllocate() {
+        // All arrival times are in the same minute, all durations are displayed as 10 minutes.
+        final long minute = System.currentTimeMillis() / 60000 * 60000;
+        final Date[] etas = {new Date(minute), new Date(minute + 20000), new Date(minute + 40000)};
+        final int[] durations = {600, 605, 610};
+        final RouteTta[] ttas = new RouteTta[durations.length];
+        for (int i = 0; i < ttas.length; i++) {
+            ttas[i] = Shadow.newInstanceOf(RouteTta.class);
+            final ShadowRouteTta shadowTta = Shadow.extract(ttas[i]);
+            shadowTta.setDuration(durations[i]);
+        }
+        mNavigation.setEta(etas[0]);
+        mNavigation.setDestinationDistance(DISTANCES[0]);
+        mNavigation.setTta(ttas[0]);
+
+        final GuidanceEstimatedArrivalView view = new GuidanceEstimatedArrivalView(getContextWithTheme());
+        final GuidanceEstimatedArrivalViewPresenter presenter =
+                new GuidanceEstimatedArrivalViewPresenter(mNavigationManager);
+        presenter.setUnitSystem(UnitSystem.METRIC);
+        presenter.addListener(data -> {
+            mNotifications++;
+            view.setEstimatedArrivalData(data);
+        });
+        presenter.resume();
+        mNavigation.updatePosition();
+        assertThat(view.getEstimatedArrivalData(), is(notNullValue()));
+
+        final long allocated = AllocationMeter.measure(() -> {
+            final int index = mCycle++ % DISTANCES.length;
+            mNavigation.setEta(etas[index]);
+            mNavigation.setDestinationDistance(DISTANCES[index]);
+            mNavigation.setTta(ttas[index]);
+            mNavigation.updatePosition();
+        });
+        presenter.pause();
+        assertThat(mNotifications, is(1));
+        assertThat("bytes allocated by an arrival update", allocated, lessThanOrEqualTo(STEADY_STATE_BUDGET));
+    }
+}
@@ -25,17 +25,25 @@ import com.here.android.mpa.guidance.NavigationManager;
 import com.here.android.mpa.routing.Maneuver;
 import com.here.android.mpa.routing.Route;
 import com.here.android.mpa.routing.Signpost;
+import com.here.msdkui.common.measurements.UnitSystem;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -123,6 +131,78 @@ public class GuidanceManeuverPresenterTest extends RobolectricTest {
         assertThat(dataArgumentCaptor.getValue().getNextRoadIcon(), is(mockBitmap));
     }
 
+    @Test
+    public void testOnlyVisibleChangesAreNotified() {
+        final Maneuver maneuver = MockUtils.mockManeuver();
+        GuidanceManeuverListener listener = mock(GuidanceManeuverListener.class);
+        mGuidanceManeuverPresenter.addListener(listener);
+        when(mNavigationManager.getNextManeuver()).thenReturn(maneuver);
+
+        // without unit system only equal distances are skipped
+        when(mNavigationManager.getNextManeuverDistance()).thenReturn(1234L);
+        mGuidanceManeuverPresenter.handlePositionUpdate();
+        mGuidanceManeuverPresenter.handlePositionUpdate();
+        verify(listener, times(1)).onDataChanged(any());
+        when(mNavigationManager.getNextManeuverDistance()).thenReturn(1231L);
+        mGuidanceManeuverPresenter.handlePositionUpdate();
+        verify(listener, times(2)).onDataChanged(any());
+
+        // with unit system distances are compared as displayed
+        mGuidanceManeuverPresenter.setUnitSystem(UnitSystem.METRIC);
+        assertThat(mGuidanceManeuverPresenter.getUnitSystem(), is(UnitSystem.METRIC));
+        mGuidanceManeuverPresenter.handlePositionUpdate();
+        verify(listener, times(3)).onDataChanged(any());
+        when(mNavigationManager.getNextManeuverDistance()).thenReturn(1234L);
+        mGuidanceManeuverPresenter.handlePositionUpdate();
+        verify(listener, times(3)).onDataChanged(any());
+        when(mNavigationManager.getNextManeuverDistance()).thenReturn(500L);
+        mGuidanceManeuverPresenter.handlePositionUpdate();
+        verify(listener, times(4)).onDataChanged(any());
+    }
+
+    @Test
+    public void testComputeExecutor() {
+        final Maneuver maneuver = MockUtils.mockManeuver();
+        GuidanceManeuverListener listener = mock(GuidanceManeuverListener.class);
+        mGuidanceManeuverPresenter.addListener(listener);
+        when(mNavigationManager.getNextManeuver()).thenReturn(maneuver);
+        final List<Runnable> tasks = new ArrayList<>();
+        mGuidanceManeuverPresenter.setComputeExecutor(tasks::add);
+        assertNotNull(mGuidanceManeuverPresenter.getComputeExecutor());
+
+        // only the latest computation is delivered, on the main thread
+        ShadowLooper.pauseMainLooper();
+        when(mNavigationManager.getNextManeuverDistance()).thenReturn(200L);
+        mGuidanceManeuverPresenter.handlePositionUpdate();
+        when(mNavigationManager.getNextManeuverDistance()).thenReturn(300L);
+        mGuidanceManeuverPresenter.handlePositionUpdate();
+        for (final Runnable task : tasks) {
+            task.run();
+        }
+        tasks.clear();
+        verify(listener, never()).onDataChanged(any());
+        ShadowLooper.runUiThreadTasks();
+        final ArgumentCaptor<GuidanceManeuverData> captor = ArgumentCaptor.forClass(GuidanceManeuverData.class);
+        verify(listener).onDataChanged(captor.capture());
+        assertThat(captor.getValue().getDistance(), is(300L));
+
+        // pausing drops pending results
+        when(mNavigationManager.getNextManeuverDistance()).thenReturn(400L);
+        mGuidanceManeuverPresenter.handlePositionUpdate();
+        mGuidanceManeuverPresenter.pause();
+        for (final Runnable task : tasks) {
+            task.run();
+        }
+        ShadowLooper.runUiThreadTasks();
+        ShadowLooper.unPauseMainLooper();
+        verify(listener, times(1)).onDataChanged(any());
+
+        mGuidanceManeuverPresenter.setComputeExecutor(null);
+        assertNull(mGuidanceManeuverPresenter.getComputeExecutor());
+        mGuidanceManeuverPresenter.handlePositionUpdate();
+        verify(listener, times(2)).onDataChanged(any());
+    }
+
     @Test
     public void testAddRemoveListener() {
         final GuidanceManeuverListener listener = mock(GuidanceManeuverListener.class);
@@ -22,6 +22,7 @@ import com.here.MockUtils;
 import com.here.RobolectricTest;
 import com.here.android.mpa.common.GeoCoordinate;
 import com.here.android.mpa.routing.Maneuver;
+import com.here.android.mpa.routing.Route;
 import com.here.android.mpa.routing.Signpost;
 
 import org.junit.Test;
@@ -30,6 +31,7 @@ import org.mockito.Matchers;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertTrue;
@@ -139,4 +141,52 @@ public class GuidanceManeuverUtilTest extends RobolectricTest {
                 mock(GuidanceManeuverPresenter.class));
         assertThat(street, is(MockUtils.ROAD_NUMBER + " " + MockUtils.ROAD_NAME));
     }
+
+    @Test
+    public void testNextToNextStreetWalksFollowingManeuvers() {
+        final List<Maneuver> maneuvers = mockManeuvers(4, 0);
+        when(maneuvers.get(3).getNextRoadName()).thenReturn("Target");
+        final String street = GuidanceManeuverUtil.determineNextManeuverStreet(mockContext(), maneuvers.get(0),
+                mockPresenter(maneuvers));
+        assertThat(street, is("Target"));
+    }
+
+    @Test
+    public void testNextToNextStreetStopsAtEndOfRoute() {
+        // maneuvers without distance never reach the lookahead threshold
+        final List<Maneuver> maneuvers = mockManeuvers(3, 0);
+        final String street = GuidanceManeuverUtil.determineNextManeuverStreet(mockContext(), maneuvers.get(0),
+                mockPresenter(maneuvers));
+        assertThat(street, is(MockUtils.ROAD_NUMBER + " " + MockUtils.ROAD_NAME));
+    }
+
+    private static List<Maneuver> mockManeuvers(int count, int distance) {
+        final List<Maneuver> maneuvers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final Maneuver maneuver = MockUtils.mockManeuver();
+            when(maneuver.getCoordinate()).thenReturn(MockUtils.mockGeoCoordinate(52.5, 13.3 + i));
+            // maneuvers without next road are skipped by the lookahead
+            when(maneuver.getNextRoadName()).thenReturn(null);
+            when(maneuver.getNextRoadNumber()).thenReturn(null);
+            when(maneuver.getDistanceFromPreviousManeuver()).thenReturn(distance);
+            maneuvers.add(maneuver);
+        }
+        return maneuvers;
+    }
+
+    private static GuidanceManeuverPresenter mockPresenter(List<Maneuver> maneuvers) {
+        final Route route = mock(Route.class);
+        when(route.getManeuvers()).thenReturn(maneuvers);
+        final RouteManeuverIndex index = new RouteManeuverIndex(route);
+        final GuidanceManeuverPresenter presenter = mock(GuidanceManeuverPresenter.class);
+        when(presenter.getManeuverIndex()).thenReturn(index);
+        return presenter;
+    }
+
+    private static Context mockContext() {
+        final Context context = mock(Context.class);
+        doAnswer(invocation -> invocation.getArguments()[1] + " " + invocation.getArguments()[2])
+                .when(context).getString(anyInt(), Matchers.<String>anyVararg());
+        return context;
+    }
 }
@@ -20,10 +20,13 @@ import com.here.RobolectricTest;
 import com.here.android.mpa.common.GeoPosition;
 import com.here.android.mpa.common.PositioningManager;
 import com.here.android.mpa.guidance.NavigationManager;
+import com.here.msdkui.common.measurements.UnitSystem;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -79,6 +82,38 @@ public class GuidanceSpeedPresenterTest extends RobolectricTest {
         verify(listener, times(1)).onDataChanged(any());
     }
 
+    @Test
+    public void testOnlyVisibleChangesAreNotified() {
+        GuidanceSpeedListener listener = mock(GuidanceSpeedListener.class);
+        mCurrentSpeedPresenter.addListener(listener);
+        mCurrentSpeedPresenter.setUnitSystem(UnitSystem.METRIC);
+        assertThat(mCurrentSpeedPresenter.getUnitSystem(), is(UnitSystem.METRIC));
+
+        when(mPositioningManager.hasValidPosition()).thenReturn(true);
+        GeoPosition geoPos = mock(GeoPosition.class);
+        when(geoPos.isValid()).thenReturn(true);
+        when(mPositioningManager.getPosition()).thenReturn(geoPos);
+
+        when(geoPos.getSpeed()).thenReturn(10.0); // 36 km/h
+        mCurrentSpeedPresenter.handlePositionUpdate();
+        when(geoPos.getSpeed()).thenReturn(10.05); // 36.18 km/h
+        mCurrentSpeedPresenter.handlePositionUpdate();
+        verify(listener, times(1)).onDataChanged(any());
+
+        when(geoPos.getSpeed()).thenReturn(11.0); // 39.6 km/h
+        mCurrentSpeedPresenter.handlePositionUpdate();
+        verify(listener, times(2)).onDataChanged(any());
+
+        // speeding state is always notified
+        mCurrentSpeedPresenter.handleSpeedExceeded(10.9f);
+        verify(listener, times(3)).onDataChanged(any());
+
+        when(mPositioningManager.hasValidPosition()).thenReturn(false);
+        mCurrentSpeedPresenter.handlePositionUpdate();
+        mCurrentSpeedPresenter.handlePositionUpdate();
+        verify(listener, times(4)).onDataChanged(any());
+    }
+
     @Test
     public void testHandleSpeedExceeded() {
         GuidanceSpeedListener listener = mock(GuidanceSpeedListener.class);
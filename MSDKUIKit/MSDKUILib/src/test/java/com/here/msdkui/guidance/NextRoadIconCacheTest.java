@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.guidance;
+
+import android.graphics.Bitmap;
+
+import com.here.MockUtils;
+import com.here.RobolectricTest;
+import com.here.android.mpa.common.Image;
+import com.here.android.mpa.routing.Maneuver;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link NextRoadIconCache}.
+ */
+public class NextRoadIconCacheTest extends RobolectricTest {
+
+    private static final int SIZE = 10;
+    private static final int BITMAP_BYTES = SIZE * SIZE * 4;
+
+    private Image mImage;
+
+    @Before
+    public void setUp() {
+        mImage = mock(Image.class);
+        when(mImage.getBitmap(anyInt(), anyInt())).thenAnswer(invocation ->
+                Bitmap.createBitmap(SIZE, SIZE, Bitmap.Config.ARGB_8888));
+    }
+
+    @Test
+    public void testIconIsScaledOnce() {
+        final NextRoadIconCache cache = new NextRoadIconCache();
+        final Maneuver maneuver = MockUtils.mockManeuver();
+        final Bitmap bitmap = cache.get(maneuver, mImage, SIZE, SIZE);
+        assertThat(cache.get(maneuver, mImage, SIZE, SIZE), is(sameInstance(bitmap)));
+        verify(mImage, times(1)).getBitmap(SIZE, SIZE);
+        assertThat(cache.size(), is(BITMAP_BYTES));
+
+        // a different size is scaled again
+        assertThat(cache.get(maneuver, mImage, SIZE, SIZE + 1), is(not(sameInstance(bitmap))));
+        verify(mImage, times(2)).getBitmap(anyInt(), anyInt());
+
+        cache.clear();
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        final NextRoadIconCache cache = new NextRoadIconCache(BITMAP_BYTES);
+        final Maneuver first = MockUtils.mockManeuver();
+        final Maneuver second = MockUtils.mockManeuver();
+        when(second.getAction()).thenReturn(Maneuver.Action.LEAVE_HIGHWAY);
+
+        cache.get(first, mImage, SIZE, SIZE);
+        cache.get(second, mImage, SIZE, SIZE);
+        assertThat(cache.size(), is(BITMAP_BYTES));
+
+        // first icon was evicted
+        cache.get(first, mImage, SIZE, SIZE);
+        verify(mImage, times(3)).getBitmap(SIZE, SIZE);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.guidance;
+
+import com.here.MockUtils;
+import com.here.RobolectricTest;
+import com.here.android.mpa.routing.Maneuver;
+import com.here.android.mpa.routing.Route;
+import com.here.msdkui.common.MsdkUiResources;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link RouteManeuverIndex}.
+ */
+public class RouteManeuverIndexTest extends RobolectricTest {
+
+    @Test
+    public void testIndex() {
+        final Maneuver first = mockManeuver(1);
+        final Maneuver second = mockManeuver(2);
+        final Maneuver third = mockManeuver(3);
+        final Route route = mock(Route.class);
+        when(route.getManeuvers()).thenReturn(Arrays.asList(first, second, third));
+
+        final RouteManeuverIndex index = new RouteManeuverIndex(route);
+        verify(route, times(1)).getManeuvers();
+        assertThat(index.getRoute(), is(route));
+        assertThat(index.size(), is(3));
+        assertThat(index.get(1), is(second));
+        assertThat(index.get(3), is(nullValue()));
+        assertThat(index.indexOf(third), is(2));
+        assertThat(index.indexOf(mockManeuver(4)), is(-1));
+        assertThat(index.indexOf(null), is(-1));
+
+        // the positions match the linear search
+        for (final Maneuver maneuver : Arrays.asList(first, second, third)) {
+            assertThat(index.indexOf(maneuver),
+                    is(GuidanceManeuverUtil.getIndexOfManeuver(maneuver, route.getManeuvers())));
+        }
+
+        assertThat(index.getFollowing(first), is(second));
+        assertThat(index.getFollowing(third), is(nullValue()));
+        assertThat(index.getPrevious(second), is(first));
+        assertThat(index.getPrevious(first), is(nullValue()));
+    }
+
+    @Test
+    public void testStreetIsResolvedOnce() {
+        final Maneuver first = mockManeuver(1);
+        final Route route = mock(Route.class);
+        when(route.getManeuvers()).thenReturn(Collections.singletonList(first));
+        final RouteManeuverIndex index = new RouteManeuverIndex(route);
+        final RouteManeuverIndex.StreetResolver resolver = mock(RouteManeuverIndex.StreetResolver.class);
+        when(resolver.resolve(any())).thenReturn(MockUtils.ROAD_NAME);
+
+        assertThat(index.getStreet(first, resolver), is(MockUtils.ROAD_NAME));
+        assertThat(index.getStreet(first, resolver), is(MockUtils.ROAD_NAME));
+        verify(resolver, times(1)).resolve(first);
+
+        // maneuvers not being part of the route are not cached
+        final Maneuver other = mockManeuver(2);
+        index.getStreet(other, resolver);
+        index.getStreet(other, resolver);
+        verify(resolver, times(2)).resolve(other);
+    }
+
+    @Test
+    public void testStreetsAreCarriedOver() {
+        final Maneuver first = mockManeuver(1);
+        final Maneuver second = mockManeuver(2);
+        final Maneuver third = mockManeuver(3);
+        final Route route = mock(Route.class);
+        when(route.getManeuvers()).thenReturn(Arrays.asList(first, second, third));
+        final RouteManeuverIndex index = new RouteManeuverIndex(route);
+        final RouteManeuverIndex.StreetResolver resolver = mock(RouteManeuverIndex.StreetResolver.class);
+        when(resolver.resolve(any())).thenReturn(MockUtils.ROAD_NAME);
+        index.resolveStreets(resolver);
+        verify(resolver, times(3)).resolve(any());
+
+        // the rerouted route only differs in its first maneuvers
+        final Maneuver detour = mockManeuver(4);
+        final Maneuver otherDetour = mockManeuver(5);
+        final Route reroute = mock(Route.class);
+        when(reroute.getManeuvers()).thenReturn(Arrays.asList(detour, otherDetour, second, third));
+        final RouteManeuverIndex rerouteIndex = new RouteManeuverIndex(reroute, index);
+        assertThat(rerouteIndex.getCommonSuffixLength(index), is(2));
+
+        rerouteIndex.resolveStreets(resolver);
+        verify(resolver, times(5)).resolve(any());
+        verify(resolver, times(1)).resolve(detour);
+        verify(resolver, times(1)).resolve(otherDetour);
+        assertThat(rerouteIndex.getStreet(third, resolver), is(MockUtils.ROAD_NAME));
+    }
+
+    @Test
+    public void testStreetsAreDroppedOnLocaleChange() {
+        final Maneuver first = mockManeuver(1);
+        final Route route = mock(Route.class);
+        when(route.getManeuvers()).thenReturn(Collections.singletonList(first));
+        final RouteManeuverIndex index = new RouteManeuverIndex(route);
+        final RouteManeuverIndex.StreetResolver resolver = mock(RouteManeuverIndex.StreetResolver.class);
+        when(resolver.resolve(any())).thenReturn(MockUtils.ROAD_NAME);
+        index.getStreet(first, resolver);
+        verify(resolver, times(1)).resolve(first);
+
+        final Locale locale = Locale.getDefault();
+        try {
+            Locale.setDefault(Locale.GERMANY.equals(locale) ? Locale.FRANCE : Locale.GERMANY);
+            index.getStreet(first, resolver);
+            index.getStreet(first, resolver);
+            verify(resolver, times(2)).resolve(first);
+        } finally {
+            Locale.setDefault(locale);
+        }
+
+        MsdkUiResources.invalidate();
+        index.getStreet(first, resolver);
+        verify(resolver, times(3)).resolve(first);
+    }
+
+    @Test
+    public void testEmptyRoute() {
+        final RouteManeuverIndex index = new RouteManeuverIndex(null);
+        assertThat(index.size(), is(0));
+        assertThat(index.getFollowing(MockUtils.mockManeuver()), is(nullValue()));
+    }
+
+    private Maneuver mockManeuver(int position) {
+        final Maneuver maneuver = MockUtils.mockManeuver();
+        when(maneuver.getCoordinate()).thenReturn(MockUtils.mockGeoCoordinate(position, position));
+        return maneuver;
+    }
+}
@@ -21,21 +21,31 @@ import com.here.RobolectricTest;
 import com.here.android.mpa.guidance.NavigationManager;
 import com.here.android.mpa.routing.Maneuver;
 import com.here.android.mpa.routing.Route;
+import com.here.android.mpa.routing.RouteResult;
 import com.here.android.mpa.routing.RouteTta;
+import com.here.msdkui.guidance.RouteManeuverIndex;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.MockitoAnnotations;
+import org.robolectric.shadows.ShadowLooper;
 
 import java.lang.ref.WeakReference;
 
 import static junit.framework.Assert.assertNull;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -99,6 +109,50 @@ public class BaseGuidancePresenterTest extends RobolectricTest {
         assertNotNull(captor.getValue());
     }
 
+    @Test
+    public void testManeuverIndexIsRebuilt() {
+        final RouteManeuverIndex index = mBaseGuidancePresenter.getManeuverIndex();
+        assertThat(index.getRoute(), is(mBaseGuidancePresenter.getRoute()));
+        assertThat(mBaseGuidancePresenter.getManeuverIndex(), is(sameInstance(index)));
+
+        mBaseGuidancePresenter.dispatchRerouteEnd(mock(RouteResult.class));
+        final RouteManeuverIndex rerouteIndex = mBaseGuidancePresenter.getManeuverIndex();
+        assertThat(rerouteIndex, is(not(sameInstance(index))));
+
+        final Route route = mock(Route.class);
+        mBaseGuidancePresenter.setRoute(route);
+        assertThat(mBaseGuidancePresenter.getManeuverIndex().getRoute(), is(route));
+    }
+
+    @Test
+    public void testUpdateCoalescing() {
+        final BaseGuidancePresenter presenter = spy(mBaseGuidancePresenter);
+        assertFalse(presenter.isUpdateCoalescingEnabled());
+        presenter.enableUpdateCoalescing(100);
+        assertTrue(presenter.isUpdateCoalescingEnabled());
+
+        ShadowLooper.pauseMainLooper();
+        presenter.dispatchPositionUpdate();
+        presenter.dispatchPositionUpdate();
+        presenter.dispatchManeuverEvent();
+        verify(presenter, never()).handlePositionUpdate();
+        verify(presenter, never()).handleManeuverEvent();
+
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        verify(presenter, times(1)).handlePositionUpdate();
+        verify(presenter, times(1)).handleManeuverEvent();
+
+        presenter.dispatchPositionUpdate();
+        presenter.pause();
+        ShadowLooper.runUiThreadTasksIncludingDelayedTasks();
+        verify(presenter, times(1)).handlePositionUpdate();
+        ShadowLooper.unPauseMainLooper();
+
+        presenter.disableUpdateCoalescing();
+        presenter.dispatchPositionUpdate();
+        verify(presenter, times(2)).handlePositionUpdate();
+    }
+
     @Test
     public void testGetNextManeuver() {
         final Maneuver maneuver = MockUtils.mockManeuver();
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.guidance.base;
+
+import com.here.RobolectricTest;
+import com.here.android.mpa.guidance.NavigationManager;
+import com.here.android.mpa.routing.Route;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.MockitoAnnotations;
+
+import java.lang.ref.WeakReference;
+
+import static junit.framework.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link GuidanceEventHub}.
+ */
+public class GuidanceEventHubTest extends RobolectricTest {
+
+    private NavigationManager mNavigationManager;
+    private BaseGuidancePresenter mFirstPresenter;
+    private BaseGuidancePresenter mSecondPresenter;
+
+    @Captor
+    private ArgumentCaptor<WeakReference<NavigationManager.PositionListener>> mPositionListenerCaptor;
+
+    @Before
+    public void setUp() {
+        MockitoAnnotations.initMocks(this);
+        mNavigationManager = mock(NavigationManager.class);
+        mFirstPresenter = spy(new BaseGuidancePresenter(mNavigationManager, mock(Route.class)));
+        mSecondPresenter = spy(new BaseGuidancePresenter(mNavigationManager, mock(Route.class)));
+    }
+
+    @Test
+    public void testListenersAreRegisteredOnce() {
+        mFirstPresenter.resume();
+        mFirstPresenter.resume();
+        mSecondPresenter.resume();
+        verify(mNavigationManager).addPositionListener(any());
+        verify(mNavigationManager).addManeuverEventListener(any());
+        verify(mNavigationManager).addNewInstructionEventListener(any());
+        verify(mNavigationManager).addGpsSignalListener(any());
+        verify(mNavigationManager).addRerouteListener(any());
+
+        mFirstPresenter.pause();
+        verify(mNavigationManager, never()).removePositionListener(any());
+
+        mSecondPresenter.pause();
+        verify(mNavigationManager).removePositionListener(any());
+        verify(mNavigationManager).removeManeuverEventListener(any());
+        verify(mNavigationManager).removeNewInstructionEventListener(any());
+        verify(mNavigationManager).removeGpsSignalListener(any());
+        verify(mNavigationManager).removeRerouteListener(any());
+    }
+
+    @Test
+    public void testEventsAreForwardedToAttachedPresenters() {
+        mFirstPresenter.resume();
+        mSecondPresenter.resume();
+        verify(mNavigationManager).addPositionListener(mPositionListenerCaptor.capture());
+        final NavigationManager.PositionListener listener = mPositionListenerCaptor.getValue().get();
+
+        listener.onPositionUpdated(null);
+        verify(mFirstPresenter).handlePositionUpdate();
+        verify(mSecondPresenter).handlePositionUpdate();
+
+        mSecondPresenter.pause();
+        listener.onPositionUpdated(null);
+        verify(mFirstPresenter, times(2)).handlePositionUpdate();
+        verify(mSecondPresenter, times(1)).handlePositionUpdate();
+    }
+
+    @Test
+    public void testSpeedWarningsAreRegisteredOnce() {
+        mFirstPresenter.enableSpeedWarnings();
+        mSecondPresenter.enableSpeedWarnings();
+        verify(mNavigationManager).addSpeedWarningListener(any());
+
+        mFirstPresenter.disableSpeedWarnings();
+        verify(mNavigationManager, never()).removeSpeedWarningListener(any());
+        mSecondPresenter.disableSpeedWarnings();
+        verify(mNavigationManager).removeSpeedWarningListener(any());
+    }
+
+    @Test
+    public void testPresentersAreHeldWeakly() {
+        BaseGuidancePresenter presenter = new BaseGuidancePresenter(mNavigationManager, mock(Route.class));
+        presenter.resume();
+        final WeakReference<BaseGuidancePresenter> reference = new WeakReference<>(presenter);
+        presenter = null;
+        for (int i = 0; i < 10 && reference.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(reference.get());
+
+        // the listeners are still registered once and removed with the last attached presenter
+        mFirstPresenter.resume();
+        verify(mNavigationManager).addPositionListener(any());
+        mFirstPresenter.pause();
+        verify(mNavigationManager).removePositionListener(any());
+    }
+
+    @Test
+    public void testCollectedPresentersUnregisterListeners() {
+        BaseGuidancePresenter presenter = new BaseGuidancePresenter(mNavigationManager, mock(Route.class));
+        presenter.resume();
+        verify(mNavigationManager).addPositionListener(mPositionListenerCaptor.capture());
+        final NavigationManager.PositionListener listener = mPositionListenerCaptor.getValue().get();
+        final WeakReference<BaseGuidancePresenter> reference = new WeakReference<>(presenter);
+        presenter = null;
+        for (int i = 0; i < 10 && reference.get() != null; i++) {
+            System.gc();
+        }
+        assertNull(reference.get());
+
+        // the next event finds no presenter and removes the listeners
+        listener.onPositionUpdated(null);
+        verify(mNavigationManager).removePositionListener(any());
+        verify(mNavigationManager).removeRerouteListener(any());
+
+        mFirstPresenter.resume();
+        verify(mNavigationManager, times(2)).addPositionListener(any());
+        mFirstPresenter.pause();
+    }
+}
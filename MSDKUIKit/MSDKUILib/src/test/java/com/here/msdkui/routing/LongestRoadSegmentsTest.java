@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.routing;
+
+import com.here.RobolectricTest;
+import com.here.android.mpa.common.RoadElement;
+import com.here.android.mpa.routing.Route;
+import com.here.android.mpa.routing.RouteElement;
+import com.here.android.mpa.routing.RouteElements;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link LongestRoadSegments}.
+ */
+public final class LongestRoadSegmentsTest extends RobolectricTest {
+
+    @Test
+    public void testLongestSegmentIsSummedOverConsecutiveElements() {
+        final List<RouteElement> elements = new ArrayList<>();
+        elements.add(mockElement("A", "", 100));
+        elements.add(mockElement("B", "", 150));
+        elements.add(mockElement("A", "", 60));
+        elements.add(mockElement("A", "", 60));
+        assertThat(LongestRoadSegments.compute(elements), equalTo("A"));
+    }
+
+    @Test
+    public void testRouteNameIsPreferred() {
+        final List<RouteElement> elements = new ArrayList<>();
+        elements.add(mockElement("Main Street", "B96", 100));
+        elements.add(mockElement("Side Street", "B96", 100));
+        elements.add(mockElement("Long Street", "", 150));
+        assertThat(LongestRoadSegments.compute(elements), equalTo("B96"));
+    }
+
+    @Test
+    public void testEarliestSegmentWinsOnTie() {
+        final List<RouteElement> elements = new ArrayList<>();
+        elements.add(mockElement("A", "", 100));
+        elements.add(mockElement("B", "", 100));
+        assertThat(LongestRoadSegments.compute(elements), equalTo("A"));
+    }
+
+    @Test
+    public void testEmptyRoute() {
+        assertThat(LongestRoadSegments.compute(Collections.emptyList()), equalTo(""));
+        final Route route = mock(Route.class);
+        assertThat(LongestRoadSegments.get(route), equalTo(""));
+    }
+
+    @Test
+    public void testRangesGiveSameResultAsSinglePass() {
+        final Random random = new Random(42);
+        final String[] names = {"A", "B", "C"};
+        for (int run = 0; run < 20; run++) {
+            final List<RouteElement> elements = new ArrayList<>();
+            final int size = 1 + random.nextInt(40);
+            for (int i = 0; i < size; i++) {
+                elements.add(mockElement(names[random.nextInt(names.length)], "", 1 + random.nextInt(5)));
+            }
+            final String expected = LongestRoadSegments.compute(elements);
+            for (int rangeSize = 1; rangeSize <= 5; rangeSize++) {
+                assertThat(LongestRoadSegments.compute(elements, Runnable::run, rangeSize), equalTo(expected));
+                // tasks which never run on the executor are scanned by the caller
+                assertThat(LongestRoadSegments.compute(elements, task -> { }, rangeSize), equalTo(expected));
+            }
+        }
+    }
+
+    @Test
+    public void testResultIsCachedPerRoute() {
+        final List<RouteElement> elements = new ArrayList<>();
+        elements.add(mockElement("A", "", 100));
+        final RouteElements routeElements = mock(RouteElements.class);
+        when(routeElements.getElements()).thenReturn(elements);
+        final Route route = mock(Route.class);
+        when(route.getRouteElements()).thenReturn(routeElements);
+
+        assertThat(LongestRoadSegments.get(route), equalTo("A"));
+        assertThat(RouteUtil.getLongestRoadSegments(route), equalTo("A"));
+        verify(route, times(1)).getRouteElements();
+    }
+
+    private static RouteElement mockElement(String roadName, String routeName, double length) {
+        final RoadElement road = mock(RoadElement.class);
+        when(road.getRoadName()).thenReturn(roadName);
+        when(road.getRouteName()).thenReturn(routeName);
+        when(road.getGeometryLength()).thenReturn(length);
+        final RouteElement element = mock(RouteElement.class);
+        when(element.getRoadElement()).thenReturn(road);
+        return element;
+    }
+}
@@ -18,6 +18,8 @@ package com.here.msdkui.routing;
 
 import android.view.ViewGroup;
 
+import androidx.recyclerview.widget.RecyclerView;
+
 import com.here.MockUtils;
 import com.here.RobolectricTest;
 import com.here.android.mpa.routing.Maneuver;
@@ -36,9 +38,12 @@ import static junit.framework.Assert.assertNotNull;
 import static junit.framework.TestCase.assertEquals;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -92,6 +97,37 @@ public class ManeuverListAdapterTest extends RobolectricTest {
         assertEquals(mManeuverListAdapter.getUnitSystem(), UnitSystem.IMPERIAL_UK);
     }
 
+    @Test
+    public void testCallerListIsNotModified() {
+        final Maneuver first = MockUtils.mockManeuver();
+        final Maneuver second = MockUtils.mockManeuver();
+        final List<Maneuver> maneuvers = Collections.unmodifiableList(Arrays.asList(first, second));
+        mManeuverListAdapter = new ManeuverListAdapter(maneuvers);
+        new RecyclerView(getContextWithTheme()).setAdapter(mManeuverListAdapter);
+
+        mManeuverListAdapter.setUnitSystem(UnitSystem.IMPERIAL_US);
+        assertThat(mManeuverListAdapter.getItemCount(), equalTo(2));
+
+        mManeuverListAdapter.setManeuvers(Collections.singletonList(second));
+        assertThat(mManeuverListAdapter.getItemCount(), equalTo(1));
+        assertThat(maneuvers, equalTo(Arrays.asList(first, second)));
+    }
+
+    @Test
+    public void testBindUsesPreparedRowModels() {
+        final Maneuver maneuver = MockUtils.mockManeuver();
+        mManeuverListAdapter = new ManeuverListAdapter(new ArrayList<>(Arrays.asList(maneuver, maneuver)));
+        mManeuverListAdapter.prepareRowModels(getContextWithTheme());
+        clearInvocations(maneuver);
+
+        final ManeuverItemView itemView = new ManeuverItemView(getContextWithTheme());
+        mManeuverListAdapter.onBindViewHolder(mManeuverListAdapter.new ViewHolder(itemView), 1);
+
+        verify(maneuver, never()).getIcon();
+        verify(maneuver, never()).getAction();
+        assertThat(itemView.getManeuver(), equalTo(maneuver));
+    }
+
     private void getFirstViewHolder(final List<Maneuver> maneuvers) {
         mManeuverListAdapter = new ManeuverListAdapter(maneuvers);
         assertThat(mManeuverListAdapter.getItemCount(), equalTo(maneuvers.size()));
@@ -16,20 +16,29 @@
 
 package com.here.msdkui.routing;
 
+import androidx.recyclerview.widget.RecyclerView;
+
 import com.here.MockUtils;
 import com.here.RobolectricTest;
+import com.here.android.mpa.routing.Maneuver;
 import com.here.android.mpa.routing.Route;
 import com.here.msdkui.common.measurements.UnitSystem;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.Arrays;
 
 import static junit.framework.Assert.assertNotNull;
 import static junit.framework.Assert.assertNull;
 import static junit.framework.TestCase.assertEquals;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -78,4 +87,56 @@ public class ManeuverListTest extends RobolectricTest {
         mManeuverList.setUnitSystem(UnitSystem.IMPERIAL_UK);
         assertEquals(mManeuverList.getUnitSystem(), UnitSystem.IMPERIAL_UK);
     }
+
+    @Test
+    public void testUnitSystemChangeOnlyUpdatesDistances() {
+        mManeuverList.setRoute(mockRoute(MockUtils.mockManeuver(), MockUtils.mockManeuver()));
+        final RecyclerView.AdapterDataObserver observer = mock(RecyclerView.AdapterDataObserver.class);
+        mManeuverList.getAdapter().registerAdapterDataObserver(observer);
+
+        mManeuverList.setUnitSystem(UnitSystem.IMPERIAL_US);
+
+        // the last row has no distance
+        verify(observer).onItemRangeChanged(0, 1, ManeuverListAdapter.PAYLOAD_DISTANCE);
+        verify(observer, never()).onChanged();
+    }
+
+    @Test
+    public void testSettingSameManeuversKeepsRows() {
+        final Maneuver first = MockUtils.mockManeuver();
+        final Maneuver second = MockUtils.mockManeuver();
+        mManeuverList.setRoute(mockRoute(first, second));
+        final long firstId = mManeuverList.getAdapter().getItemId(0);
+        final long secondId = mManeuverList.getAdapter().getItemId(1);
+        final RecyclerView.AdapterDataObserver observer = mock(RecyclerView.AdapterDataObserver.class);
+        mManeuverList.getAdapter().registerAdapterDataObserver(observer);
+
+        mManeuverList.setRoute(mockRoute(first, second));
+
+        verify(observer, never()).onChanged();
+        verify(observer, never()).onItemRangeInserted(anyInt(), anyInt());
+        verify(observer, never()).onItemRangeRemoved(anyInt(), anyInt());
+        assertThat(mManeuverList.getAdapter().getItemId(0), equalTo(firstId));
+        assertThat(mManeuverList.getAdapter().getItemId(1), equalTo(secondId));
+    }
+
+    @Test
+    public void testComputeExecutor() {
+        assertNull(mManeuverList.getComputeExecutor());
+        mManeuverList.setComputeExecutor(Runnable::run);
+        assertNotNull(mManeuverList.getComputeExecutor());
+
+        ShadowLooper.pauseMainLooper();
+        mManeuverList.setRoute(mockRoute(MockUtils.mockManeuver(), MockUtils.mockManeuver()));
+        assertThat(mManeuverList.getAdapter().getItemCount(), equalTo(0));
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mManeuverList.getAdapter().getItemCount(), equalTo(2));
+        ShadowLooper.unPauseMainLooper();
+    }
+
+    private static Route mockRoute(final Maneuver... maneuvers) {
+        final Route route = mock(Route.class);
+        when(route.getManeuvers()).thenReturn(Arrays.asList(maneuvers));
+        return route;
+    }
 }
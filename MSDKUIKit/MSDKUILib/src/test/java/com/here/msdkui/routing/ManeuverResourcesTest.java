@@ -28,6 +28,7 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
@@ -39,6 +40,8 @@ import static org.hamcrest.Matchers.equalToIgnoringCase;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isEmptyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -362,6 +365,36 @@ public class ManeuverResourcesTest extends RobolectricTest {
         assertEquals(DIRECTION, mManeuverResources.getExitDirections(maneuver));
     }
 
+    @Test
+    public void testRoadToDisplayIsResolvedOnce() {
+        final Maneuver maneuver = mock(Maneuver.class);
+        when(maneuver.getAction()).thenReturn(Action.JUNCTION);
+        when(maneuver.getNextRoadName()).thenReturn("Invalidenstr.");
+        mManeuverResources = new ManeuverResources(getApplicationContext(),
+                new ArrayList<>(Collections.singletonList(maneuver)));
+        final String road = mManeuverResources.getRoadToDisplay(0);
+        assertThat(road, is("Invalidenstr."));
+        assertThat(mManeuverResources.getRoadToDisplay(0), is(road));
+        verify(maneuver, times(1)).getNextRoadName();
+    }
+
+    @Test
+    public void testRoadsToDisplayAreCarriedOver() {
+        final Maneuver first = mock(Maneuver.class);
+        final Maneuver last = mock(Maneuver.class);
+        when(last.getAction()).thenReturn(Action.JUNCTION);
+        when(last.getNextRoadName()).thenReturn("Invalidenstr.");
+        final List<Maneuver> maneuvers = new ArrayList<>(Arrays.asList(first, last));
+        mManeuverResources = new ManeuverResources(getApplicationContext(), maneuvers);
+        assertThat(mManeuverResources.getRoadToDisplay(1), is("Invalidenstr."));
+
+        // the maneuvers before the last one change
+        maneuvers.add(0, mock(Maneuver.class));
+        final ManeuverResources resources = mManeuverResources.carryOver(1);
+        assertThat(resources.getRoadToDisplay(2), is("Invalidenstr."));
+        verify(last, times(1)).getNextRoadName();
+    }
+
     private static List<Signpost.LocalizedLabel> getDirectionsList() {
         List<Signpost.LocalizedLabel> directions = new ArrayList<>();
         Signpost.LocalizedLabel direction = mock(Signpost.LocalizedLabel.class);
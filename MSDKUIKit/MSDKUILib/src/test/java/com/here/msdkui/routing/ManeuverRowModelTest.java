@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.routing;
+
+import com.here.MockUtils;
+import com.here.RobolectricTest;
+import com.here.android.mpa.routing.Maneuver;
+import com.here.msdkui.common.DistanceFormatter;
+import com.here.msdkui.common.measurements.UnitSystem;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for {@link ManeuverRowModel} class.
+ */
+public class ManeuverRowModelTest extends RobolectricTest {
+
+    private List<Maneuver> mManeuvers;
+    private ManeuverResources mManeuverResources;
+    private DistanceFormatter mDistanceFormatter;
+
+    @Before
+    public void setUp() {
+        final Maneuver last = MockUtils.mockManeuver();
+        when(last.getIcon()).thenReturn(Maneuver.Icon.PASS_STATION);
+        mManeuvers = Arrays.asList(MockUtils.mockManeuver(), last);
+        mManeuverResources = new ManeuverResources(getApplicationContext(), mManeuvers);
+        mDistanceFormatter = new DistanceFormatter(getApplicationContext(), UnitSystem.METRIC);
+    }
+
+    @Test
+    public void testCreateResolvesRow() {
+        final ManeuverRowModel rowModel = ManeuverRowModel.create(mManeuvers, 0, mManeuverResources,
+                mDistanceFormatter);
+        assertThat(rowModel.getManeuver(), is(sameInstance(mManeuvers.get(0))));
+        assertThat(rowModel.getIconId(), equalTo(mManeuverResources.getManeuverIconId(0)));
+        assertThat(rowModel.isIconVisible(), is(true));
+        assertThat(rowModel.getInstruction(), equalTo(mManeuverResources.getManeuverInstruction(0)));
+        assertThat(rowModel.getRoadToDisplay(), equalTo(mManeuverResources.getRoadToDisplay(0)));
+        assertThat(rowModel.getDistance(), equalTo(mDistanceFormatter.format(200)));
+        assertThat(rowModel.isDistanceVisible(), is(true));
+    }
+
+    @Test
+    public void testCreateLastRowHasNoDistance() {
+        final ManeuverRowModel rowModel = ManeuverRowModel.create(mManeuvers, 1, mManeuverResources,
+                mDistanceFormatter);
+        assertThat(rowModel.getDistance(), is(nullValue()));
+        assertThat(rowModel.isDistanceVisible(), is(false));
+        assertThat(rowModel.getIconId(), equalTo(0));
+        assertThat(rowModel.isIconVisible(), is(false));
+    }
+}
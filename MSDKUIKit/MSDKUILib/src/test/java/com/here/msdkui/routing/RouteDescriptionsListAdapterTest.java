@@ -16,6 +16,11 @@
 
 package com.here.msdkui.routing;
 
+import android.view.View;
+
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.RecyclerView;
+
 import com.here.MockUtils;
 import com.here.RobolectricTest;
 import com.here.android.mpa.routing.Route;
@@ -24,6 +29,7 @@ import com.here.msdkui.common.measurements.UnitSystem;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.robolectric.shadows.ShadowLooper;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -83,6 +89,61 @@ public class RouteDescriptionsListAdapterTest extends RobolectricTest {
         assertEquals(mRoutesDescriptionsListAdapter.getUnitSystem(), UnitSystem.IMPERIAL_UK);
     }
 
+    @Test
+    public void testPlaceholderUntilSummaryIsReady() {
+        final Route route = new MockUtils.MockRouteBuilder().getRoute();
+        final List<Runnable> tasks = new ArrayList<>();
+        mRoutesDescriptionsListAdapter = new RouteDescriptionListAdapter(
+                new ArrayList<>(Collections.singletonList(route)));
+        mRoutesDescriptionsListAdapter.setComputeExecutor(tasks::add);
+        final RouteDescriptionItem itemView = new RouteDescriptionItem(getContextWithTheme());
+        mViewHolder = mRoutesDescriptionsListAdapter.new ViewHolder(itemView);
+
+        mRoutesDescriptionsListAdapter.onBindViewHolder(mViewHolder, 0);
+        mRoutesDescriptionsListAdapter.onBindViewHolder(mViewHolder, 0);
+        assertThat(itemView.getVisibility(), equalTo(View.INVISIBLE));
+        assertThat(itemView.getRoute(), equalTo(route));
+        // the summaries of all rows are requested once
+        assertThat(tasks.size(), equalTo(1));
+
+        ShadowLooper.pauseMainLooper();
+        tasks.get(0).run();
+        ShadowLooper.runUiThreadTasks();
+        ShadowLooper.unPauseMainLooper();
+        mRoutesDescriptionsListAdapter.onBindViewHolder(mViewHolder, 0);
+        assertThat(itemView.getVisibility(), equalTo(View.VISIBLE));
+        assertThat(tasks.size(), equalTo(1));
+    }
+
+    @Test
+    public void testOnlyRowsWithoutSummaryAreNotified() {
+        final Route first = new MockUtils.MockRouteBuilder().getRoute();
+        final Route second = new MockUtils.MockRouteBuilder().getRoute();
+        final List<Runnable> tasks = new ArrayList<>();
+        mRoutesDescriptionsListAdapter = new RouteDescriptionListAdapter(new ArrayList<>(Arrays.asList(first, second)));
+        final List<Integer> changed = new ArrayList<>();
+        mRoutesDescriptionsListAdapter.registerAdapterDataObserver(new RecyclerView.AdapterDataObserver() {
+            @Override
+            public void onItemRangeChanged(int positionStart, int itemCount, @Nullable Object payload) {
+                changed.add(positionStart);
+            }
+        });
+
+        // the first summary is created while binding without an executor
+        mRoutesDescriptionsListAdapter.onBindViewHolder(
+                mRoutesDescriptionsListAdapter.new ViewHolder(new RouteDescriptionItem(getContextWithTheme())), 0);
+        mRoutesDescriptionsListAdapter.setComputeExecutor(tasks::add);
+        mRoutesDescriptionsListAdapter.onBindViewHolder(
+                mRoutesDescriptionsListAdapter.new ViewHolder(new RouteDescriptionItem(getContextWithTheme())), 1);
+        assertThat(tasks.size(), equalTo(1));
+
+        ShadowLooper.pauseMainLooper();
+        tasks.get(0).run();
+        ShadowLooper.runUiThreadTasks();
+        ShadowLooper.unPauseMainLooper();
+        assertThat(changed, equalTo(Collections.singletonList(1)));
+    }
+
     private void getFirstViewHolder(final List<Route> routes) {
         mRoutesDescriptionsListAdapter = new RouteDescriptionListAdapter(routes);
         assertThat(mRoutesDescriptionsListAdapter.getItemCount(), equalTo(routes.size()));
@@ -18,6 +18,8 @@ package com.here.msdkui.routing;
 
 import android.util.AttributeSet;
 
+import androidx.recyclerview.widget.RecyclerView;
+
 import com.here.MockUtils;
 import com.here.RobolectricTest;
 import com.here.android.mpa.routing.Route;
@@ -29,17 +31,23 @@ import com.here.msdkui.common.measurements.UnitSystem;
 import org.junit.Before;
 import org.junit.Test;
 import org.robolectric.Robolectric;
+import org.robolectric.shadows.ShadowLooper;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
 import static junit.framework.Assert.assertTrue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -179,4 +187,114 @@ public class RouteDescriptionsListTest extends RobolectricTest {
         assertEquals(mRoutesDescriptionList.getUnitSystem(), UnitSystem.IMPERIAL_UK);
 
     }
+
+    @Test
+    public void testUnitSystemChangeOnlyUpdatesRows() {
+        final Route route1 = new MockUtils.MockRouteBuilder().getRoute();
+        final Route route2 = new MockUtils.MockRouteBuilder().getRoute();
+        mRoutesDescriptionList.setRoutes(new ArrayList<>(Arrays.asList(route1, route2)));
+        final RecyclerView.AdapterDataObserver observer = mock(RecyclerView.AdapterDataObserver.class);
+        mRoutesDescriptionList.getAdapter().registerAdapterDataObserver(observer);
+
+        mRoutesDescriptionList.setUnitSystem(UnitSystem.IMPERIAL_US);
+        mRoutesDescriptionList.setTrafficEnabled(true);
+
+        verify(observer).onItemRangeChanged(0, 2, RouteDescriptionListAdapter.PAYLOAD_UNIT_SYSTEM);
+        verify(observer).onItemRangeChanged(0, 2, RouteDescriptionListAdapter.PAYLOAD_TRAFFIC);
+        verify(observer, never()).onChanged();
+    }
+
+    @Test
+    public void testSettingSameRoutesKeepsRows() {
+        final Route route1 = new MockUtils.MockRouteBuilder().getRoute();
+        final Route route2 = new MockUtils.MockRouteBuilder().getRoute();
+        mRoutesDescriptionList.setRoutes(new ArrayList<>(Arrays.asList(route1, route2)));
+        final long firstId = mRoutesDescriptionList.getAdapter().getItemId(0);
+        final long secondId = mRoutesDescriptionList.getAdapter().getItemId(1);
+        final RecyclerView.AdapterDataObserver observer = mock(RecyclerView.AdapterDataObserver.class);
+        mRoutesDescriptionList.getAdapter().registerAdapterDataObserver(observer);
+
+        mRoutesDescriptionList.setRoutes(new ArrayList<>(Arrays.asList(route1, route2)));
+
+        verify(observer, never()).onChanged();
+        verify(observer, never()).onItemRangeInserted(anyInt(), anyInt());
+        verify(observer, never()).onItemRangeRemoved(anyInt(), anyInt());
+        assertThat(mRoutesDescriptionList.getAdapter().getItemId(0), equalTo(firstId));
+        assertThat(mRoutesDescriptionList.getAdapter().getItemId(1), equalTo(secondId));
+    }
+
+    @Test
+    public void testAddRouteInsertsSortedRow() {
+        final Route route1 = mockRoute(100);
+        final Route route2 = mockRoute(200);
+        final Route route3 = mockRoute(300);
+        mRoutesDescriptionList.setRoutes(new ArrayList<>(Arrays.asList(route3, route1)));
+        final long firstId = mRoutesDescriptionList.getAdapter().getItemId(0);
+        final long secondId = mRoutesDescriptionList.getAdapter().getItemId(1);
+        final RecyclerView.AdapterDataObserver observer = mock(RecyclerView.AdapterDataObserver.class);
+        mRoutesDescriptionList.getAdapter().registerAdapterDataObserver(observer);
+
+        mRoutesDescriptionList.addRoute(route2);
+
+        assertThat(mRoutesDescriptionList.getRoutes(), equalTo(Arrays.asList(route1, route2, route3)));
+        verify(observer).onItemRangeInserted(1, 1);
+        verify(observer, never()).onChanged();
+        assertThat(mRoutesDescriptionList.getAdapter().getItemId(0), equalTo(firstId));
+        assertThat(mRoutesDescriptionList.getAdapter().getItemId(2), equalTo(secondId));
+
+        // descending order, a route with the same travel time is added after the existing one
+        mRoutesDescriptionList.setSortOrder(RouteDescriptionList.SortOrder.DESCENDING);
+        mRoutesDescriptionList.setRoutes(new ArrayList<>(Arrays.asList(route1, route3)));
+        final Route otherRoute3 = mockRoute(300);
+        mRoutesDescriptionList.addRoute(otherRoute3);
+        assertThat(mRoutesDescriptionList.getRoutes(), equalTo(Arrays.asList(route3, otherRoute3, route1)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddNullRouteException() {
+        mRoutesDescriptionList.addRoute(null);
+    }
+
+    @Test
+    public void testAddRouteWhileUpdateIsComputed() {
+        final List<Runnable> tasks = new ArrayList<>();
+        mRoutesDescriptionList.setComputeExecutor(tasks::add);
+        final Route route1 = mockRoute(100);
+        final Route route2 = mockRoute(200);
+
+        ShadowLooper.pauseMainLooper();
+        mRoutesDescriptionList.setRoutes(new ArrayList<>(Collections.singletonList(route2)));
+        mRoutesDescriptionList.addRoute(route1);
+        // only the latest update is delivered
+        for (final Runnable task : new ArrayList<>(tasks)) {
+            task.run();
+        }
+        ShadowLooper.runUiThreadTasks();
+        ShadowLooper.unPauseMainLooper();
+
+        assertThat(mRoutesDescriptionList.getRoutes(), equalTo(Arrays.asList(route1, route2)));
+    }
+
+    @Test
+    public void testComputeExecutor() {
+        assertNull(mRoutesDescriptionList.getComputeExecutor());
+        mRoutesDescriptionList.setComputeExecutor(Runnable::run);
+        assertNotNull(mRoutesDescriptionList.getComputeExecutor());
+
+        ShadowLooper.pauseMainLooper();
+        mRoutesDescriptionList.setRoutes(new ArrayList<>(Arrays.asList(new MockUtils.MockRouteBuilder().getRoute(),
+                new MockUtils.MockRouteBuilder().getRoute())));
+        assertThat(mRoutesDescriptionList.getRoutes().size(), equalTo(0));
+        ShadowLooper.runUiThreadTasks();
+        assertThat(mRoutesDescriptionList.getRoutes().size(), equalTo(2));
+        ShadowLooper.unPauseMainLooper();
+    }
+
+    private static Route mockRoute(final int duration) {
+        final Route route = new MockUtils.MockRouteBuilder().getRoute();
+        final RouteTta routeTta = mock(RouteTta.class);
+        when(routeTta.getDuration()).thenReturn(duration);
+        when(route.getTtaIncludingTraffic(Route.WHOLE_ROUTE)).thenReturn(routeTta);
+        return route;
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.msdkui.routing;
+
+import android.content.Context;
+
+import com.here.MockUtils;
+import com.here.RobolectricTest;
+import com.here.android.mpa.routing.Route;
+import com.here.android.mpa.routing.RouteOptions;
+import com.here.msdkui.R;
+import com.here.msdkui.common.measurements.UnitSystem;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Tests for {@link RouteSummary}.
+ */
+public final class RouteSummaryTest extends RobolectricTest {
+
+    @Test
+    public void testCreate() {
+        final Context context = getContextWithTheme();
+        final Route route = new MockUtils.MockRouteBuilder().getRoute();
+        final RouteSummary summary = RouteSummary.create(context, route, UnitSystem.METRIC);
+
+        assertSame(route, summary.getRoute());
+        assertThat(summary.getUnitSystem(), equalTo(UnitSystem.METRIC));
+        assertThat(summary.getIconId(), equalTo(R.drawable.ic_drive));
+        assertThat(summary.getTimeToArrive(true).toString(),
+                equalTo(RouteUtil.getTimeToArrive(context, route, true).toString()));
+        assertThat(summary.getArrivalTime(context, false), equalTo(RouteUtil.getArrivalTime(context, route, false)));
+        assertThat(summary.getDetails().toString(),
+                equalTo(RouteUtil.getDetails(context, route, UnitSystem.METRIC).toString()));
+        assertNotNull(summary.getTrafficDelay());
+    }
+
+    @Test
+    public void testBikeHasNoTrafficDelay() {
+        final Route route = new MockUtils.MockRouteBuilder()
+                .setTransportMode(RouteOptions.TransportMode.BICYCLE)
+                .getRoute();
+        final RouteSummary summary = RouteSummary.create(getContextWithTheme(), route, UnitSystem.METRIC);
+        assertThat(summary.isBikeOrPedestrian(), equalTo(true));
+        assertNull(summary.getTrafficDelay());
+        assertNull(summary.getTrafficDelayDescription());
+    }
+
+    @Test
+    public void testWithUnitSystem() {
+        final Context context = getContextWithTheme();
+        final RouteSummary summary = RouteSummary.create(context,
+                new MockUtils.MockRouteBuilder().getRoute(), UnitSystem.METRIC);
+        assertSame(summary, summary.withUnitSystem(context, UnitSystem.METRIC));
+
+        final RouteSummary imperial = summary.withUnitSystem(context, UnitSystem.IMPERIAL_US);
+        assertSame(summary.getRoute(), imperial.getRoute());
+        assertThat(imperial.getUnitSystem(), equalTo(UnitSystem.IMPERIAL_US));
+        assertSame(summary.getTimeToArrive(false), imperial.getTimeToArrive(false));
+        assertThat(imperial.getDetails().toString(), not(equalTo(summary.getDetails().toString())));
+    }
+
+    @Test
+    public void testCreateAllReusesPreviousSummaries() {
+        final Context context = getContextWithTheme();
+        final Route route1 = new MockUtils.MockRouteBuilder().getRoute();
+        final Route route2 = new MockUtils.MockRouteBuilder().getRoute();
+        final RouteSummary summary1 = RouteSummary.create(context, route1, UnitSystem.METRIC);
+
+        // tasks which never run on the executor are run by the caller
+        final List<RouteSummary> summaries = RouteSummary.createAll(context, Arrays.asList(route1, route2),
+                Arrays.asList(summary1, null), UnitSystem.METRIC, task -> { });
+
+        assertThat(summaries.size(), equalTo(2));
+        assertSame(summary1, summaries.get(0));
+        assertSame(route2, summaries.get(1).getRoute());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.shadows;
+
+import com.here.android.mpa.common.GeoCoordinate;
+import com.here.android.mpa.ftcr.FTCRManeuver;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Fake {@link FTCRManeuver} returning the values set by the test, see
+ * {@link ShadowNavigationManager}.
+ */
+@Implements(value = FTCRManeuver.class, isInAndroidSdk = false)
+public class ShadowFTCRManeuver {
+
+    private FTCRManeuver.Action mAction = FTCRManeuver.Action.UNDEFINED;
+    private GeoCoordinate mPosition;
+    private List<String> mRoadNames = Collections.emptyList();
+    private List<String> mNextRoadNames = Collections.emptyList();
+
+    /**
+     * The real constructors need the native SDK.
+     */
+    @Implementation
+    protected void __constructor__() {
+    }
+
+    @Implementation
+    protected FTCRManeuver.Action getAction() {
+        return mAction;
+    }
+
+    @Implementation
+    protected List<String> getRoadNames() {
+        return mRoadNames;
+    }
+
+    @Implementation
+    protected List<String> getNextRoadNames() {
+        return mNextRoadNames;
+    }
+
+    @Implementation
+    protected GeoCoordinate getPosition() {
+        return mPosition;
+    }
+
+    public void setAction(FTCRManeuver.Action action) {
+        mAction = action;
+    }
+
+    public void setPosition(GeoCoordinate position) {
+        mPosition = position;
+    }
+
+    public void setRoadNames(List<String> roadNames) {
+        mRoadNames = roadNames;
+    }
+
+    public void setNextRoadNames(List<String> nextRoadNames) {
+        mNextRoadNames = nextRoadNames;
+    }
+}
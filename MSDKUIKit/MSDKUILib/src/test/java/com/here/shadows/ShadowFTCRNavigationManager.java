@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.shadows;
+
+import com.here.android.mpa.ftcr.FTCRManeuver;
+import com.here.android.mpa.ftcr.FTCRNavigationManager;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+
+/**
+ * Fake {@link FTCRNavigationManager} returning the values set by the test, see
+ * {@link ShadowNavigationManager}. Position updates are delivered by the
+ * {@link ShadowPositioningManager}. Like the SDK, it can return another instance for the same
+ * current maneuver on every call.
+ */
+@Implements(value = FTCRNavigationManager.class, isInAndroidSdk = false)
+public class ShadowFTCRNavigationManager {
+
+    private FTCRManeuver[] mCurrentManeuvers = new FTCRManeuver[1];
+    private int mCurrentManeuverCalls;
+    private long mDistanceToCurrentManeuver;
+    private long mRemainingDistance;
+    private long mRemainingTime;
+
+    /**
+     * The real constructors need the native SDK.
+     */
+    @Implementation
+    protected void __constructor__() {
+    }
+
+    @Implementation
+    protected void addNavigationListener(FTCRNavigationManager.FTCRNavigationManagerListener listener) {
+    }
+
+    @Implementation
+    protected void removeNavigationListener(FTCRNavigationManager.FTCRNavigationManagerListener listener) {
+    }
+
+    @Implementation
+    protected FTCRManeuver getCurrentManeuver() {
+        return mCurrentManeuvers[mCurrentManeuverCalls++ % mCurrentManeuvers.length];
+    }
+
+    @Implementation
+    protected long getDistanceToCurrentManeuver() {
+        return mDistanceToCurrentManeuver;
+    }
+
+    @Implementation
+    protected long getRemainingDistance(int stopoverIndex) {
+        return mRemainingDistance;
+    }
+
+    @Implementation
+    protected long getRemainingTime(int stopoverIndex) {
+        return mRemainingTime;
+    }
+
+    /**
+     * Sets the current maneuver. If several instances are given, they are returned in turn.
+     */
+    public void setCurrentManeuver(FTCRManeuver... instances) {
+        mCurrentManeuvers = instances;
+        mCurrentManeuverCalls = 0;
+    }
+
+    public void setDistanceToCurrentManeuver(long distanceToCurrentManeuver) {
+        mDistanceToCurrentManeuver = distanceToCurrentManeuver;
+    }
+
+    public void setRemainingDistance(long remainingDistance) {
+        mRemainingDistance = remainingDistance;
+    }
+
+    /**
+     * Sets the remaining time in seconds.
+     */
+    public void setRemainingTime(long remainingTime) {
+        mRemainingTime = remainingTime;
+    }
+}
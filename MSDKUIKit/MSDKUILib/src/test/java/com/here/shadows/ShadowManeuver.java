@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.shadows;
+
+import com.here.android.mpa.common.GeoCoordinate;
+import com.here.android.mpa.common.Image;
+import com.here.android.mpa.routing.Maneuver;
+import com.here.android.mpa.routing.Signpost;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+
+/**
+ * Fake {@link Maneuver} returning the values set by the test, see
+ * {@link ShadowNavigationManager}. It has no signpost and next road image.
+ */
+@Implements(value = Maneuver.class, isInAndroidSdk = false)
+public class ShadowManeuver {
+
+    private Maneuver.Action mAction = Maneuver.Action.UNDEFINED;
+    private GeoCoordinate mCoordinate;
+    private Maneuver.Icon mIcon;
+    private String mNextRoadName = "";
+    private String mNextRoadNumber = "";
+
+    /**
+     * The real constructors need the native SDK.
+     */
+    @Implementation
+    protected void __constructor__() {
+    }
+
+    @Implementation
+    protected Maneuver.Action getAction() {
+        return mAction;
+    }
+
+    @Implementation
+    protected Maneuver.Icon getIcon() {
+        return mIcon;
+    }
+
+    @Implementation
+    protected String getNextRoadName() {
+        return mNextRoadName;
+    }
+
+    @Implementation
+    protected String getNextRoadNumber() {
+        return mNextRoadNumber;
+    }
+
+    @Implementation
+    protected GeoCoordinate getCoordinate() {
+        return mCoordinate;
+    }
+
+    @Implementation
+    protected Signpost getSignpost() {
+        return null;
+    }
+
+    @Implementation
+    protected Image getNextRoadImage() {
+        return null;
+    }
+
+    public void setAction(Maneuver.Action action) {
+        mAction = action;
+    }
+
+    public void setCoordinate(GeoCoordinate coordinate) {
+        mCoordinate = coordinate;
+    }
+
+    public void setIcon(Maneuver.Icon icon) {
+        mIcon = icon;
+    }
+
+    public void setNextRoadName(String nextRoadName) {
+        mNextRoadName = nextRoadName;
+    }
+
+    public void setNextRoadNumber(String nextRoadNumber) {
+        mNextRoadNumber = nextRoadNumber;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.shadows;
+
+import com.here.android.mpa.guidance.NavigationManager;
+import com.here.android.mpa.routing.Maneuver;
+import com.here.android.mpa.routing.Route;
+import com.here.android.mpa.routing.RouteTta;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+
+import java.lang.ref.WeakReference;
+import java.util.Date;
+
+/**
+ * Fake {@link NavigationManager} returning the values set by the test. Unlike a mock, calling it
+ * allocates nothing, so it can be used in allocation tests, see {@link com.here.AllocationMeter}.
+ * Only the position listener is kept, registering the other listeners has no effect. Like the SDK,
+ * it can return another instance for the same next maneuver on every call.
+ */
+@Implements(value = NavigationManager.class, isInAndroidSdk = false)
+public class ShadowNavigationManager {
+
+    private WeakReference<? extends NavigationManager.PositionListener> mPositionListener;
+    private Maneuver[] mNextManeuvers = new Maneuver[1];
+    private int mNextManeuverCalls;
+    private long mNextManeuverDistance;
+    private long mDestinationDistance;
+    private Date mEta;
+    private RouteTta mTta;
+
+    /**
+     * The real constructors need the native SDK.
+     */
+    @Implementation
+    protected void __constructor__() {
+    }
+
+    @Implementation
+    protected void addPositionListener(WeakReference<? extends NavigationManager.PositionListener> listener) {
+        mPositionListener = listener;
+    }
+
+    @Implementation
+    protected void removePositionListener(NavigationManager.PositionListener listener) {
+        mPositionListener = null;
+    }
+
+    @Implementation
+    protected void addManeuverEventListener(WeakReference<? extends NavigationManager.ManeuverEventListener> listener) {
+    }
+
+    @Implementation
+    protected void removeManeuverEventListener(NavigationManager.ManeuverEventListener listener) {
+    }
+
+    @Implementation
+    protected void addNewInstructionEventListener(
+            WeakReference<? extends NavigationManager.NewInstructionEventListener> listener) {
+    }
+
+    @Implementation
+    protected void removeNewInstructionEventListener(NavigationManager.NewInstructionEventListener listener) {
+    }
+
+    @Implementation
+    protected void addGpsSignalListener(WeakReference<? extends NavigationManager.GpsSignalListener> listener) {
+    }
+
+    @Implementation
+    protected void removeGpsSignalListener(NavigationManager.GpsSignalListener listener) {
+    }
+
+    @Implementation
+    protected void addRerouteListener(WeakReference<? extends NavigationManager.RerouteListener> listener) {
+    }
+
+    @Implementation
+    protected void removeRerouteListener(NavigationManager.RerouteListener listener) {
+    }
+
+    @Implementation
+    protected void addSpeedWarningListener(WeakReference<? extends NavigationManager.SpeedWarningListener> listener) {
+    }
+
+    @Implementation
+    protected void removeSpeedWarningListener(NavigationManager.SpeedWarningListener listener) {
+    }
+
+    @Implementation
+    protected Maneuver getNextManeuver() {
+        return mNextManeuvers[mNextManeuverCalls++ % mNextManeuvers.length];
+    }
+
+    @Implementation
+    protected long getNextManeuverDistance() {
+        return mNextManeuverDistance;
+    }
+
+    @Implementation
+    protected long getDestinationDistance() {
+        return mDestinationDistance;
+    }
+
+    @Implementation
+    protected Date getEta(boolean wholeRoute, Route.TrafficPenaltyMode mode) {
+        return mEta;
+    }
+
+    @Implementation
+    protected RouteTta getTta(Route.TrafficPenaltyMode mode, boolean wholeRoute) {
+        return mTta;
+    }
+
+    /**
+     * Calls the registered position listener, like the SDK does on a new position.
+     */
+    public void updatePosition() {
+        final NavigationManager.PositionListener listener = mPositionListener == null ? null : mPositionListener.get();
+        if (listener != null) {
+            listener.onPositionUpdated(null);
+        }
+    }
+
+    /**
+     * Sets the next maneuver. If several instances are given, they are returned in turn.
+     */
+    public void setNextManeuver(Maneuver... instances) {
+        mNextManeuvers = instances;
+        mNextManeuverCalls = 0;
+    }
+
+    public void setNextManeuverDistance(long nextManeuverDistance) {
+        mNextManeuverDistance = nextManeuverDistance;
+    }
+
+    public void setDestinationDistance(long destinationDistance) {
+        mDestinationDistance = destinationDistance;
+    }
+
+    public void setEta(Date eta) {
+        mEta = eta;
+    }
+
+    public void setTta(RouteTta tta) {
+        mTta = tta;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.shadows;
+
+import com.here.android.mpa.common.GeoPosition;
+import com.here.android.mpa.common.PositioningManager;
+import com.here.android.mpa.common.RoadElement;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * Fake {@link PositioningManager} returning the values set by the test, see
+ * {@link ShadowNavigationManager}.
+ */
+@Implements(value = PositioningManager.class, isInAndroidSdk = false)
+public class ShadowPositioningManager {
+
+    private WeakReference<? extends PositioningManager.OnPositionChangedListener> mListener;
+    private GeoPosition mPosition;
+    private RoadElement mRoadElement;
+
+    /**
+     * The real constructors need the native SDK.
+     */
+    @Implementation
+    protected void __constructor__() {
+    }
+
+    @Implementation
+    protected void addListener(WeakReference<? extends PositioningManager.OnPositionChangedListener> listener) {
+        mListener = listener;
+    }
+
+    @Implementation
+    protected void removeListener(PositioningManager.OnPositionChangedListener listener) {
+        mListener = null;
+    }
+
+    @Implementation
+    protected boolean hasValidPosition() {
+        return mPosition != null;
+    }
+
+    @Implementation
+    protected GeoPosition getPosition() {
+        return mPosition;
+    }
+
+    @Implementation
+    protected RoadElement getRoadElement() {
+        return mRoadElement;
+    }
+
+    /**
+     * Calls the registered listener, like the SDK does on a new position.
+     */
+    public void updatePosition() {
+        final PositioningManager.OnPositionChangedListener listener = mListener == null ? null : mListener.get();
+        if (listener != null) {
+            listener.onPositionUpdated(PositioningManager.LocationMethod.GPS, mPosition, false);
+        }
+    }
+
+    public void setPosition(GeoPosition position) {
+        mPosition = position;
+    }
+
+    public void setRoadElement(RoadElement roadElement) {
+        mRoadElement = roadElement;
+    }
+}
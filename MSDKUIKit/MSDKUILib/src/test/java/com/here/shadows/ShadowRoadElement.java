@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2017-2020 HERE Europe B.V.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.here.shadows;
+
+import com.here.android.mpa.common.RoadElement;
+
+import org.robolectric.annotation.Implementation;
+import org.robolectric.annotation.Implements;
+
+/**
+ * Fake {@link RoadElement} returning the values set by the test, see
+ * {@link ShadowNavigationManager}.
+ */
+@Implements(value = RoadElement.class, isInAndroidSdk = false)
+public class ShadowRoadElement {
+
+    private float mSpeedLimit;
+
+    /**
+     * The real constructors need the native SDK.
+     */
+    @Implementation
+    protected void __constructor__() {
+    }
+
+    @Implementation
+    protected float getSpeedLimit() {
+        return mSpeedLimit;
+    }
+
+    public void setSpeedLimit(float speedLimit) {
+        mSpeedLimit = speedLimit;
+    }
+}